@@ -0,0 +1,14 @@
+package com.dmt.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "restriction-schedule")
+public class RestrictionScheduleConfig {
+    private String signingKey = "dmtRestrictionScheduleSigningKey2024";
+    private int defaultHours = 24; // 기본 일정 조회 기간 (시간)
+    private int maxHours = 168; // 최대 일정 조회 기간 (7일)
+}
@@ -0,0 +1,19 @@
+package com.dmt.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler")
+public class SchedulerConfig {
+    private boolean enabled = true; // 주기 작업과 시작 시 복구/전환 타이머 실행 여부
+    private String nodeId = UUID.randomUUID().toString(); // 스케줄러 노드 식별자 (미지정 시 실행마다 새로 생성)
+    private int nodeTimeoutSeconds = 30; // 하트비트가 끊긴 노드를 제외하기까지의 시간 (초)
+    private int maxConcurrency = 8; // 그룹 단위 작업 최대 동시 실행 수 (DB 커넥션 풀보다 작게 유지)
+    private int recoveryBatchSize = 1000; // 한 번의 복구 작업에서 처리하는 놓친 세션 최대 수
+    private int tickGapSeconds = 180; // 이 시간 이상 동기화 작업이 실행되지 않았으면 놓친 세션 복구 실행 (초)
+}
@@ -0,0 +1,14 @@
+package com.dmt.app.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 활성화 (scheduler.enabled=false면 끔 - 커밋된 데이터를 다루는 테스트와 겹치지 않도록 테스트 프로필에서 사용)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "scheduler", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -1,6 +1,5 @@
 package com.dmt.app.config;
 
-import com.dmt.app.dto.ApiResponse;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
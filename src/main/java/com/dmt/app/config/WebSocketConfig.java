@@ -20,7 +20,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        // 메시지 브로커 설정
+        // 메시지 브로커 설정 (노드별 인메모리 브로커 - 다른 노드에 재연결하면 상태 버전 기준(epoch)이 바뀜)
         registry.enableSimpleBroker("/topic", "/queue");
         
         // 클라이언트에서 서버로 메시지를 보낼 때의 접두사
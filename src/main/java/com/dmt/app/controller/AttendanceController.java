@@ -1,15 +1,27 @@
 package com.dmt.app.controller;
 
 import com.dmt.app.dto.AttendanceDto;
+import com.dmt.app.entity.AttendanceHistogramBucket;
+import com.dmt.app.service.AttendanceExportService;
+import com.dmt.app.service.AttendanceHistogramService;
 import com.dmt.app.service.AttendanceService;
+import com.dmt.app.service.CheckInBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/attendances")
@@ -18,6 +30,9 @@ import java.util.List;
 public class AttendanceController {
     
     private final AttendanceService attendanceService;
+    private final CheckInBuffer checkInBuffer;
+    private final AttendanceExportService attendanceExportService;
+    private final AttendanceHistogramService attendanceHistogramService;
     
     @PostMapping
     public ResponseEntity<AttendanceDto.Response> createAttendance(@Valid @RequestBody AttendanceDto.CreateRequest request) {
@@ -26,6 +41,26 @@ public class AttendanceController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    @PostMapping("/study-session/{sessionId}/check-in")
+    public ResponseEntity<AttendanceDto.Response> selfCheckIn(@PathVariable Long sessionId,
+                                                              @RequestParam Long userId,
+                                                              @RequestParam(required = false) String note) {
+        log.info("본인 출석 체크 요청: {} - {}", userId, sessionId);
+        AttendanceDto.Response response = checkInBuffer.checkIn(sessionId, userId, note);
+        // 버퍼에 담긴 출석 체크는 아직 ID가 없음
+        return ResponseEntity.status(response.getId() != null ? HttpStatus.CREATED : HttpStatus.ACCEPTED).body(response);
+    }
+    
+    @PostMapping("/study-session/{sessionId}/bulk")
+    public ResponseEntity<AttendanceDto.BulkCheckInResponse> bulkCheckIn(@PathVariable Long sessionId,
+                                                                         @RequestParam Long userId,
+                                                                         @RequestBody AttendanceDto.BulkCheckInRequest request) {
+        log.info("일괄 출석 체크 요청: {} (리더: {}, {}명)", sessionId, userId,
+                request.getItems() != null ? request.getItems().size() : 0);
+        AttendanceDto.BulkCheckInResponse response = attendanceService.bulkCheckIn(sessionId, userId, request);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/{attendanceId}")
     public ResponseEntity<AttendanceDto.Response> getAttendanceById(@PathVariable Long attendanceId) {
         log.info("출석 기록 조회 요청: {}", attendanceId);
@@ -43,7 +78,7 @@ public class AttendanceController {
     @GetMapping("/study-session/{sessionId}")
     public ResponseEntity<List<AttendanceDto.Response>> getAttendancesByStudySessionId(@PathVariable Long sessionId) {
         log.info("스터디 세션별 출석 기록 조회 요청: {}", sessionId);
-        List<AttendanceDto.Response> response = attendanceService.getAttendancesByStudySessionId(sessionId);
+        List<AttendanceDto.Response> response = checkInBuffer.getAttendancesByStudySessionId(sessionId);
         return ResponseEntity.ok(response);
     }
     
@@ -54,6 +89,25 @@ public class AttendanceController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/study-group/{groupId}/export")
+    public ResponseEntity<StreamingResponseBody> exportAttendances(@PathVariable Long groupId,
+                                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                   @RequestParam(defaultValue = "CSV") AttendanceDto.ExportFormat format) {
+        log.info("스터디 그룹별 출석 기록 내보내기 요청: {} ({} ~ {}, {})", groupId, from, to, format);
+        attendanceExportService.checkExportable(groupId, from, to);
+        
+        boolean csv = format == AttendanceDto.ExportFormat.CSV;
+        StreamingResponseBody body = out -> attendanceExportService.export(groupId, from, to, format, out);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("attendances-" + groupId + "-" + from + "-" + to + (csv ? ".csv" : ".ndjson"))
+                        .build()
+                        .toString())
+                .body(body);
+    }
+    
     @PutMapping("/{attendanceId}")
     public ResponseEntity<AttendanceDto.Response> updateAttendance(@PathVariable Long attendanceId,
                                                                  @RequestParam Long userId,
@@ -77,4 +131,66 @@ public class AttendanceController {
         AttendanceDto.AttendanceSummary response = attendanceService.getAttendanceSummary(userId, groupId);
         return ResponseEntity.ok(response);
     }
+    
+    @GetMapping("/summary/group/{groupId}")
+    public ResponseEntity<List<AttendanceDto.AttendanceSummary>> getGroupAttendanceSummaries(@PathVariable Long groupId) {
+        log.info("그룹 출석률 요약 조회 요청: {}", groupId);
+        List<AttendanceDto.AttendanceSummary> response = attendanceService.getGroupAttendanceSummaries(groupId);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/leaderboard/group/{groupId}")
+    public ResponseEntity<List<AttendanceDto.LeaderboardEntry>> getLeaderboard(@PathVariable Long groupId,
+                                                                              @RequestParam(defaultValue = "10") int limit) {
+        log.info("그룹 출석 순위 조회 요청: {} (상위 {}명)", groupId, limit);
+        List<AttendanceDto.LeaderboardEntry> response = attendanceService.getLeaderboard(groupId, Math.max(1, Math.min(limit, 100)));
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/leaderboard/group/{groupId}/user/{userId}")
+    public ResponseEntity<AttendanceDto.LeaderboardEntry> getLeaderboardRank(@PathVariable Long groupId,
+                                                                            @PathVariable Long userId) {
+        log.info("출석 순위 조회 요청: {} (그룹: {})", userId, groupId);
+        AttendanceDto.LeaderboardEntry response = attendanceService.getLeaderboardRank(groupId, userId);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/histograms/group/{groupId}")
+    public ResponseEntity<List<AttendanceDto.PercentileSummary>> getGroupPercentiles(@PathVariable Long groupId,
+                                                                                    @RequestParam(defaultValue = "LATE_MINUTES") AttendanceHistogramBucket.Metric metric,
+                                                                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                                    @RequestParam(required = false) AttendanceDto.HistogramInterval interval) {
+        log.info("그룹 {} 분포 조회 요청: {} ({} ~ {})", metric, groupId, from, to);
+        List<AttendanceDto.PercentileSummary> response = attendanceHistogramService.getGroupPercentiles(groupId, metric, from, to, interval);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/histograms/group/{groupId}/user/{userId}")
+    public ResponseEntity<List<AttendanceDto.PercentileSummary>> getMemberPercentiles(@PathVariable Long groupId,
+                                                                                     @PathVariable Long userId,
+                                                                                     @RequestParam(defaultValue = "LATE_MINUTES") AttendanceHistogramBucket.Metric metric,
+                                                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                                     @RequestParam(required = false) AttendanceDto.HistogramInterval interval) {
+        log.info("멤버 {} 분포 조회 요청: {} - {} ({} ~ {})", metric, userId, groupId, from, to);
+        List<AttendanceDto.PercentileSummary> response = attendanceHistogramService.getMemberPercentiles(groupId, userId, metric, from, to, interval);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/histograms/session/{sessionId}")
+    public ResponseEntity<AttendanceDto.PercentileSummary> getSessionPercentiles(@PathVariable Long sessionId,
+                                                                                @RequestParam(defaultValue = "LATE_MINUTES") AttendanceHistogramBucket.Metric metric) {
+        log.info("세션 {} 분포 조회 요청: {}", metric, sessionId);
+        AttendanceDto.PercentileSummary response = attendanceHistogramService.getSessionPercentiles(sessionId, metric);
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/counters/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildAttendanceCounters(@RequestParam Long userId,
+                                                                         @RequestParam(required = false) Long groupId) {
+        log.info("누적 출석 수 재생성 요청: {} (그룹: {})", userId, groupId);
+        int rebuiltCount = attendanceService.rebuildAttendanceCounters(userId, groupId);
+        return ResponseEntity.ok(Map.of("rebuiltCount", rebuiltCount));
+    }
 } 
\ No newline at end of file
@@ -2,14 +2,17 @@ package com.dmt.app.controller;
 
 import com.dmt.app.dto.PhoneRestrictionExceptionDto;
 import com.dmt.app.service.PhoneRestrictionExceptionService;
+import com.dmt.app.service.RestrictionScheduleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/phone-exceptions")
@@ -17,7 +20,11 @@ import java.util.List;
 @Slf4j
 public class PhoneRestrictionExceptionController {
     
+    // 롱 폴링 최대 대기 시간 (초)
+    private static final int MAX_WAIT_SECONDS = 60;
+    
     private final PhoneRestrictionExceptionService phoneRestrictionExceptionService;
+    private final RestrictionScheduleService restrictionScheduleService;
     
     @PostMapping
     public ResponseEntity<PhoneRestrictionExceptionDto.Response> createException(@Valid @RequestBody PhoneRestrictionExceptionDto.CreateRequest request) {
@@ -95,11 +102,90 @@ public class PhoneRestrictionExceptionController {
     
     // 폰 사용 제한 상태 확인 엔드포인트들
     
+    /**
+     * 사용자 현재 폰 사용 제한 상태 - 상태 버전을 ETag로 반환
+     * If-None-Match가 현재 ETag와 같으면 304, wait를 지정하면 상태가 바뀌거나 시간이 지날 때까지 대기합니다.
+     * 제한 인덱스 초기화 전에는 ETag 없이 바로 응답합니다.
+     */
     @GetMapping("/user/{userId}/restriction-status")
-    public ResponseEntity<Boolean> isUserCurrentlyPhoneRestricted(@PathVariable Long userId) {
-        log.info("사용자 현재 폰 사용 제한 상태 확인 요청: {}", userId);
+    public DeferredResult<ResponseEntity<Boolean>> isUserCurrentlyPhoneRestricted(@PathVariable Long userId,
+                                                                                  @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+                                                                                  @RequestParam(required = false) Integer wait) {
+        log.info("사용자 현재 폰 사용 제한 상태 확인 요청: {} (대기: {}초)", userId, wait);
+        String etag = restrictionStatusEtag(userId);
+        if (etag == null || wait == null || wait <= 0 || !etagMatches(ifNoneMatch, etag)) {
+            DeferredResult<ResponseEntity<Boolean>> result = new DeferredResult<>();
+            result.setResult(restrictionStatusResponse(userId, ifNoneMatch));
+            return result;
+        }
+        
+        DeferredResult<ResponseEntity<Boolean>> result = new DeferredResult<>(Math.min(wait, MAX_WAIT_SECONDS) * 1000L);
+        Runnable unwatch = phoneRestrictionExceptionService.watchRestrictionStatus(userId,
+                () -> result.setResult(restrictionStatusResponse(userId, ifNoneMatch)));
+        result.onTimeout(() -> result.setResult(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build()));
+        result.onCompletion(unwatch);
+        
+        // 등록 전에 상태가 바뀐 경우 바로 응답
+        if (!etag.equals(restrictionStatusEtag(userId))) {
+            result.setResult(restrictionStatusResponse(userId, ifNoneMatch));
+        }
+        return result;
+    }
+    
+    private ResponseEntity<Boolean> restrictionStatusResponse(Long userId, String ifNoneMatch) {
+        String etag = restrictionStatusEtag(userId);
+        if (etag == null) {
+            return ResponseEntity.ok(phoneRestrictionExceptionService.isUserCurrentlyPhoneRestricted(userId));
+        }
+        if (etagMatches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         boolean isRestricted = phoneRestrictionExceptionService.isUserCurrentlyPhoneRestricted(userId);
-        return ResponseEntity.ok(isRestricted);
+        return ResponseEntity.ok().eTag(etag).body(isRestricted);
+    }
+    
+    // 상태 버전이 없으면 (인덱스 초기화 전) null
+    private String restrictionStatusEtag(Long userId) {
+        return phoneRestrictionExceptionService.getRestrictionStatusVersion(userId)
+                .map(version -> "\"" + version + "\"")
+                .orElse(null);
+    }
+    
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag) || value.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @GetMapping("/user/{userId}/restriction-schedule")
+    public ResponseEntity<PhoneRestrictionExceptionDto.RestrictionSchedule> getRestrictionSchedule(@PathVariable Long userId,
+                                                                                                @RequestParam(required = false) Integer hours,
+                                                                                                @RequestParam(required = false) String epoch,
+                                                                                                @RequestParam(required = false) Long since,
+                                                                                                @RequestParam(required = false) Long validUntil) {
+        log.info("사용자 폰 사용 제한 일정 요청: {} (기간: {}시간, 기준 버전: {}-{}, 이전 유효 기간: {})", userId, hours, epoch, since, validUntil);
+        PhoneRestrictionExceptionDto.RestrictionSchedule response = restrictionScheduleService.getSchedule(userId, hours, epoch, since, validUntil);
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/restriction-status/batch")
+    public ResponseEntity<Map<Long, PhoneRestrictionExceptionDto.UserRestrictionStatus>> getRestrictionStatuses(
+            @RequestBody PhoneRestrictionExceptionDto.BatchRestrictionStatusRequest request) {
+        log.info("폰 사용 제한 상태 일괄 확인 요청: 사용자 {}명, 그룹 {}", 
+                request.getUserIds() != null ? request.getUserIds().size() : 0, request.getGroupId());
+        Map<Long, PhoneRestrictionExceptionDto.UserRestrictionStatus> response = 
+                phoneRestrictionExceptionService.getRestrictionStatuses(request);
+        return ResponseEntity.ok(response);
     }
     
     @GetMapping("/study-session/{sessionId}/user/{userId}/restriction-status")
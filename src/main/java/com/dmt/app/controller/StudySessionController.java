@@ -8,9 +8,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/study-sessions")
@@ -91,9 +93,20 @@ public class StudySessionController {
     }
     
     @GetMapping("/user/{userId}/phone-restriction")
-    public ResponseEntity<ApiResponse<Boolean>> isUserPhoneRestricted(@PathVariable Long userId) {
+    public ResponseEntity<ApiResponse<Boolean>> isUserPhoneRestricted(@PathVariable Long userId, WebRequest webRequest) {
         log.info("사용자 폰 사용 제한 상태 확인 요청: {}", userId);
+        // 인덱스 초기화 전에는 상태 버전이 없으므로 ETag 없이 응답
+        Optional<String> version = studySessionService.getPhoneRestrictionVersion(userId);
+        if (version.isEmpty()) {
+            return ResponseEntity.ok(ApiResponse.success(studySessionService.isPhoneRestricted(userId)));
+        }
+        
+        // 상태 버전이 같으면 304 응답
+        String etag = "\"" + version.get() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         boolean isRestricted = studySessionService.isPhoneRestricted(userId);
-        return ResponseEntity.ok(ApiResponse.success(isRestricted));
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(isRestricted));
     }
 } 
\ No newline at end of file
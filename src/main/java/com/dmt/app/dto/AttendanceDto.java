@@ -6,7 +6,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class AttendanceDto {
     
@@ -85,4 +87,84 @@ public class AttendanceDto {
         private Long excusedCount;
         private Double attendanceRate;
     }
-} 
\ No newline at end of file
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LeaderboardEntry {
+        private Integer rank;
+        private Long userId;
+        private String userNickname;
+        private Long totalSessions;
+        private Double attendanceRate;
+        private Long studyMinutes;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkCheckInRequest {
+        private List<BulkCheckInItem> items;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkCheckInItem {
+        private Long userId;
+        private Attendance.AttendanceStatus status;
+        private String note;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkCheckInResult {
+        private Long userId;
+        private Long attendanceId;
+        private Attendance.AttendanceStatus status;
+        private BulkCheckInOutcome outcome;
+        private String message;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkCheckInResponse {
+        private Long studySessionId;
+        private Integer createdCount;
+        private Integer updatedCount;
+        private Integer failedCount;
+        private List<BulkCheckInResult> results;
+    }
+    
+    public enum BulkCheckInOutcome {
+        CREATED, UPDATED, FAILED
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PercentileSummary {
+        private LocalDate periodStart;
+        private Long sampleCount;
+        private Long p50;
+        private Long p90;
+        private Long p99;
+        private Long max;
+    }
+    
+    public enum HistogramInterval {
+        DAY, WEEK, MONTH
+    }
+    
+    public enum ExportFormat {
+        CSV, NDJSON
+    }
+}
@@ -62,6 +62,13 @@ public class NotificationDto {
         @Schema(description = "변경된 상태", example = "RESTRICTED", required = true)
         private String status;
         
+        @Schema(description = "상태 버전 기준 (노드 실행마다 다름, 바뀌면 버전 비교 없이 이 상태로 초기화)",
+                example = "3f2b8c1e-6a1d-4c5e-9b7a-2d4e6f8a0c1b", required = true)
+        private String epoch;
+        
+        @Schema(description = "상태 버전 (같은 기준 안에서 더 큰 버전만 적용)", example = "12", required = true)
+        private Long version;
+        
         @Schema(description = "상태 변경 시간")
         private LocalDateTime changedAt;
         
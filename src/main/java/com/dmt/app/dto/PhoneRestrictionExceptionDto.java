@@ -1,12 +1,14 @@
 package com.dmt.app.dto;
 
 import com.dmt.app.entity.PhoneRestrictionException;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class PhoneRestrictionExceptionDto {
     
@@ -110,4 +112,66 @@ public class PhoneRestrictionExceptionDto {
                     .build();
         }
     }
-} 
\ No newline at end of file
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchRestrictionStatusRequest {
+        private List<Long> userIds;
+        private Long groupId;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class UserRestrictionStatus {
+        private RestrictionState state;
+        private Long sessionId;
+        
+        public static UserRestrictionStatus free() {
+            return UserRestrictionStatus.builder()
+                    .state(RestrictionState.FREE)
+                    .build();
+        }
+    }
+    
+    public enum RestrictionState {
+        RESTRICTED, EXEMPT, FREE
+    }
+    
+    /**
+     * 기기 오프라인 적용용 서명된 제한 일정
+     * full이 false이면 entries는 since 이후 바뀐 세션만, removedSessionIds는 삭제할 세션입니다.
+     * 다음 동기화 시 epoch와 version을 함께 보내야 하며, version은 같은 epoch 안에서만 의미가 있습니다.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RestrictionSchedule {
+        private Long userId;
+        private String epoch;
+        private long version;
+        private boolean full;
+        private long generatedAt;
+        private long validUntil;
+        private List<ScheduleEntry> entries;
+        private List<Long> removedSessionIds;
+        private String signature;
+    }
+    
+    /**
+     * 세션별 제한 구간 (epoch 밀리초, 시작 포함/종료 제외)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScheduleEntry {
+        private Long sessionId;
+        private List<long[]> intervals;
+    }
+}
@@ -11,7 +11,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "attendances")
+@Table(name = "attendances",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "study_session_id"}))
 @Data
 @Builder
 @NoArgsConstructor
@@ -49,6 +50,10 @@ public class Attendance {
     @Column(columnDefinition = "TEXT")
     private String note;
     
+    // 자동 결석 처리로 삽입된 경우 그 실행의 ID (실행마다 삽입한 행만 누적 출석 수에 반영)
+    @Column(name = "absence_run_id", length = 36)
+    private String absenceRunId;
+    
     @Column(name = "created_at")
     @CreationTimestamp
     private LocalDateTime createdAt;
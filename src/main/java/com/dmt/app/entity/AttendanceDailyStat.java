@@ -0,0 +1,59 @@
+package com.dmt.app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 출석 통계 (그룹 전체 또는 그룹 내 사용자별)
+ * 완료된 세션의 출석 기록을 세션 시작 일자 기준으로 누적합니다.
+ */
+@Entity
+@Table(name = "attendance_daily_stats",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"stat_date", "study_group_id", "user_id"}),
+       indexes = @Index(name = "idx_attendance_daily_stats_group_user", columnList = "study_group_id, user_id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceDailyStat {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+    
+    @Column(name = "study_group_id", nullable = false)
+    private Long studyGroupId;
+    
+    // null이면 그룹 전체 통계
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Column(name = "present_count", nullable = false)
+    private long presentCount;
+    
+    @Column(name = "absent_count", nullable = false)
+    private long absentCount;
+    
+    @Column(name = "late_count", nullable = false)
+    private long lateCount;
+    
+    @Column(name = "early_leave_count", nullable = false)
+    private long earlyLeaveCount;
+    
+    @Column(name = "excused_count", nullable = false)
+    private long excusedCount;
+    
+    @Column(name = "late_minutes", nullable = false)
+    private long lateMinutes;
+    
+    @Column(name = "early_leave_minutes", nullable = false)
+    private long earlyLeaveMinutes;
+}
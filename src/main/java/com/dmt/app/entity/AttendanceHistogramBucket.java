@@ -0,0 +1,60 @@
+package com.dmt.app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 지각/조퇴 시간 분포 히스토그램의 구간별 표본 수 (그룹, 세션, 그룹 내 멤버 단위, 일별)
+ * 출석 기록이 바뀔 때마다 증감되며, 기간 내 일별 구간 수를 합쳐 백분위를 계산합니다.
+ */
+@Entity
+@Table(name = "attendance_histogram_buckets",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"metric", "scope", "scope_id", "study_group_id", "stat_date", "bucket"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceHistogramBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Metric metric;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Scope scope;
+
+    // 그룹 ID, 세션 ID 또는 사용자 ID (scope에 따라)
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Column(name = "study_group_id", nullable = false)
+    private Long studyGroupId;
+
+    // 세션 시작 일자
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private int bucket;
+
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount;
+
+    public enum Metric {
+        LATE_MINUTES, EARLY_LEAVE_MINUTES
+    }
+
+    public enum Scope {
+        GROUP, SESSION, MEMBER
+    }
+}
@@ -0,0 +1,72 @@
+package com.dmt.app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 내 사용자별 누적 출석 수
+ * 출석 기록을 생성/수정/삭제하는 트랜잭션에서 함께 갱신하여 출석 요약을 기본 키 조회 한 번으로 제공합니다.
+ */
+@Entity
+@Table(name = "member_attendance_counters",
+       indexes = {
+           @Index(name = "idx_member_attendance_counters_group", columnList = "study_group_id"),
+           @Index(name = "idx_member_attendance_counters_updated_at", columnList = "updated_at")
+       })
+@IdClass(MemberAttendanceCounter.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberAttendanceCounter {
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Id
+    @Column(name = "study_group_id")
+    private Long studyGroupId;
+    
+    @Column(name = "present_count", nullable = false)
+    private long presentCount;
+    
+    @Column(name = "absent_count", nullable = false)
+    private long absentCount;
+    
+    @Column(name = "late_count", nullable = false)
+    private long lateCount;
+    
+    @Column(name = "early_leave_count", nullable = false)
+    private long earlyLeaveCount;
+    
+    @Column(name = "excused_count", nullable = false)
+    private long excusedCount;
+    
+    @Column(name = "late_minutes", nullable = false)
+    private long lateMinutes;
+    
+    @Column(name = "early_leave_minutes", nullable = false)
+    private long earlyLeaveMinutes;
+    
+    // 출석/지각/조퇴한 세션에서 실제로 참여한 시간 합계 (분)
+    @Column(name = "study_minutes", nullable = false)
+    private long studyMinutes;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long studyGroupId;
+    }
+}
@@ -11,7 +11,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "phone_restriction_exceptions")
+@Table(name = "phone_restriction_exceptions",
+       indexes = @Index(name = "idx_phone_restriction_exceptions_status_end", columnList = "status, exception_end_time"))
 @Data
 @Builder
 @NoArgsConstructor
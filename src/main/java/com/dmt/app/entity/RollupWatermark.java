@@ -0,0 +1,34 @@
+package com.dmt.app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계 작업 워터마크 (마지막으로 반영한 항목의 시각과 ID)
+ */
+@Entity
+@Table(name = "rollup_watermarks")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupWatermark {
+    
+    @Id
+    @Column(length = 100)
+    private String name;
+    
+    @Column(name = "watermark_time", nullable = false)
+    private LocalDateTime watermarkTime;
+    
+    @Column(name = "watermark_id", nullable = false)
+    private Long watermarkId;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,37 @@
+package com.dmt.app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 작업 임대 (작업별로 하나의 노드만 실행하도록 보장)
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+    
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+    
+    @Column(nullable = false)
+    private String owner;
+    
+    @Column(name = "renewed_at", nullable = false)
+    private LocalDateTime renewedAt;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Version
+    private Long version;
+}
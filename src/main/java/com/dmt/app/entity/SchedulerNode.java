@@ -0,0 +1,31 @@
+package com.dmt.app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 노드 (하트비트가 유효한 노드끼리 세션 작업을 나눠 실행)
+ */
+@Entity
+@Table(name = "scheduler_nodes")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerNode {
+    
+    @Id
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+    
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+    
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+}
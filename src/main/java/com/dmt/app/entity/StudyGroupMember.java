@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -40,6 +41,11 @@ public class StudyGroupMember {
     @Column(name = "is_active")
     private Boolean isActive = true;
     
+    // 참여/탈퇴 등 마지막 변경 시각 (노드 간 제한 인덱스 동기화 기준)
+    @Column(name = "updated_at")
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+    
     public enum MemberRole {
         LEADER, MEMBER
     }
@@ -13,7 +13,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "study_sessions")
+@Table(name = "study_sessions",
+       indexes = @Index(name = "idx_study_sessions_stats_changed_at", columnList = "stats_changed_at"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -44,6 +45,22 @@ public class StudySession {
     @Column(nullable = false)
     private SessionStatus status;
     
+    // 완료 처리된 시각 (출석 통계 집계 기준)
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    // 자동 결석 처리를 마친 시각 (이후 참여한 멤버가 없으면 다시 처리하지 않음)
+    @Column(name = "absences_checked_at")
+    private LocalDateTime absencesCheckedAt;
+    
+    // 출석 알림을 보낸 시각 (여러 인스턴스 중 조건부 갱신에 성공한 한 곳만 전송, 시작 시각이 바뀌면 초기화)
+    @Column(name = "reminded_at")
+    private LocalDateTime remindedAt;
+    
+    // 완료 후 출석 기록이 바뀐 시각 (일별 출석 통계 재집계 대상, 재집계 후 초기화)
+    @Column(name = "stats_changed_at")
+    private LocalDateTime statsChangedAt;
+    
     @Column(name = "created_at")
     @CreationTimestamp
     private LocalDateTime createdAt;
@@ -0,0 +1,159 @@
+package com.dmt.app.repository;
+
+import com.dmt.app.entity.Attendance;
+import com.dmt.app.entity.AttendanceHistogramBucket;
+import com.dmt.app.entity.MemberAttendanceCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 출석 기록 일괄 저장 (JDBC 배치)
+ * 엔티티를 하나씩 저장하지 않고 같은 문장을 묶어 한 번에 전송합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceBatchRepository {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 출석 기록이 없는 (사용자, 세션)에만 삽입 - 확인과 삽입을 MERGE 한 문장으로 처리
+     *
+     * @return 행별 삽입 수 (이미 출석 기록이 있으면 0)
+     */
+    public int[] insertAttendancesIfAbsent(List<Attendance> attendances, LocalDateTime now) {
+        return flatten(jdbcTemplate.batchUpdate(
+                "MERGE INTO attendances a USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT))) s (user_id, study_session_id) " +
+                "ON a.user_id = s.user_id AND a.study_session_id = s.study_session_id " +
+                "WHEN NOT MATCHED THEN INSERT (user_id, study_session_id, status, arrival_time, departure_time, " +
+                "late_minutes, early_leave_minutes, note, created_at, updated_at) " +
+                "VALUES (s.user_id, s.study_session_id, ?, ?, ?, ?, ?, ?, ?, ?)",
+                attendances, BATCH_SIZE, (ps, attendance) -> {
+                    ps.setLong(1, attendance.getUser().getId());
+                    ps.setLong(2, attendance.getStudySession().getId());
+                    ps.setString(3, attendance.getStatus().name());
+                    ps.setObject(4, timestamp(attendance.getArrivalTime()), Types.TIMESTAMP);
+                    ps.setObject(5, timestamp(attendance.getDepartureTime()), Types.TIMESTAMP);
+                    ps.setObject(6, attendance.getLateMinutes(), Types.INTEGER);
+                    ps.setObject(7, attendance.getEarlyLeaveMinutes(), Types.INTEGER);
+                    ps.setString(8, attendance.getNote());
+                    ps.setTimestamp(9, Timestamp.valueOf(now));
+                    ps.setTimestamp(10, Timestamp.valueOf(now));
+                }));
+    }
+
+    /**
+     * 자동 결석 처리가 넣어 둔 결석 기록(아직 수정되지 않은 행)을 출석 체크로 교체
+     * 결석 처리보다 먼저 접수되었지만 아직 저장되지 않은 출석 체크가 결석으로 남지 않도록 함
+     *
+     * @return 행별 수정 수 (자동 결석 처리가 넣은 행이 아니면 0)
+     */
+    public int[] replaceAbsencePlaceholders(List<Attendance> attendances, LocalDateTime now) {
+        return flatten(jdbcTemplate.batchUpdate(
+                "UPDATE attendances SET status = ?, arrival_time = ?, late_minutes = ?, note = ?, " +
+                "absence_run_id = NULL, updated_at = ? " +
+                "WHERE user_id = ? AND study_session_id = ? AND status = 'ABSENT' AND arrival_time IS NULL " +
+                "AND absence_run_id IS NOT NULL",
+                attendances, BATCH_SIZE, (ps, attendance) -> {
+                    ps.setString(1, attendance.getStatus().name());
+                    ps.setObject(2, timestamp(attendance.getArrivalTime()), Types.TIMESTAMP);
+                    ps.setObject(3, attendance.getLateMinutes(), Types.INTEGER);
+                    ps.setString(4, attendance.getNote());
+                    ps.setTimestamp(5, Timestamp.valueOf(now));
+                    ps.setLong(6, attendance.getUser().getId());
+                    ps.setLong(7, attendance.getStudySession().getId());
+                }));
+    }
+
+    /**
+     * 기존 출석 기록 수정 (수정된 행은 더 이상 자동 결석 처리가 넣은 행으로 보지 않음)
+     *
+     * @return 행별 수정 수 (그 사이 삭제되었으면 0)
+     */
+    public int[] updateAttendances(List<Attendance> attendances, LocalDateTime now) {
+        return flatten(jdbcTemplate.batchUpdate(
+                "UPDATE attendances SET status = ?, arrival_time = ?, departure_time = ?, late_minutes = ?, " +
+                "early_leave_minutes = ?, note = ?, absence_run_id = NULL, updated_at = ? WHERE id = ?",
+                attendances, BATCH_SIZE, (ps, attendance) -> {
+                    ps.setString(1, attendance.getStatus().name());
+                    ps.setObject(2, timestamp(attendance.getArrivalTime()), Types.TIMESTAMP);
+                    ps.setObject(3, timestamp(attendance.getDepartureTime()), Types.TIMESTAMP);
+                    ps.setObject(4, attendance.getLateMinutes(), Types.INTEGER);
+                    ps.setObject(5, attendance.getEarlyLeaveMinutes(), Types.INTEGER);
+                    ps.setString(6, attendance.getNote());
+                    ps.setTimestamp(7, Timestamp.valueOf(now));
+                    ps.setLong(8, attendance.getId());
+                }));
+    }
+
+    /**
+     * 누적 출석 수에 증감분 반영 (행을 만들지 않음)
+     *
+     * @param deltas 사용자별 증감분을 담은 누적 출석 수
+     * @return 행별 수정 수 (누적 출석 수 행이 없으면 0)
+     */
+    public int[] addCounters(List<MemberAttendanceCounter> deltas, LocalDateTime now) {
+        return flatten(jdbcTemplate.batchUpdate(
+                "UPDATE member_attendance_counters SET present_count = present_count + ?, absent_count = absent_count + ?, " +
+                "late_count = late_count + ?, early_leave_count = early_leave_count + ?, excused_count = excused_count + ?, " +
+                "late_minutes = late_minutes + ?, early_leave_minutes = early_leave_minutes + ?, " +
+                "study_minutes = study_minutes + ?, updated_at = ? WHERE user_id = ? AND study_group_id = ?",
+                deltas, BATCH_SIZE, (ps, delta) -> {
+                    ps.setLong(1, delta.getPresentCount());
+                    ps.setLong(2, delta.getAbsentCount());
+                    ps.setLong(3, delta.getLateCount());
+                    ps.setLong(4, delta.getEarlyLeaveCount());
+                    ps.setLong(5, delta.getExcusedCount());
+                    ps.setLong(6, delta.getLateMinutes());
+                    ps.setLong(7, delta.getEarlyLeaveMinutes());
+                    ps.setLong(8, delta.getStudyMinutes());
+                    ps.setTimestamp(9, Timestamp.valueOf(now));
+                    ps.setLong(10, delta.getUserId());
+                    ps.setLong(11, delta.getStudyGroupId());
+                }));
+    }
+
+    /**
+     * 히스토그램 구간별 표본 수에 증감분 반영 (행이 없으면 생성)
+     *
+     * @param increments 구간별 증감분을 표본 수로 담은 히스토그램 구간
+     */
+    public void addHistogramBuckets(List<AttendanceHistogramBucket> increments) {
+        jdbcTemplate.batchUpdate(
+                "MERGE INTO attendance_histogram_buckets h USING (VALUES (?, ?, CAST(? AS BIGINT), CAST(? AS BIGINT), " +
+                "CAST(? AS DATE), CAST(? AS INTEGER), CAST(? AS BIGINT))) " +
+                "s (metric, scope, scope_id, study_group_id, stat_date, bucket, delta) " +
+                "ON h.metric = s.metric AND h.scope = s.scope AND h.scope_id = s.scope_id " +
+                "AND h.study_group_id = s.study_group_id AND h.stat_date = s.stat_date AND h.bucket = s.bucket " +
+                "WHEN MATCHED THEN UPDATE SET sample_count = h.sample_count + s.delta " +
+                "WHEN NOT MATCHED THEN INSERT (metric, scope, scope_id, study_group_id, stat_date, bucket, sample_count) " +
+                "VALUES (s.metric, s.scope, s.scope_id, s.study_group_id, s.stat_date, s.bucket, s.delta)",
+                increments, BATCH_SIZE, (ps, increment) -> {
+                    ps.setString(1, increment.getMetric().name());
+                    ps.setString(2, increment.getScope().name());
+                    ps.setLong(3, increment.getScopeId());
+                    ps.setLong(4, increment.getStudyGroupId());
+                    ps.setDate(5, Date.valueOf(increment.getStatDate()));
+                    ps.setInt(6, increment.getBucket());
+                    ps.setLong(7, increment.getSampleCount());
+                });
+    }
+
+    private static int[] flatten(int[][] counts) {
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).toArray();
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+}
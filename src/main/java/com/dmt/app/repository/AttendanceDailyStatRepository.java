@@ -0,0 +1,22 @@
+package com.dmt.app.repository;
+
+import com.dmt.app.entity.AttendanceDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AttendanceDailyStatRepository extends JpaRepository<AttendanceDailyStat, Long> {
+    
+    List<AttendanceDailyStat> findByStudyGroupIdInAndStatDateIn(Collection<Long> studyGroupIds, Collection<LocalDate> statDates);
+    
+    @Modifying
+    @Query("DELETE FROM AttendanceDailyStat s WHERE s.studyGroupId = :groupId AND s.statDate = :statDate")
+    int deleteByGroupAndDate(@Param("groupId") Long groupId, @Param("statDate") LocalDate statDate);
+}
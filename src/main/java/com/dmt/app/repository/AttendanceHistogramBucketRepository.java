@@ -0,0 +1,41 @@
+package com.dmt.app.repository;
+
+import com.dmt.app.entity.AttendanceHistogramBucket;
+import com.dmt.app.entity.AttendanceHistogramBucket.Metric;
+import com.dmt.app.entity.AttendanceHistogramBucket.Scope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AttendanceHistogramBucketRepository extends JpaRepository<AttendanceHistogramBucket, Long> {
+    
+    @Query("SELECT b.statDate AS statDate, b.bucket AS bucket, SUM(b.sampleCount) AS sampleCount " +
+           "FROM AttendanceHistogramBucket b " +
+           "WHERE b.metric = :metric AND b.scope = :scope AND b.scopeId = :scopeId AND b.studyGroupId = :groupId " +
+           "AND b.statDate BETWEEN :from AND :to " +
+           "GROUP BY b.statDate, b.bucket")
+    List<BucketCount> sumBuckets(@Param("metric") Metric metric, @Param("scope") Scope scope,
+                                 @Param("scopeId") Long scopeId, @Param("groupId") Long groupId,
+                                 @Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    @Query("SELECT b.statDate AS statDate, b.bucket AS bucket, SUM(b.sampleCount) AS sampleCount " +
+           "FROM AttendanceHistogramBucket b " +
+           "WHERE b.metric = :metric AND b.scope = :scope AND b.scopeId = :scopeId " +
+           "GROUP BY b.statDate, b.bucket")
+    List<BucketCount> sumBuckets(@Param("metric") Metric metric, @Param("scope") Scope scope,
+                                 @Param("scopeId") Long scopeId);
+    
+    /**
+     * 일자/구간별 표본 수
+     */
+    interface BucketCount {
+        LocalDate getStatDate();
+        Integer getBucket();
+        Long getSampleCount();
+    }
+}
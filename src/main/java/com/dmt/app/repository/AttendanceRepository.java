@@ -2,14 +2,23 @@ package com.dmt.app.repository;
 
 import com.dmt.app.entity.Attendance;
 import com.dmt.app.entity.Attendance.AttendanceStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
@@ -20,8 +29,25 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     
     Optional<Attendance> findByUserIdAndStudySessionId(Long userId, Long studySessionId);
     
+    boolean existsByUserIdAndStudySessionId(Long userId, Long studySessionId);
+    
     List<Attendance> findByUserIdAndStatus(Long userId, AttendanceStatus status);
     
+    // 수정/삭제 전 조회 - 변경분을 계산하는 동안 다른 요청이 같은 출석 기록을 바꾸지 못하도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Attendance a WHERE a.id = :id")
+    Optional<Attendance> findByIdForUpdate(@Param("id") Long id);
+    
+    // 일괄 수정 전 조회 - ID 순으로 잠가 겹치는 일괄 요청끼리 교착되지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Attendance a WHERE a.studySession.id = :sessionId AND a.user.id IN :userIds ORDER BY a.id")
+    List<Attendance> findByStudySessionIdAndUserIdInForUpdate(@Param("sessionId") Long sessionId,
+                                                             @Param("userIds") Collection<Long> userIds);
+    
+    @Query("SELECT a.user.id AS userId, a.id AS attendanceId FROM Attendance a " +
+           "WHERE a.studySession.id = :sessionId AND a.user.id IN :userIds")
+    List<UserAttendanceId> findIdsBySessionIdAndUserIds(@Param("sessionId") Long sessionId, @Param("userIds") Collection<Long> userIds);
+    
     @Query("SELECT a FROM Attendance a WHERE a.studySession.studyGroup.id = :groupId")
     List<Attendance> findByStudyGroupId(@Param("groupId") Long groupId);
     
@@ -36,4 +62,78 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     
     @Query("SELECT a FROM Attendance a WHERE a.studySession.startTime BETWEEN :startDate AND :endDate")
     List<Attendance> findByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
-} 
\ No newline at end of file
+    
+    // 내보내기용 - 엔티티를 만들지 않는 프로젝션을 fetch size 단위로 읽어 결과 전체를 메모리에 올리지 않음
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a.id AS id, u.id AS userId, u.nickname AS userNickname, ss.id AS studySessionId, " +
+           "ss.sessionName AS sessionName, ss.startTime AS sessionStartTime, a.status AS status, " +
+           "a.arrivalTime AS arrivalTime, a.departureTime AS departureTime, a.lateMinutes AS lateMinutes, " +
+           "a.earlyLeaveMinutes AS earlyLeaveMinutes, a.note AS note " +
+           "FROM Attendance a JOIN a.user u JOIN a.studySession ss " +
+           "WHERE ss.studyGroup.id = :groupId AND ss.startTime >= :from AND ss.startTime < :to " +
+           "ORDER BY ss.startTime, a.id")
+    Stream<ExportRow> streamExportRows(@Param("groupId") Long groupId, @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+    
+    @Query("SELECT ss.studyGroup.id AS studyGroupId, CAST(ss.startTime AS LocalDate) AS statDate, a.user.id AS userId, " +
+           "a.status AS status, COUNT(a) AS attendanceCount, " +
+           "COALESCE(SUM(a.lateMinutes), 0) AS lateMinutes, COALESCE(SUM(a.earlyLeaveMinutes), 0) AS earlyLeaveMinutes " +
+           "FROM Attendance a JOIN a.studySession ss WHERE ss.id IN :sessionIds " +
+           "GROUP BY ss.studyGroup.id, CAST(ss.startTime AS LocalDate), a.user.id, a.status")
+    List<DailyAttendanceTotals> sumBySessionIds(@Param("sessionIds") Collection<Long> sessionIds);
+    
+    // 출석 기록이 없는 활성 멤버에만 삽입 - (사용자, 세션) 유니크 제약과 맞물려 동시에 실행되어도 중복 없음
+    // 삽입한 행에는 실행 ID를 남겨 이번 실행에서 삽입한 행을 다시 찾을 수 있게 함
+    @Modifying
+    @Query(value = "MERGE INTO attendances a USING (" +
+           "SELECT sgm.user_id, ss.id AS study_session_id FROM study_sessions ss " +
+           "JOIN study_group_members sgm ON sgm.study_group_id = ss.study_group_id " +
+           "WHERE ss.id IN (:sessionIds) AND sgm.is_active = true) m " +
+           "ON a.user_id = m.user_id AND a.study_session_id = m.study_session_id " +
+           "WHEN NOT MATCHED THEN INSERT (user_id, study_session_id, status, absence_run_id, created_at, updated_at) " +
+           "VALUES (m.user_id, m.study_session_id, :status, :runId, :now, :now)", nativeQuery = true)
+    int insertMissingAttendances(@Param("sessionIds") Collection<Long> sessionIds, @Param("status") String status,
+                                 @Param("runId") String runId, @Param("now") LocalDateTime now);
+    
+    /**
+     * 출석 기록 내보내기 행
+     */
+    interface ExportRow {
+        Long getId();
+        Long getUserId();
+        String getUserNickname();
+        Long getStudySessionId();
+        String getSessionName();
+        LocalDateTime getSessionStartTime();
+        AttendanceStatus getStatus();
+        LocalDateTime getArrivalTime();
+        LocalDateTime getDepartureTime();
+        Integer getLateMinutes();
+        Integer getEarlyLeaveMinutes();
+        String getNote();
+    }
+    
+    /**
+     * 사용자별 출석 기록 ID
+     */
+    interface UserAttendanceId {
+        Long getUserId();
+        Long getAttendanceId();
+    }
+    
+    /**
+     * 일자/그룹/사용자/상태별 출석 합계
+     */
+    interface DailyAttendanceTotals {
+        Long getStudyGroupId();
+        LocalDate getStatDate();
+        Long getUserId();
+        AttendanceStatus getStatus();
+        Long getAttendanceCount();
+        Long getLateMinutes();
+        Long getEarlyLeaveMinutes();
+    }
+}
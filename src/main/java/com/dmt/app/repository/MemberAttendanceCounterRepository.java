@@ -0,0 +1,100 @@
+package com.dmt.app.repository;
+
+import com.dmt.app.entity.MemberAttendanceCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MemberAttendanceCounterRepository extends JpaRepository<MemberAttendanceCounter, MemberAttendanceCounter.Key> {
+    
+    List<MemberAttendanceCounter> findByStudyGroupId(Long studyGroupId);
+    
+    List<MemberAttendanceCounter> findByStudyGroupIdIn(Collection<Long> studyGroupIds);
+    
+    List<MemberAttendanceCounter> findByUpdatedAtAfter(LocalDateTime since);
+    
+    @Query("SELECT u.id AS userId, u.nickname AS userNickname, COALESCE(c.presentCount, 0) AS presentCount, " +
+           "COALESCE(c.absentCount, 0) AS absentCount, COALESCE(c.lateCount, 0) AS lateCount, " +
+           "COALESCE(c.earlyLeaveCount, 0) AS earlyLeaveCount, COALESCE(c.excusedCount, 0) AS excusedCount " +
+           "FROM StudyGroupMember sgm JOIN sgm.user u " +
+           "LEFT JOIN MemberAttendanceCounter c ON c.userId = u.id AND c.studyGroupId = sgm.studyGroup.id " +
+           "WHERE sgm.studyGroup.id = :groupId AND sgm.isActive = true ORDER BY u.nickname ASC")
+    List<MemberSummary> findGroupSummaries(@Param("groupId") Long groupId);
+    
+    @Modifying
+    @Query("INSERT INTO MemberAttendanceCounter (userId, studyGroupId, presentCount, absentCount, lateCount, " +
+           "earlyLeaveCount, excusedCount, lateMinutes, earlyLeaveMinutes, studyMinutes, updatedAt) " +
+           "SELECT u.id, sg.id, 0, 0, 0, 0, 0, 0, 0, 0, :now FROM User u, StudyGroup sg " +
+           "WHERE u.id = :userId AND sg.id = :groupId " +
+           "AND NOT EXISTS (SELECT 1 FROM MemberAttendanceCounter c WHERE c.userId = :userId AND c.studyGroupId = :groupId)")
+    int insertIfMissing(@Param("userId") Long userId, @Param("groupId") Long groupId, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE MemberAttendanceCounter c SET c.presentCount = c.presentCount + :present, " +
+           "c.absentCount = c.absentCount + :absent, c.lateCount = c.lateCount + :late, " +
+           "c.earlyLeaveCount = c.earlyLeaveCount + :earlyLeave, c.excusedCount = c.excusedCount + :excused, " +
+           "c.lateMinutes = c.lateMinutes + :lateMinutes, c.earlyLeaveMinutes = c.earlyLeaveMinutes + :earlyLeaveMinutes, " +
+           "c.studyMinutes = c.studyMinutes + :studyMinutes, c.updatedAt = :now " +
+           "WHERE c.userId = :userId AND c.studyGroupId = :groupId")
+    int addCounts(@Param("userId") Long userId, @Param("groupId") Long groupId,
+                  @Param("present") long present, @Param("absent") long absent, @Param("late") long late,
+                  @Param("earlyLeave") long earlyLeave, @Param("excused") long excused,
+                  @Param("lateMinutes") long lateMinutes, @Param("earlyLeaveMinutes") long earlyLeaveMinutes,
+                  @Param("studyMinutes") long studyMinutes, @Param("now") LocalDateTime now);
+    
+    /**
+     * 자동 결석 처리 직후 호출 - 이번 실행에서 삽입된 결석 기록(absence_run_id = :runId) 수만큼 결석 수 증가
+     */
+    @Modifying
+    @Query(value = "MERGE INTO member_attendance_counters c USING (" +
+           "SELECT a.user_id, ss.study_group_id, COUNT(*) AS absences FROM attendances a " +
+           "JOIN study_sessions ss ON ss.id = a.study_session_id " +
+           "WHERE a.study_session_id IN (:sessionIds) AND a.status = 'ABSENT' AND a.absence_run_id = :runId " +
+           "GROUP BY a.user_id, ss.study_group_id) s " +
+           "ON c.user_id = s.user_id AND c.study_group_id = s.study_group_id " +
+           "WHEN MATCHED THEN UPDATE SET absent_count = c.absent_count + s.absences, updated_at = :now " +
+           "WHEN NOT MATCHED THEN INSERT (user_id, study_group_id, present_count, absent_count, late_count, " +
+           "early_leave_count, excused_count, late_minutes, early_leave_minutes, study_minutes, updated_at) " +
+           "VALUES (s.user_id, s.study_group_id, 0, s.absences, 0, 0, 0, 0, 0, 0, :now)", nativeQuery = true)
+    int addInsertedAbsences(@Param("sessionIds") Collection<Long> sessionIds, @Param("runId") String runId,
+                            @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("DELETE FROM MemberAttendanceCounter c WHERE c.studyGroupId = :groupId")
+    int deleteByGroupId(@Param("groupId") Long groupId);
+    
+    @Modifying
+    @Query("INSERT INTO MemberAttendanceCounter (userId, studyGroupId, presentCount, absentCount, lateCount, " +
+           "earlyLeaveCount, excusedCount, lateMinutes, earlyLeaveMinutes, studyMinutes, updatedAt) " +
+           "SELECT a.user.id, ss.studyGroup.id, " +
+           "SUM(CASE WHEN a.status = 'PRESENT' THEN 1 ELSE 0 END), SUM(CASE WHEN a.status = 'ABSENT' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN a.status = 'LATE' THEN 1 ELSE 0 END), SUM(CASE WHEN a.status = 'EARLY_LEAVE' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN a.status = 'EXCUSED' THEN 1 ELSE 0 END), " +
+           "COALESCE(SUM(a.lateMinutes), 0), COALESCE(SUM(a.earlyLeaveMinutes), 0), " +
+           "SUM(CASE WHEN a.status IN ('PRESENT', 'LATE', 'EARLY_LEAVE') " +
+           "THEN GREATEST((ss.endTime - ss.startTime) BY MINUTE - COALESCE(a.lateMinutes, 0) - COALESCE(a.earlyLeaveMinutes, 0), 0) " +
+           "ELSE 0 END), :now " +
+           "FROM Attendance a JOIN a.studySession ss WHERE ss.studyGroup.id = :groupId " +
+           "GROUP BY a.user.id, ss.studyGroup.id")
+    int insertFromAttendances(@Param("groupId") Long groupId, @Param("now") LocalDateTime now);
+    
+    /**
+     * 그룹 멤버별 상태별 누적 출석 수
+     */
+    interface MemberSummary {
+        Long getUserId();
+        String getUserNickname();
+        Long getPresentCount();
+        Long getAbsentCount();
+        Long getLateCount();
+        Long getEarlyLeaveCount();
+        Long getExcusedCount();
+    }
+}
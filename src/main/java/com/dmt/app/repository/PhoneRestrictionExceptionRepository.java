@@ -3,11 +3,13 @@ package com.dmt.app.repository;
 import com.dmt.app.entity.PhoneRestrictionException;
 import com.dmt.app.entity.PhoneRestrictionException.ExceptionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +38,16 @@ public interface PhoneRestrictionExceptionRepository extends JpaRepository<Phone
     @Query("SELECT pre FROM PhoneRestrictionException pre WHERE pre.status = 'APPROVED' AND pre.exceptionStartTime <= :now AND pre.exceptionEndTime >= :now")
     List<PhoneRestrictionException> findActiveExceptions(@Param("now") LocalDateTime now);
     
-    @Query("SELECT pre FROM PhoneRestrictionException pre WHERE pre.status = 'APPROVED' AND pre.exceptionEndTime < :now")
+    @Query("SELECT pre FROM PhoneRestrictionException pre JOIN FETCH pre.studySession WHERE pre.status = 'APPROVED' AND pre.exceptionEndTime < :now")
     List<PhoneRestrictionException> findExpiredExceptions(@Param("now") LocalDateTime now);
-} 
\ No newline at end of file
+    
+    @Query("SELECT pre FROM PhoneRestrictionException pre WHERE pre.status = 'APPROVED' AND pre.studySession.endTime >= :now")
+    List<PhoneRestrictionException> findIndexableApprovedExceptions(@Param("now") LocalDateTime now);
+    
+    @Query("SELECT pre FROM PhoneRestrictionException pre JOIN FETCH pre.studySession WHERE pre.updatedAt > :since")
+    List<PhoneRestrictionException> findUpdatedSince(@Param("since") LocalDateTime since);
+    
+    @Modifying
+    @Query("UPDATE PhoneRestrictionException pre SET pre.status = 'EXPIRED', pre.updatedAt = :now WHERE pre.id IN :ids AND pre.status = 'APPROVED'")
+    int expireApprovedExceptions(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,20 @@
+package com.dmt.app.repository;
+
+import com.dmt.app.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+    
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.renewedAt = :now, l.expiresAt = :expiresAt, l.version = l.version + 1 " +
+           "WHERE l.jobName = :jobName AND (l.owner = :owner OR l.expiresAt < :now)")
+    int acquire(@Param("jobName") String jobName, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+}
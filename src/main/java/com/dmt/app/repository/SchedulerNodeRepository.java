@@ -0,0 +1,26 @@
+package com.dmt.app.repository;
+
+import com.dmt.app.entity.SchedulerNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SchedulerNodeRepository extends JpaRepository<SchedulerNode, String> {
+    
+    @Modifying
+    @Query("UPDATE SchedulerNode n SET n.heartbeatAt = :now WHERE n.nodeId = :nodeId")
+    int heartbeat(@Param("nodeId") String nodeId, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT n.nodeId FROM SchedulerNode n WHERE n.heartbeatAt >= :since ORDER BY n.nodeId")
+    List<String> findLiveNodeIds(@Param("since") LocalDateTime since);
+    
+    @Modifying
+    @Query("DELETE FROM SchedulerNode n WHERE n.heartbeatAt < :before")
+    int deleteDeadNodes(@Param("before") LocalDateTime before);
+}
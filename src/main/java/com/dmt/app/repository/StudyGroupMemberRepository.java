@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +22,35 @@ public interface StudyGroupMemberRepository extends JpaRepository<StudyGroupMemb
     
     List<StudyGroupMember> findByStudyGroupIdAndIsActiveTrue(Long studyGroupId);
     
+    @Query("SELECT sgm FROM StudyGroupMember sgm WHERE sgm.studyGroup.id IN :groupIds AND sgm.isActive = true")
+    List<StudyGroupMember> findActiveMembersByStudyGroupIds(@Param("groupIds") Collection<Long> groupIds);
+    
     @Query("SELECT sgm FROM StudyGroupMember sgm WHERE sgm.studyGroup.id = :groupId AND sgm.role = 'LEADER'")
     Optional<StudyGroupMember> findLeaderByStudyGroupId(@Param("groupId") Long groupId);
     
     @Query("SELECT COUNT(sgm) FROM StudyGroupMember sgm WHERE sgm.studyGroup.id = :groupId AND sgm.isActive = true")
     Long countActiveMembersByStudyGroupId(@Param("groupId") Long groupId);
-} 
\ No newline at end of file
+    
+    @Query("SELECT sgm.user.id FROM StudyGroupMember sgm WHERE sgm.studyGroup.id = :groupId AND sgm.isActive = true")
+    List<Long> findActiveUserIdsByStudyGroupId(@Param("groupId") Long groupId);
+    
+    @Query("SELECT sgm.user.id FROM StudyGroupMember sgm " +
+           "WHERE sgm.studyGroup.id = :groupId AND sgm.isActive = true AND sgm.user.id IN :userIds")
+    List<Long> findActiveUserIdsByStudyGroupIdAndUserIds(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
+    
+    @Query("SELECT sgm.studyGroup.id FROM StudyGroupMember sgm WHERE sgm.user.id = :userId AND sgm.isActive = true")
+    List<Long> findActiveStudyGroupIdsByUserId(@Param("userId") Long userId);
+    
+    @Query("SELECT sgm.studyGroup.id AS studyGroupId, sgm.user.id AS userId, sgm.isActive AS isActive " +
+           "FROM StudyGroupMember sgm WHERE sgm.updatedAt > :since")
+    List<MembershipChange> findMembershipChangesSince(@Param("since") LocalDateTime since);
+    
+    /**
+     * 지정 시각 이후 변경된 그룹 멤버십
+     */
+    interface MembershipChange {
+        Long getStudyGroupId();
+        Long getUserId();
+        Boolean getIsActive();
+    }
+}
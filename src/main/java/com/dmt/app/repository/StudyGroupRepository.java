@@ -24,4 +24,7 @@ public interface StudyGroupRepository extends JpaRepository<StudyGroup, Long> {
     
     @Query("SELECT sg FROM StudyGroup sg WHERE sg.status = 'ACTIVE' AND (SELECT COUNT(sgm) FROM StudyGroupMember sgm WHERE sgm.studyGroup.id = sg.id AND sgm.isActive = true) >= sg.minMembers")
     List<StudyGroup> findActiveGroupsWithMinimumMembers();
-} 
\ No newline at end of file
+    
+    @Query("SELECT sg.id FROM StudyGroup sg")
+    List<Long> findAllIds();
+}
@@ -1,13 +1,17 @@
 package com.dmt.app.repository;
 
+import com.dmt.app.entity.PhoneRestrictionException.ExceptionStatus;
 import com.dmt.app.entity.StudySession;
 import com.dmt.app.entity.StudySession.SessionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -28,6 +32,137 @@ public interface StudySessionRepository extends JpaRepository<StudySession, Long
     @Query("SELECT ss FROM StudySession ss WHERE ss.status = 'IN_PROGRESS' AND ss.startTime <= :now AND ss.endTime >= :now")
     List<StudySession> findCurrentSessions(@Param("now") LocalDateTime now);
     
-    @Query("SELECT ss FROM StudySession ss WHERE ss.status = 'SCHEDULED' AND ss.startTime <= :now")
+    @Query("SELECT ss FROM StudySession ss WHERE ss.status = 'SCHEDULED' AND ss.startTime <= :now AND ss.endTime > :now")
     List<StudySession> findSessionsToStart(@Param("now") LocalDateTime now);
-} 
\ No newline at end of file
+    
+    @Query("SELECT ss FROM StudySession ss JOIN FETCH ss.studyGroup WHERE ss.status = 'IN_PROGRESS' AND ss.endTime < :now")
+    List<StudySession> findSessionsToComplete(@Param("now") LocalDateTime now);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StudySession ss SET ss.status = 'COMPLETED', ss.completedAt = :now, ss.updatedAt = :now " +
+           "WHERE ss.id IN :ids AND ss.status = 'IN_PROGRESS'")
+    int completeSessions(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT ss.id AS sessionId, ss.studyGroup.id AS studyGroupId FROM StudySession ss " +
+           "WHERE ss.status IN ('SCHEDULED', 'IN_PROGRESS') AND ss.endTime < :now ORDER BY ss.endTime ASC, ss.id ASC")
+    List<SessionGroup> findMissedSessions(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StudySession ss SET ss.status = 'COMPLETED', ss.completedAt = :now, ss.updatedAt = :now " +
+           "WHERE ss.id IN :ids AND ss.status IN ('SCHEDULED', 'IN_PROGRESS') AND ss.endTime < :now")
+    int completeMissedSessions(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StudySession ss SET ss.status = :to, ss.updatedAt = :now WHERE ss.id = :id AND ss.status = :from")
+    int transitionStatus(@Param("id") Long id, @Param("from") SessionStatus from, @Param("to") SessionStatus to,
+                         @Param("now") LocalDateTime now);
+    
+    @Query("SELECT ss.id AS sessionId, ss.studyGroup.id AS studyGroupId FROM StudySession ss " +
+           "WHERE ss.status = 'IN_PROGRESS' AND ss.startTime <= :now AND ss.endTime >= :now " +
+           "AND (ss.absencesCheckedAt IS NULL OR EXISTS (SELECT 1 FROM StudyGroupMember sgm " +
+           "WHERE sgm.studyGroup = ss.studyGroup AND sgm.isActive = true AND sgm.joinedAt >= ss.absencesCheckedAt))")
+    List<SessionGroup> findSessionsToCheckAbsences(@Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE StudySession ss SET ss.absencesCheckedAt = :checkedAt WHERE ss.id IN :ids")
+    int markAbsencesChecked(@Param("ids") Collection<Long> ids, @Param("checkedAt") LocalDateTime checkedAt);
+    
+    // 출석 알림 전송 권한 획득 - 아직 알림을 보내지 않은 예정 세션이면 1
+    @Modifying
+    @Query("UPDATE StudySession ss SET ss.remindedAt = :now " +
+           "WHERE ss.id = :id AND ss.status = 'SCHEDULED' AND ss.remindedAt IS NULL")
+    int claimReminder(@Param("id") Long id, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT ss.id AS sessionId, ss.completedAt AS completedAt FROM StudySession ss " +
+           "WHERE ss.status = 'COMPLETED' AND ss.completedAt < :until " +
+           "AND (ss.completedAt > :afterTime OR (ss.completedAt = :afterTime AND ss.id > :afterId)) " +
+           "ORDER BY ss.completedAt ASC, ss.id ASC")
+    List<CompletedSession> findCompletedSessionsAfter(@Param("afterTime") LocalDateTime afterTime, @Param("afterId") Long afterId,
+                                                      @Param("until") LocalDateTime until, Pageable pageable);
+    
+    // 완료된 세션의 출석 기록 변경 표시 (진행 중이거나 예정된 세션은 완료 후 집계에 그대로 포함되므로 제외)
+    @Modifying
+    @Query("UPDATE StudySession ss SET ss.statsChangedAt = :now WHERE ss.id IN :ids AND ss.status = 'COMPLETED'")
+    int markStatsChanged(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT ss.id AS sessionId, ss.studyGroup.id AS studyGroupId, ss.startTime AS startTime " +
+           "FROM StudySession ss WHERE ss.statsChangedAt IS NOT NULL ORDER BY ss.statsChangedAt ASC")
+    List<StatsChangedSession> findStatsChangedSessions(Pageable pageable);
+    
+    // 워터마크까지 집계된 그룹의 하루치 완료 세션
+    @Query("SELECT ss.id FROM StudySession ss WHERE ss.studyGroup.id = :groupId AND ss.status = 'COMPLETED' " +
+           "AND ss.startTime >= :from AND ss.startTime < :to " +
+           "AND (ss.completedAt < :watermarkTime OR (ss.completedAt = :watermarkTime AND ss.id <= :watermarkId))")
+    List<Long> findRolledUpSessionIds(@Param("groupId") Long groupId, @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to, @Param("watermarkTime") LocalDateTime watermarkTime,
+                                      @Param("watermarkId") Long watermarkId);
+    
+    // 재집계한 세션의 변경 표시 해제 (until 이후 다시 바뀐 세션은 다음 재집계 대상으로 남김)
+    @Modifying
+    @Query("UPDATE StudySession ss SET ss.statsChangedAt = NULL WHERE ss.id IN :ids AND ss.statsChangedAt < :until")
+    int clearStatsChanged(@Param("ids") Collection<Long> ids, @Param("until") LocalDateTime until);
+    
+    @Query("SELECT ss FROM StudySession ss JOIN FETCH ss.studyGroup WHERE ss.updatedAt > :since")
+    List<StudySession> findUpdatedSince(@Param("since") LocalDateTime since);
+    
+    @Query("SELECT ss.id AS sessionId, ss.studyGroup.id AS studyGroupId FROM StudySession ss WHERE ss.id IN :ids")
+    List<SessionGroup> findSessionGroups(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT sgm.user.id AS userId, ss.id AS sessionId, pre.status AS exceptionStatus, " +
+           "pre.exceptionStartTime AS exceptionStartTime, pre.exceptionEndTime AS exceptionEndTime " +
+           "FROM StudySession ss JOIN StudyGroupMember sgm ON sgm.studyGroup = ss.studyGroup " +
+           "LEFT JOIN PhoneRestrictionException pre ON pre.studySession = ss AND pre.user = sgm.user " +
+           "WHERE sgm.user.id IN :userIds AND sgm.isActive = true " +
+           "AND ss.status = 'IN_PROGRESS' AND ss.startTime <= :now AND ss.endTime >= :now")
+    List<SessionParticipation> findCurrentParticipations(@Param("userIds") Collection<Long> userIds, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT ss FROM StudySession ss JOIN StudyGroupMember sgm ON sgm.studyGroup = ss.studyGroup " +
+           "WHERE sgm.user.id = :userId AND sgm.isActive = true " +
+           "AND ss.status IN ('SCHEDULED', 'IN_PROGRESS') AND ss.endTime >= :from AND ss.startTime <= :until")
+    List<StudySession> findUserSessionsBetween(@Param("userId") Long userId, @Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+    
+    /**
+     * 완료된 세션 (완료 시각 순 집계용)
+     */
+    interface CompletedSession {
+        Long getSessionId();
+        LocalDateTime getCompletedAt();
+    }
+    
+    /**
+     * 완료 후 출석 기록이 바뀐 세션 (일별 통계 재집계용)
+     */
+    interface StatsChangedSession {
+        Long getSessionId();
+        Long getStudyGroupId();
+        LocalDateTime getStartTime();
+    }
+    
+    /**
+     * 세션이 속한 스터디 그룹
+     */
+    interface SessionGroup {
+        Long getSessionId();
+        Long getStudyGroupId();
+    }
+    
+    /**
+     * 진행 중인 세션 참여 정보 (사용자, 세션, 예외 상태와 시간대)
+     */
+    interface SessionParticipation {
+        Long getUserId();
+        Long getSessionId();
+        ExceptionStatus getExceptionStatus();
+        LocalDateTime getExceptionStartTime();
+        LocalDateTime getExceptionEndTime();
+        
+        /**
+         * 지정 시각이 승인된 예외 시간대 안에 있는지 확인 (시간대가 없으면 세션 전체)
+         */
+        default boolean isExemptAt(LocalDateTime now) {
+            return getExceptionStatus() == ExceptionStatus.APPROVED
+                    && (getExceptionStartTime() == null || !now.isBefore(getExceptionStartTime()))
+                    && (getExceptionEndTime() == null || !now.isAfter(getExceptionEndTime()));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.dmt.app.scheduler;
+
+import com.dmt.app.config.SchedulerConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 스케줄러 작업 실행기
+ * 한 번의 실행을 스터디 그룹 단위 작업으로 나눠 가상 스레드에서 동시에 처리합니다.
+ * 동시 실행 수는 설정값으로 제한하며, 같은 작업의 이전 실행이 끝나지 않았으면 이번 실행을 건너뛰고,
+ * 제한 시간이 지나면 남은 그룹 작업을 중단합니다.
+ * 중단 요청을 무시하고 계속 실행 중인 그룹 작업이 있으면 해당 그룹은 작업이 실제로 끝날 때까지 건너뜁니다.
+ */
+@Component
+@Slf4j
+public class SchedulerJobRunner {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+
+    // 실행 중인 작업 이름
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    // 작업별 그룹 작업이 아직 실행 중인 그룹 ID (시간 초과 후에도 실제로 끝날 때까지 유지)
+    private final Map<String, Set<Long>> runningGroups = new ConcurrentHashMap<>();
+
+    public SchedulerJobRunner(SchedulerConfig schedulerConfig) {
+        this.permits = new Semaphore(schedulerConfig.getMaxConcurrency());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 그룹별 작업 실행 - 그룹마다 별도 트랜잭션으로 처리하고 처리 건수 합계 반환
+     *
+     * @param plan 그룹 ID별 처리 대상 ID (실행 중복 확인 후 조회)
+     * @param unit 한 그룹의 처리 대상을 처리하고 처리 건수를 반환
+     */
+    public int runPerGroup(String jobName, Duration timeout, Supplier<Map<Long, List<Long>>> plan,
+                           Function<List<Long>, Integer> unit) {
+        if (!runningJobs.add(jobName)) {
+            log.warn("스케줄러: 이전 실행이 끝나지 않아 건너뜀: {}", jobName);
+            return 0;
+        }
+
+        try {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            Map<Long, List<Long>> workByGroup = plan.get();
+            if (workByGroup.isEmpty()) {
+                return 0;
+            }
+
+            Set<Long> busyGroups = runningGroups.computeIfAbsent(jobName, name -> ConcurrentHashMap.newKeySet());
+            List<GroupUnit> units = new ArrayList<>();
+            int busy = 0;
+            for (Map.Entry<Long, List<Long>> work : workByGroup.entrySet()) {
+                // 이전 실행의 그룹 작업이 아직 끝나지 않았으면 이번에는 건너뜀
+                if (!busyGroups.add(work.getKey())) {
+                    busy++;
+                    continue;
+                }
+                GroupUnit groupUnit = new GroupUnit(work.getKey(), work.getValue(), unit, busyGroups);
+                try {
+                    executor.execute(groupUnit);
+                } catch (RejectedExecutionException e) {
+                    busyGroups.remove(work.getKey());
+                    throw e;
+                }
+                units.add(groupUnit);
+            }
+
+            int processed = 0;
+            int failed = 0;
+            int timedOut = 0;
+            for (GroupUnit groupUnit : units) {
+                try {
+                    Integer count = groupUnit.result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    processed += count != null ? count : 0;
+                } catch (TimeoutException e) {
+                    groupUnit.cancel();
+                    timedOut++;
+                } catch (ExecutionException e) {
+                    failed++;
+                    log.error("스케줄러: 그룹 작업 실패: {} (그룹 {})", jobName, groupUnit.groupId, e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    units.forEach(GroupUnit::cancel);
+                    break;
+                }
+            }
+
+            if (failed > 0 || timedOut > 0 || busy > 0) {
+                log.warn("스케줄러: {} - 그룹 {}개 중 실패 {}개, 시간 초과 {}개 ({}초), 이전 작업 실행 중 {}개",
+                        jobName, workByGroup.size(), failed, timedOut, timeout.toSeconds(), busy);
+            }
+            return processed;
+        } finally {
+            runningJobs.remove(jobName);
+        }
+    }
+
+    /**
+     * 한 그룹의 작업 - 실제로 끝날 때 실행 중 그룹에서 제거
+     * 중단 요청은 작업 스레드를 인터럽트하며, 시작 전에 중단되면 작업을 실행하지 않습니다.
+     */
+    private final class GroupUnit implements Runnable {
+
+        private final Long groupId;
+        private final List<Long> ids;
+        private final Function<List<Long>, Integer> unit;
+        private final Set<Long> busyGroups;
+        private final CompletableFuture<Integer> result = new CompletableFuture<>();
+        private volatile Thread worker;
+        private volatile boolean cancelled;
+
+        private GroupUnit(Long groupId, List<Long> ids, Function<List<Long>, Integer> unit, Set<Long> busyGroups) {
+            this.groupId = groupId;
+            this.ids = ids;
+            this.unit = unit;
+            this.busyGroups = busyGroups;
+        }
+
+        @Override
+        public void run() {
+            worker = Thread.currentThread();
+            try {
+                if (cancelled) {
+                    result.cancel(false);
+                    return;
+                }
+                permits.acquire();
+                try {
+                    result.complete(unit.apply(ids));
+                } finally {
+                    permits.release();
+                }
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                worker = null;
+                busyGroups.remove(groupId);
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            Thread current = worker;
+            if (current != null) {
+                current.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.dmt.app.scheduler;
+
+import com.dmt.app.config.SchedulerConfig;
+import com.dmt.app.entity.SchedulerLease;
+import com.dmt.app.repository.SchedulerLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 데이터베이스 임대 테이블 기반 스케줄러 작업 잠금
+ * 여러 인스턴스가 같은 작업을 실행해도 임대를 얻은 노드 하나만 실행하며,
+ * 임대가 만료되면 다른 노드가 이어받습니다. 임대를 가진 노드는 실행할 때마다 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerLeaseManager {
+    
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final SchedulerConfig schedulerConfig;
+    private final TransactionTemplate transactionTemplate;
+    
+    /**
+     * 작업 임대 획득 또는 갱신 (다른 노드가 유효한 임대를 가지고 있으면 false)
+     */
+    public boolean tryAcquire(String jobName, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttl);
+        String owner = schedulerConfig.getNodeId();
+        
+        Integer updated = transactionTemplate.execute(status ->
+                schedulerLeaseRepository.acquire(jobName, owner, now, expiresAt));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+        
+        // 처음 실행되는 작업이면 임대 생성 (동시에 생성하면 한 노드만 성공)
+        try {
+            Boolean created = transactionTemplate.execute(status -> {
+                if (schedulerLeaseRepository.existsById(jobName)) {
+                    return false;
+                }
+                schedulerLeaseRepository.saveAndFlush(SchedulerLease.builder()
+                        .jobName(jobName)
+                        .owner(owner)
+                        .renewedAt(now)
+                        .expiresAt(expiresAt)
+                        .build());
+                return true;
+            });
+            return Boolean.TRUE.equals(created);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("스케줄러 임대 생성 경쟁에서 제외됨: {} ({})", jobName, owner);
+            return false;
+        }
+    }
+    
+    public String getNodeId() {
+        return schedulerConfig.getNodeId();
+    }
+}
@@ -0,0 +1,116 @@
+package com.dmt.app.scheduler;
+
+import com.dmt.app.config.SchedulerConfig;
+import com.dmt.app.entity.SchedulerNode;
+import com.dmt.app.repository.SchedulerNodeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스케줄러 노드 멤버십과 스터디 그룹 분배
+ * 각 노드는 주기적으로 하트비트를 남기고, 하트비트가 유효한 노드 목록으로
+ * 스터디 그룹 ID를 랑데부 해시로 나눠 세션 단위 작업을 나눠 실행합니다.
+ * 노드가 추가되거나 하트비트가 끊기면 다음 하트비트에서 목록이 바뀌어 재분배되며,
+ * 이때 바뀐 노드의 그룹만 다른 노드로 이동합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerShardManager {
+
+    private final SchedulerNodeRepository schedulerNodeRepository;
+    private final SchedulerConfig schedulerConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    // 하트비트가 유효한 노드 ID (정렬됨)
+    private volatile List<String> liveNodeIds = List.of();
+
+    /**
+     * 매 10초마다 실행 - 하트비트 기록 후 노드 목록 갱신
+     */
+    @Scheduled(fixedRate = 10000) // 10초 = 10,000ms
+    public void heartbeat() {
+        try {
+            refreshNodes();
+        } catch (Exception e) {
+            log.error("스케줄러 노드 하트비트 처리 중 오류 발생", e);
+        }
+    }
+
+    public void refreshNodes() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime liveSince = now.minusSeconds(schedulerConfig.getNodeTimeoutSeconds());
+        String nodeId = schedulerConfig.getNodeId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (schedulerNodeRepository.heartbeat(nodeId, now) == 0) {
+                schedulerNodeRepository.save(SchedulerNode.builder()
+                        .nodeId(nodeId)
+                        .startedAt(now)
+                        .heartbeatAt(now)
+                        .build());
+            }
+            schedulerNodeRepository.deleteDeadNodes(liveSince);
+        });
+
+        List<String> nodeIds = List.copyOf(schedulerNodeRepository.findLiveNodeIds(liveSince));
+        if (!nodeIds.equals(liveNodeIds)) {
+            log.info("스케줄러 노드 구성 변경 - 작업 재분배: {} -> {}", liveNodeIds, nodeIds);
+            liveNodeIds = nodeIds;
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 노드 제거 (하트비트 만료를 기다리지 않고 재분배)
+     */
+    @PreDestroy
+    public void leave() {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerNodeRepository.deleteById(schedulerConfig.getNodeId()));
+        } catch (Exception e) {
+            log.warn("스케줄러 노드 제거 실패: {}", schedulerConfig.getNodeId(), e);
+        }
+    }
+
+    /**
+     * 이 노드가 스터디 그룹의 세션 작업을 담당하는지 확인
+     * 아직 노드 목록을 얻지 못했으면 혼자 실행 중인 것으로 보고 모든 그룹을 담당합니다.
+     */
+    public boolean owns(Long studyGroupId) {
+        List<String> nodeIds = liveNodeIds;
+        if (nodeIds.isEmpty()) {
+            return true;
+        }
+
+        String owner = null;
+        long maxWeight = 0;
+        for (String nodeId : nodeIds) {
+            long weight = weight(nodeId, studyGroupId);
+            if (owner == null || weight > maxWeight) {
+                owner = nodeId;
+                maxWeight = weight;
+            }
+        }
+        return schedulerConfig.getNodeId().equals(owner);
+    }
+
+    public List<String> getLiveNodeIds() {
+        return liveNodeIds;
+    }
+
+    // 노드/그룹 조합별 가중치 (SplitMix64 혼합)
+    private static long weight(String nodeId, Long studyGroupId) {
+        long z = nodeId.hashCode() * 0x9E3779B97F4A7C15L + studyGroupId;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,59 +1,142 @@
 package com.dmt.app.scheduler;
 
+import com.dmt.app.config.SchedulerConfig;
+import com.dmt.app.service.SessionRecoveryService;
 import com.dmt.app.service.StudySessionService;
 import com.dmt.app.service.AttendanceService;
+import com.dmt.app.service.AttendanceStatsService;
 import com.dmt.app.service.PhoneRestrictionExceptionService;
+import com.dmt.app.service.SessionTransitionTimer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class StudySessionScheduler {
     
+    // 복구 작업 한 번의 최대 실행 시간
+    private static final Duration RECOVERY_TIMEOUT = Duration.ofMinutes(1);
+    
     private final StudySessionService studySessionService;
     private final AttendanceService attendanceService;
+    private final AttendanceStatsService attendanceStatsService;
     private final PhoneRestrictionExceptionService phoneRestrictionExceptionService;
+    private final SessionTransitionTimer sessionTransitionTimer;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final SchedulerShardManager schedulerShardManager;
+    private final SchedulerJobRunner schedulerJobRunner;
+    private final SessionRecoveryService sessionRecoveryService;
+    private final SchedulerConfig schedulerConfig;
+    
+    // 마지막 동기화 작업 실행 시각 (System.nanoTime)
+    private volatile long lastSyncTickNanos = System.nanoTime();
+    
+    // 이전 복구 작업에서 처리하지 못한 세션이 남아 있는지 여부
+    private volatile boolean recoveryPending;
     
     /**
-     * 매분마다 실행 - 예정된 세션을 진행 상태로 변경
+     * 애플리케이션 시작 시 중단 동안 놓친 세션을 복구한 뒤 세션 시작/종료 타이머 가동
+     * (노드 목록을 먼저 갱신해 다른 노드가 담당하는 그룹까지 복구하지 않도록 함)
      */
-    @Scheduled(fixedRate = 60000) // 1분 = 60,000ms
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSessionTransitionTimer() {
+        if (!schedulerConfig.isEnabled()) {
+            return;
+        }
+        try {
+            schedulerShardManager.refreshNodes();
+        } catch (Exception e) {
+            log.error("스케줄러: 시작 시 노드 목록 갱신 중 오류 발생", e);
+        }
+        recoverMissedWindows("시작");
+        sessionTransitionTimer.start(this::handleSessionTransition);
+    }
+    
+    /**
+     * 세션 시작/종료/알림 시각 도달 - 해당 세션만 전환하고 같은 초의 출석 알림은 한 번에 전송
+     */
+    private void handleSessionTransition(List<SessionTransitionTimer.Transition> transitions) {
+        List<Long> reminderSessionIds = new ArrayList<>();
+        for (SessionTransitionTimer.Transition transition : transitions) {
+            try {
+                switch (transition.type()) {
+                    case REMIND:
+                        reminderSessionIds.add(transition.sessionId());
+                        break;
+                    case START:
+                        studySessionService.startSession(transition.sessionId());
+                        break;
+                    case END:
+                        studySessionService.completeSession(transition.sessionId());
+                        break;
+                }
+            } catch (Exception e) {
+                log.error("스케줄러: 세션 전환 처리 중 오류 발생: {} {}", transition.sessionId(), transition.type(), e);
+            }
+        }
+        
+        // 알림은 담당 그룹과 관계없이 모든 인스턴스가 시도하고, 알림 시각을 먼저 기록한 인스턴스만 전송
+        if (!reminderSessionIds.isEmpty()) {
+            try {
+                studySessionService.sendAttendanceReminders(reminderSessionIds);
+            } catch (Exception e) {
+                log.error("스케줄러: 출석 알림 전송 중 오류 발생: {}", reminderSessionIds, e);
+            }
+        }
+    }
+    
+    /**
+     * 매 10분마다 실행 - 전환 타이머가 놓친 예정된 세션을 진행 상태로 변경 (담당 그룹만)
+     */
+    @Scheduled(fixedRate = 600000) // 10분 = 600,000ms
     public void startScheduledSessions() {
         try {
             log.info("스케줄러: 예정된 세션 시작 처리 시작");
-            studySessionService.startScheduledSessions();
-            log.info("스케줄러: 예정된 세션 시작 처리 완료");
+            int startedCount = schedulerJobRunner.runPerGroup("startScheduledSessions", Duration.ofMinutes(9),
+                    () -> owned(studySessionService.findSessionsToStartByGroup()),
+                    studySessionService::startSessions);
+            log.info("스케줄러: 예정된 세션 시작 처리 완료 (시작된 세션 {}건)", startedCount);
         } catch (Exception e) {
             log.error("스케줄러: 예정된 세션 시작 처리 중 오류 발생", e);
         }
     }
     
     /**
-     * 매분마다 실행 - 현재 진행 중인 세션에 대한 자동 출석 체크
+     * 매분마다 실행 - 현재 진행 중인 세션에 대한 자동 출석 체크 (담당 그룹만)
      */
     @Scheduled(fixedRate = 60000) // 1분 = 60,000ms
     public void checkAttendanceForCurrentSessions() {
         try {
             log.info("스케줄러: 현재 세션 출석 체크 시작");
-            attendanceService.checkAttendanceForCurrentSessions();
-            log.info("스케줄러: 현재 세션 출석 체크 완료");
+            int absentCount = schedulerJobRunner.runPerGroup("checkAttendanceForCurrentSessions", Duration.ofSeconds(50),
+                    () -> owned(attendanceService.findSessionsToCheckAbsencesByGroup()),
+                    attendanceService::markAbsences);
+            log.info("스케줄러: 현재 세션 출석 체크 완료 (결석 처리 {}건)", absentCount);
         } catch (Exception e) {
             log.error("스케줄러: 현재 세션 출석 체크 중 오류 발생", e);
         }
     }
     
     /**
-     * 매시간마다 실행 - 만료된 폰 사용 제한 예외 처리
+     * 매시간마다 실행 - 만료된 폰 사용 제한 예외 처리 (담당 그룹만)
      */
     @Scheduled(fixedRate = 3600000) // 1시간 = 3,600,000ms
     public void processExpiredPhoneExceptions() {
         try {
             log.info("스케줄러: 만료된 폰 사용 제한 예외 처리 시작");
-            phoneRestrictionExceptionService.processExpiredExceptions();
-            log.info("스케줄러: 만료된 폰 사용 제한 예외 처리 완료");
+            int expiredCount = expirePhoneExceptions(Duration.ofMinutes(10));
+            log.info("스케줄러: 만료된 폰 사용 제한 예외 처리 완료 (만료된 예외 {}건)", expiredCount);
         } catch (Exception e) {
             log.error("스케줄러: 만료된 폰 사용 제한 예외 처리 중 오류 발생", e);
         }
@@ -75,31 +158,96 @@ public class StudySessionScheduler {
     }
     
     /**
-     * 매 30분마다 실행 - 세션 상태 동기화 및 폰 사용 제한 적용
+     * 매분마다 실행 - 시간이 지난 세션 자동 종료 및 폰 사용 제한 해제 (담당 그룹만)
      */
-    @Scheduled(fixedRate = 1800000) // 30분 = 1,800,000ms
+    @Scheduled(fixedRate = 60000) // 1분 = 60,000ms
     public void syncSessionStatusAndPhoneRestriction() {
         try {
             log.info("스케줄러: 세션 상태 동기화 및 폰 사용 제한 적용 시작");
-            // TODO: 세션 상태와 폰 사용 제한 상태 동기화
-            // TODO: 시간이 지난 세션 자동 종료
-            log.info("스케줄러: 세션 상태 동기화 및 폰 사용 제한 적용 완료");
+            long now = System.nanoTime();
+            Duration sinceLastTick = Duration.ofNanos(now - lastSyncTickNanos);
+            lastSyncTickNanos = now;
+            if (sinceLastTick.toSeconds() >= schedulerConfig.getTickGapSeconds()) {
+                log.warn("스케줄러: 동기화 작업이 {}초 동안 실행되지 않음", sinceLastTick.toSeconds());
+                recoverMissedWindows("실행 간격 초과");
+            } else if (recoveryPending) {
+                recoverMissedWindows("남은 세션");
+            }
+            int completedCount = schedulerJobRunner.runPerGroup("syncSessionStatusAndPhoneRestriction", Duration.ofSeconds(50),
+                    () -> owned(studySessionService.findSessionsToCompleteByGroup()),
+                    studySessionService::completeEndedSessions);
+            log.info("스케줄러: 세션 상태 동기화 및 폰 사용 제한 적용 완료 (종료된 세션 {}건)", completedCount);
         } catch (Exception e) {
             log.error("스케줄러: 세션 상태 동기화 및 폰 사용 제한 적용 중 오류 발생", e);
         }
     }
     
     /**
-     * 매일 자정에 실행 - 전날 세션 정리 및 통계 생성
+     * 매일 자정에 실행 - 지난 실행 이후 완료된 세션의 일별 출석 통계 생성
      */
     @Scheduled(cron = "0 0 0 * * ?") // 매일 자정
     public void dailySessionCleanup() {
         try {
+            if (!acquireLease("dailySessionCleanup", Duration.ofMinutes(10))) {
+                return;
+            }
             log.info("스케줄러: 일일 세션 정리 시작");
-            // TODO: 전날 완료된 세션들의 통계 생성 및 정리 작업
-            log.info("스케줄러: 일일 세션 정리 완료");
+            int rolledUpCount = attendanceStatsService.rollupCompletedSessions();
+            log.info("스케줄러: 일일 세션 정리 완료 (통계 반영 세션 {}건)", rolledUpCount);
         } catch (Exception e) {
             log.error("스케줄러: 일일 세션 정리 중 오류 발생", e);
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 놓친 세션 복구 - 종료 시각이 지난 세션의 완료/결석 처리와 끝난 예외 만료를 한 번에 적용
+     * 한 번에 처리하는 세션 수와 실행 시간을 제한하고, 남은 세션은 다음 동기화 작업에서 이어서 처리
+     */
+    private void recoverMissedWindows(String reason) {
+        try {
+            int limit = schedulerConfig.getRecoveryBatchSize();
+            int[] missedCount = new int[1];
+            int recoveredCount = schedulerJobRunner.runPerGroup("recoverMissedSessions", RECOVERY_TIMEOUT, () -> {
+                Map<Long, List<Long>> missed = sessionRecoveryService.findMissedSessionsByGroup(limit);
+                missedCount[0] = missed.values().stream().mapToInt(List::size).sum();
+                return owned(missed);
+            }, sessionRecoveryService::recoverSessions);
+            recoveryPending = missedCount[0] >= limit;
+            int expiredCount = expirePhoneExceptions(RECOVERY_TIMEOUT);
+            log.info("스케줄러: 놓친 세션 복구 완료 ({}) - 세션 {}건, 만료된 예외 {}건{}", reason, recoveredCount, expiredCount,
+                    recoveryPending ? ", 남은 세션은 다음 실행에서 처리" : "");
+        } catch (Exception e) {
+            log.error("스케줄러: 놓친 세션 복구 중 오류 발생 ({})", reason, e);
+        }
+    }
+    
+    private int expirePhoneExceptions(Duration timeout) {
+        return schedulerJobRunner.runPerGroup("processExpiredPhoneExceptions", timeout,
+                () -> owned(phoneRestrictionExceptionService.findEndedExceptionsByGroup()),
+                phoneRestrictionExceptionService::expireExceptions);
+    }
+    
+    /**
+     * 이 노드가 담당하는 그룹의 작업만 남김
+     */
+    private Map<Long, List<Long>> owned(Map<Long, List<Long>> workByGroup) {
+        Map<Long, List<Long>> owned = new HashMap<>();
+        workByGroup.forEach((groupId, ids) -> {
+            if (schedulerShardManager.owns(groupId)) {
+                owned.put(groupId, ids);
+            }
+        });
+        return owned;
+    }
+    
+    /**
+     * 작업 임대 획득 - 다른 노드가 실행 중이면 이번 실행은 건너뜀
+     */
+    private boolean acquireLease(String jobName, Duration ttl) {
+        if (schedulerLeaseManager.tryAcquire(jobName, ttl)) {
+            return true;
+        }
+        log.debug("스케줄러: 다른 노드가 실행 중인 작업 건너뜀: {}", jobName);
+        return false;
+    }
+}
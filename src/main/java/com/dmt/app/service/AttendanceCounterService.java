@@ -0,0 +1,220 @@
+package com.dmt.app.service;
+
+import com.dmt.app.entity.Attendance;
+import com.dmt.app.entity.MemberAttendanceCounter;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.repository.AttendanceBatchRepository;
+import com.dmt.app.repository.MemberAttendanceCounterRepository;
+import com.dmt.app.repository.StudyGroupRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹 내 사용자별 누적 출석 수 관리
+ * 출석 기록 변경과 같은 트랜잭션에서 증감분만 반영하므로 출석 요약 조회 비용이 출석 이력 길이와 무관합니다.
+ * 누적 출석 수 행이 아직 없으면 별도 트랜잭션에서 만들고, 동시에 다른 요청이 먼저 만들었으면 그 행에 반영합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class AttendanceCounterService {
+
+    private final MemberAttendanceCounterRepository memberAttendanceCounterRepository;
+    private final StudyGroupRepository studyGroupRepository;
+    private final StudySessionRepository studySessionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AttendanceLeaderboard attendanceLeaderboard;
+    private final AttendanceBatchRepository attendanceBatchRepository;
+
+    public MemberAttendanceCounter getCounter(Long userId, Long groupId) {
+        return memberAttendanceCounterRepository.findById(new MemberAttendanceCounter.Key(userId, groupId))
+                .orElseGet(() -> MemberAttendanceCounter.builder()
+                        .userId(userId)
+                        .studyGroupId(groupId)
+                        .build());
+    }
+
+    /**
+     * 출석 기록 변경분 반영 (생성: Delta.of(after), 삭제: Delta.of(before).negate(), 수정: Delta.of(after).minus(before))
+     */
+    @Transactional
+    public void add(Long userId, Long groupId, Delta delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (addCounts(userId, groupId, delta, now) == 0) {
+            addToNewCounter(userId, groupId, delta, now);
+        }
+        TransactionCallbacks.afterCommit(() -> attendanceLeaderboard.counterChanged(userId, groupId));
+    }
+
+    /**
+     * 한 그룹의 여러 멤버 변경분을 JDBC 배치로 반영 (일괄 출석 체크)
+     */
+    @Transactional
+    public void addAll(Long groupId, Map<Long, Delta> deltasByUser) {
+        List<MemberAttendanceCounter> deltas = deltasByUser.entrySet().stream()
+                .filter(entry -> !entry.getValue().isZero())
+                .map(entry -> entry.getValue().toCounter(entry.getKey(), groupId))
+                .collect(Collectors.toList());
+        if (deltas.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int[] updatedCounts = attendanceBatchRepository.addCounters(deltas, now);
+        for (int i = 0; i < deltas.size(); i++) {
+            if (updatedCounts[i] == 0) {
+                Long userId = deltas.get(i).getUserId();
+                addToNewCounter(userId, groupId, deltasByUser.get(userId), now);
+            }
+        }
+        TransactionCallbacks.afterCommit(() -> attendanceLeaderboard.groupsChanged(List.of(groupId)));
+    }
+
+    private int addCounts(Long userId, Long groupId, Delta delta, LocalDateTime now) {
+        return memberAttendanceCounterRepository.addCounts(userId, groupId, delta.present(), delta.absent(),
+                delta.late(), delta.earlyLeave(), delta.excused(), delta.lateMinutes(), delta.earlyLeaveMinutes(),
+                delta.studyMinutes(), now);
+    }
+
+    /**
+     * 누적 출석 수 행이 없는 첫 출석 기록 반영 - 행을 만든 뒤 다시 반영
+     * 같은 트랜잭션에서 방금 추가된 사용자나 그룹이라 별도 트랜잭션에서 행을 만들 수 없으면 현재 트랜잭션에서 생성
+     */
+    private void addToNewCounter(Long userId, Long groupId, Delta delta, LocalDateTime now) {
+        createCounterIfMissing(userId, groupId, now);
+        if (addCounts(userId, groupId, delta, now) == 0) {
+            memberAttendanceCounterRepository.insertIfMissing(userId, groupId, now);
+            addCounts(userId, groupId, delta, now);
+        }
+    }
+
+    /**
+     * 누적 출석 수 행 생성 - 별도 트랜잭션에서 실행하여 동시 생성으로 인한 중복 키 오류가 출석 기록 변경을 롤백시키지 않음
+     */
+    private void createCounterIfMissing(Long userId, Long groupId, LocalDateTime now) {
+        TransactionTemplate newTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            newTransaction.executeWithoutResult(status ->
+                    memberAttendanceCounterRepository.insertIfMissing(userId, groupId, now));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("누적 출석 수 행이 동시에 생성됨: 사용자 {}, 그룹 {}", userId, groupId);
+        }
+    }
+
+    /**
+     * 자동 결석 처리 직후 호출 - 같은 트랜잭션에서 runId 실행이 삽입한 결석 기록 수만큼 결석 수 증가
+     * (출석 기록을 먼저 잠그고 누적 출석 수를 갱신하므로 다른 출석 기록 변경과 잠금 순서가 같고, 겹쳐 실행되어도 삽입한 행만 셈)
+     */
+    @Transactional
+    public void addInsertedAbsences(Collection<Long> sessionIds, String runId) {
+        memberAttendanceCounterRepository.addInsertedAbsences(sessionIds, runId, LocalDateTime.now());
+        List<Long> groupIds = studySessionRepository.findSessionGroups(sessionIds).stream()
+                .map(StudySessionRepository.SessionGroup::getStudyGroupId)
+                .distinct()
+                .collect(Collectors.toList());
+        TransactionCallbacks.afterCommit(() -> attendanceLeaderboard.groupsChanged(groupIds));
+    }
+
+    /**
+     * 출석 기록으로부터 누적 출석 수 재생성 (groupId가 없으면 전체 그룹, 그룹마다 별도 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuild(Long groupId) {
+        List<Long> groupIds = groupId != null ? List.of(groupId) : studyGroupRepository.findAllIds();
+
+        int rebuiltCount = 0;
+        for (Long id : groupIds) {
+            Integer rows = transactionTemplate.execute(status -> {
+                memberAttendanceCounterRepository.deleteByGroupId(id);
+                return memberAttendanceCounterRepository.insertFromAttendances(id, LocalDateTime.now());
+            });
+            rebuiltCount += rows != null ? rows : 0;
+            attendanceLeaderboard.invalidate(id);
+        }
+        log.info("누적 출석 수 재생성 완료: 그룹 {}개, 멤버 {}명", groupIds.size(), rebuiltCount);
+        return rebuiltCount;
+    }
+
+    /**
+     * 누적 출석 수 증감분
+     */
+    public record Delta(long present, long absent, long late, long earlyLeave, long excused,
+                        long lateMinutes, long earlyLeaveMinutes, long studyMinutes) {
+
+        public static Delta of(Attendance attendance) {
+            Attendance.AttendanceStatus status = attendance.getStatus();
+            long lateMinutes = attendance.getLateMinutes() != null ? attendance.getLateMinutes() : 0;
+            long earlyLeaveMinutes = attendance.getEarlyLeaveMinutes() != null ? attendance.getEarlyLeaveMinutes() : 0;
+            return new Delta(
+                    status == Attendance.AttendanceStatus.PRESENT ? 1 : 0,
+                    status == Attendance.AttendanceStatus.ABSENT ? 1 : 0,
+                    status == Attendance.AttendanceStatus.LATE ? 1 : 0,
+                    status == Attendance.AttendanceStatus.EARLY_LEAVE ? 1 : 0,
+                    status == Attendance.AttendanceStatus.EXCUSED ? 1 : 0,
+                    lateMinutes,
+                    earlyLeaveMinutes,
+                    studyMinutes(attendance, lateMinutes, earlyLeaveMinutes));
+        }
+
+        // 출석/지각/조퇴한 세션의 실제 참여 시간 (세션 시간 - 지각 - 조퇴)
+        private static long studyMinutes(Attendance attendance, long lateMinutes, long earlyLeaveMinutes) {
+            Attendance.AttendanceStatus status = attendance.getStatus();
+            if (status != Attendance.AttendanceStatus.PRESENT && status != Attendance.AttendanceStatus.LATE
+                    && status != Attendance.AttendanceStatus.EARLY_LEAVE) {
+                return 0;
+            }
+            StudySession session = attendance.getStudySession();
+            long sessionMinutes = ChronoUnit.MINUTES.between(session.getStartTime(), session.getEndTime());
+            return Math.max(sessionMinutes - lateMinutes - earlyLeaveMinutes, 0);
+        }
+
+        public Delta minus(Delta other) {
+            return new Delta(present - other.present, absent - other.absent, late - other.late,
+                    earlyLeave - other.earlyLeave, excused - other.excused,
+                    lateMinutes - other.lateMinutes, earlyLeaveMinutes - other.earlyLeaveMinutes,
+                    studyMinutes - other.studyMinutes);
+        }
+
+        MemberAttendanceCounter toCounter(Long userId, Long groupId) {
+            return MemberAttendanceCounter.builder()
+                    .userId(userId)
+                    .studyGroupId(groupId)
+                    .presentCount(present)
+                    .absentCount(absent)
+                    .lateCount(late)
+                    .earlyLeaveCount(earlyLeave)
+                    .excusedCount(excused)
+                    .lateMinutes(lateMinutes)
+                    .earlyLeaveMinutes(earlyLeaveMinutes)
+                    .studyMinutes(studyMinutes)
+                    .build();
+        }
+
+        public Delta negate() {
+            return new Delta(0, 0, 0, 0, 0, 0, 0, 0).minus(this);
+        }
+
+        public boolean isZero() {
+            return present == 0 && absent == 0 && late == 0 && earlyLeave == 0 && excused == 0
+                    && lateMinutes == 0 && earlyLeaveMinutes == 0 && studyMinutes == 0;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.dmt.app.service;
+
+import com.dmt.app.dto.AttendanceDto;
+import com.dmt.app.repository.AttendanceRepository;
+import com.dmt.app.repository.StudyGroupRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 그룹별 출석 기록 내보내기 (CSV, NDJSON)
+ * 출석 기록을 엔티티 없이 프로젝션으로 한 행씩 읽어 바로 응답에 쓰므로 내보내는 양과 무관하게 메모리 사용량이 일정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class AttendanceExportService {
+
+    private static final List<Column> COLUMNS = List.of(
+            new Column("id", AttendanceRepository.ExportRow::getId),
+            new Column("userId", AttendanceRepository.ExportRow::getUserId),
+            new Column("userNickname", AttendanceRepository.ExportRow::getUserNickname),
+            new Column("studySessionId", AttendanceRepository.ExportRow::getStudySessionId),
+            new Column("sessionName", AttendanceRepository.ExportRow::getSessionName),
+            new Column("sessionStartTime", AttendanceRepository.ExportRow::getSessionStartTime),
+            new Column("status", AttendanceRepository.ExportRow::getStatus),
+            new Column("arrivalTime", AttendanceRepository.ExportRow::getArrivalTime),
+            new Column("departureTime", AttendanceRepository.ExportRow::getDepartureTime),
+            new Column("lateMinutes", AttendanceRepository.ExportRow::getLateMinutes),
+            new Column("earlyLeaveMinutes", AttendanceRepository.ExportRow::getEarlyLeaveMinutes),
+            new Column("note", AttendanceRepository.ExportRow::getNote));
+
+    private final AttendanceRepository attendanceRepository;
+    private final StudyGroupRepository studyGroupRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 응답을 쓰기 시작하기 전에 요청 확인 (스트리밍 중에는 오류 응답을 보낼 수 없음)
+     */
+    public void checkExportable(Long groupId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (!studyGroupRepository.existsById(groupId)) {
+            throw new IllegalArgumentException("스터디 그룹을 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 세션 시작일이 from ~ to(포함)인 그룹 출석 기록을 세션 시작 시각 순으로 기록하고 행 수 반환
+     */
+    public int export(Long groupId, LocalDate from, LocalDate to, AttendanceDto.ExportFormat format,
+                      OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        int rowCount = 0;
+        try (Stream<AttendanceRepository.ExportRow> rows = attendanceRepository.streamExportRows(
+                groupId, from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            if (format == AttendanceDto.ExportFormat.CSV) {
+                writer.write(COLUMNS.stream().map(Column::name).collect(Collectors.joining(",")));
+                writer.write('\n');
+            }
+            for (Iterator<AttendanceRepository.ExportRow> it = rows.iterator(); it.hasNext(); rowCount++) {
+                AttendanceRepository.ExportRow row = it.next();
+                writer.write(format == AttendanceDto.ExportFormat.CSV ? toCsv(row) : toJson(row));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+        log.info("출석 기록 내보내기 완료: 그룹 {} ({} ~ {}, {}) - {}건", groupId, from, to, format, rowCount);
+        return rowCount;
+    }
+
+    private static String toCsv(AttendanceRepository.ExportRow row) {
+        return COLUMNS.stream()
+                .map(column -> csvField(column.value().apply(row)))
+                .collect(Collectors.joining(","));
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private String toJson(AttendanceRepository.ExportRow row) throws IOException {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (Column column : COLUMNS) {
+            fields.put(column.name(), column.value().apply(row));
+        }
+        return objectMapper.writeValueAsString(fields);
+    }
+
+    private record Column(String name, Function<AttendanceRepository.ExportRow, Object> value) {
+    }
+}
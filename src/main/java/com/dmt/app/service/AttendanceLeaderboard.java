@@ -0,0 +1,306 @@
+package com.dmt.app.service;
+
+import com.dmt.app.entity.MemberAttendanceCounter;
+import com.dmt.app.repository.MemberAttendanceCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 그룹별 출석 순위표 인메모리 인덱스
+ * 누적 출석 수를 출석률, 참여 시간 순으로 정렬한 순서 통계 트리(트립)로 보관하여
+ * 상위 N명과 개인 순위를 멤버 수에 대해 로그 시간에 조회합니다.
+ * 처음 조회할 때 그룹의 누적 출석 수로 만들고, 이 노드의 변경은 커밋 직후에,
+ * 다른 노드의 변경은 주기적으로 갱신 시각 기준 변경분을 읽어 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AttendanceLeaderboard {
+
+    // 변경분 조회 시 커밋이 늦은 트랜잭션을 놓치지 않도록 겹쳐 읽는 시간
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    // 출석률 내림차순, 참여 시간 내림차순, 사용자 ID 오름차순
+    static final Comparator<Standing> RANKING = (a, b) -> {
+        int byRate = Long.compare(b.attended() * a.rateDenominator(), a.attended() * b.rateDenominator());
+        if (byRate != 0) {
+            return byRate;
+        }
+        int byMinutes = Long.compare(b.studyMinutes(), a.studyMinutes());
+        return byMinutes != 0 ? byMinutes : Long.compare(a.userId(), b.userId());
+    };
+
+    private final MemberAttendanceCounterRepository memberAttendanceCounterRepository;
+
+    // 조회된 적 있는 그룹의 순위표
+    private final Map<Long, GroupLeaderboard> leaderboards = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastSyncAt = LocalDateTime.now();
+
+    /**
+     * 상위 limit명 (1위부터)
+     */
+    public List<RankedStanding> top(Long groupId, int limit) {
+        return leaderboard(groupId).top(limit);
+    }
+
+    /**
+     * 사용자의 순위 (누적 출석 수가 없으면 빈 값)
+     */
+    public Optional<RankedStanding> rankOf(Long groupId, Long userId) {
+        return leaderboard(groupId).rankOf(userId);
+    }
+
+    /**
+     * 누적 출석 수 변경 반영 (커밋 이후 호출, 순위표가 만들어진 그룹만)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void counterChanged(Long userId, Long groupId) {
+        GroupLeaderboard leaderboard = leaderboards.get(groupId);
+        if (leaderboard != null) {
+            memberAttendanceCounterRepository.findById(new MemberAttendanceCounter.Key(userId, groupId))
+                    .ifPresent(counter -> leaderboard.put(Standing.of(counter)));
+        }
+    }
+
+    /**
+     * 그룹 단위 누적 출석 수 변경 반영 (자동 결석 처리 등, 커밋 이후 호출)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void groupsChanged(Collection<Long> groupIds) {
+        List<Long> loadedGroupIds = groupIds.stream()
+                .filter(leaderboards::containsKey)
+                .distinct()
+                .toList();
+        if (!loadedGroupIds.isEmpty()) {
+            apply(memberAttendanceCounterRepository.findByStudyGroupIdIn(loadedGroupIds));
+        }
+    }
+
+    /**
+     * 누적 출석 수 재생성 등으로 그룹 전체가 바뀐 경우 - 다음 조회 시 다시 만듦
+     */
+    public void invalidate(Long groupId) {
+        leaderboards.remove(groupId);
+    }
+
+    /**
+     * 다른 노드에서 바뀐 누적 출석 수 반영
+     */
+    @Scheduled(fixedRate = 30000) // 30초 = 30,000ms
+    @Transactional(readOnly = true)
+    public void syncChanges() {
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        if (!leaderboards.isEmpty()) {
+            apply(memberAttendanceCounterRepository.findByUpdatedAtAfter(lastSyncAt.minus(SYNC_OVERLAP)));
+        }
+        lastSyncAt = syncStartedAt;
+    }
+
+    private void apply(List<MemberAttendanceCounter> counters) {
+        for (MemberAttendanceCounter counter : counters) {
+            GroupLeaderboard leaderboard = leaderboards.get(counter.getStudyGroupId());
+            if (leaderboard != null) {
+                leaderboard.put(Standing.of(counter));
+            }
+        }
+    }
+
+    private GroupLeaderboard leaderboard(Long groupId) {
+        GroupLeaderboard leaderboard = leaderboards.get(groupId);
+        if (leaderboard != null) {
+            return leaderboard;
+        }
+
+        GroupLeaderboard loaded = new GroupLeaderboard();
+        for (MemberAttendanceCounter counter : memberAttendanceCounterRepository.findByStudyGroupId(groupId)) {
+            loaded.put(Standing.of(counter));
+        }
+        GroupLeaderboard existing = leaderboards.putIfAbsent(groupId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 순위 계산에 쓰는 멤버 성적
+     */
+    public record Standing(Long userId, long attended, long total, long studyMinutes) {
+
+        static Standing of(MemberAttendanceCounter counter) {
+            long attended = counter.getPresentCount() + counter.getLateCount();
+            long total = attended + counter.getAbsentCount() + counter.getEarlyLeaveCount() + counter.getExcusedCount();
+            return new Standing(counter.getUserId(), attended, total, counter.getStudyMinutes());
+        }
+
+        public double attendanceRate() {
+            return total > 0 ? (double) attended / total * 100 : 0.0;
+        }
+
+        // 기록이 없으면 출석률 0으로 비교
+        private long rateDenominator() {
+            return total > 0 ? total : 1;
+        }
+    }
+
+    public record RankedStanding(int rank, Standing standing) {
+    }
+
+    /**
+     * 한 그룹의 순위표 - 트립의 각 노드가 서브트리 크기를 보관하여 순위를 로그 시간에 계산
+     */
+    static class GroupLeaderboard {
+
+        private final Map<Long, Standing> standingsByUser = new HashMap<>();
+        private Node root;
+
+        synchronized void put(Standing standing) {
+            Standing previous = standingsByUser.put(standing.userId(), standing);
+            if (previous != null) {
+                root = delete(root, previous);
+            }
+            root = insert(root, new Node(standing));
+        }
+
+        synchronized List<RankedStanding> top(int limit) {
+            List<RankedStanding> result = new ArrayList<>(Math.min(limit, size(root)));
+            collect(root, limit, result);
+            return result;
+        }
+
+        synchronized Optional<RankedStanding> rankOf(Long userId) {
+            Standing standing = standingsByUser.get(userId);
+            if (standing == null) {
+                return Optional.empty();
+            }
+
+            int before = 0;
+            Node node = root;
+            while (node != null) {
+                int cmp = RANKING.compare(standing, node.standing);
+                if (cmp == 0) {
+                    before += size(node.left);
+                    break;
+                }
+                if (cmp < 0) {
+                    node = node.left;
+                } else {
+                    before += size(node.left) + 1;
+                    node = node.right;
+                }
+            }
+            return Optional.of(new RankedStanding(before + 1, standing));
+        }
+
+        synchronized int size() {
+            return size(root);
+        }
+
+        private static void collect(Node node, int limit, List<RankedStanding> result) {
+            if (node == null || result.size() >= limit) {
+                return;
+            }
+            collect(node.left, limit, result);
+            if (result.size() < limit) {
+                result.add(new RankedStanding(result.size() + 1, node.standing));
+                collect(node.right, limit, result);
+            }
+        }
+
+        private static Node insert(Node node, Node inserted) {
+            if (node == null) {
+                return inserted;
+            }
+            if (inserted.priority > node.priority) {
+                Node[] parts = split(node, inserted.standing);
+                inserted.left = parts[0];
+                inserted.right = parts[1];
+                return update(inserted);
+            }
+            if (RANKING.compare(inserted.standing, node.standing) < 0) {
+                node.left = insert(node.left, inserted);
+            } else {
+                node.right = insert(node.right, inserted);
+            }
+            return update(node);
+        }
+
+        private static Node delete(Node node, Standing standing) {
+            if (node == null) {
+                return null;
+            }
+            int cmp = RANKING.compare(standing, node.standing);
+            if (cmp == 0) {
+                return merge(node.left, node.right);
+            }
+            if (cmp < 0) {
+                node.left = delete(node.left, standing);
+            } else {
+                node.right = delete(node.right, standing);
+            }
+            return update(node);
+        }
+
+        // standing보다 앞 순위인 노드와 나머지로 분할
+        private static Node[] split(Node node, Standing standing) {
+            if (node == null) {
+                return new Node[]{null, null};
+            }
+            if (RANKING.compare(node.standing, standing) < 0) {
+                Node[] parts = split(node.right, standing);
+                node.right = parts[0];
+                return new Node[]{update(node), parts[1]};
+            }
+            Node[] parts = split(node.left, standing);
+            node.left = parts[1];
+            return new Node[]{parts[0], update(node)};
+        }
+
+        private static Node merge(Node left, Node right) {
+            if (left == null || right == null) {
+                return left != null ? left : right;
+            }
+            if (left.priority > right.priority) {
+                left.right = merge(left.right, right);
+                return update(left);
+            }
+            right.left = merge(left, right.left);
+            return update(right);
+        }
+
+        private static Node update(Node node) {
+            node.size = 1 + size(node.left) + size(node.right);
+            return node;
+        }
+
+        private static int size(Node node) {
+            return node != null ? node.size : 0;
+        }
+
+        private static class Node {
+            private final Standing standing;
+            private final int priority = ThreadLocalRandom.current().nextInt();
+            private int size = 1;
+            private Node left;
+            private Node right;
+
+            Node(Standing standing) {
+                this.standing = standing;
+            }
+        }
+    }
+}
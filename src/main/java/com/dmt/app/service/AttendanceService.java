@@ -2,23 +2,36 @@ package com.dmt.app.service;
 
 import com.dmt.app.dto.AttendanceDto;
 import com.dmt.app.entity.Attendance;
+import com.dmt.app.entity.MemberAttendanceCounter;
 import com.dmt.app.entity.StudyGroupMember;
 import com.dmt.app.entity.StudySession;
 import com.dmt.app.entity.User;
+import com.dmt.app.repository.AttendanceBatchRepository;
 import com.dmt.app.repository.AttendanceRepository;
+import com.dmt.app.repository.MemberAttendanceCounterRepository;
 import com.dmt.app.repository.StudyGroupMemberRepository;
 import com.dmt.app.repository.StudySessionRepository;
 import com.dmt.app.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -26,10 +39,20 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AttendanceService {
     
+    // 일괄 출석 체크 한 번에 처리하는 최대 인원
+    private static final int MAX_BULK_CHECK_IN_ITEMS = 200;
+    
     private final AttendanceRepository attendanceRepository;
     private final StudySessionRepository studySessionRepository;
     private final UserRepository userRepository;
     private final StudyGroupMemberRepository studyGroupMemberRepository;
+    private final AttendanceCounterService attendanceCounterService;
+    private final MemberAttendanceCounterRepository memberAttendanceCounterRepository;
+    private final AttendanceLeaderboard attendanceLeaderboard;
+    private final AttendanceBatchRepository attendanceBatchRepository;
+    private final AttendanceHistogramService attendanceHistogramService;
+    private final AttendanceStatsService attendanceStatsService;
+    private final EntityManager entityManager;
     
     @Transactional
     public AttendanceDto.Response createAttendance(AttendanceDto.CreateRequest request) {
@@ -41,46 +64,282 @@ public class AttendanceService {
         StudySession studySession = studySessionRepository.findById(request.getStudySessionId())
                 .orElseThrow(() -> new IllegalArgumentException("스터디 세션을 찾을 수 없습니다."));
         
-        // 이미 출석 기록이 있는지 확인
-        Optional<Attendance> existingAttendance = attendanceRepository.findByUserIdAndStudySessionId(
-                request.getUserId(), request.getStudySessionId());
+        Attendance attendance = Attendance.builder()
+                .user(user)
+                .studySession(studySession)
+                .note(request.getNote())
+                .build();
+        // 출석 상태에 따른 시간 설정
+        checkIn(attendance, request.getStatus(), LocalDateTime.now());
         
-        if (existingAttendance.isPresent()) {
+        // 확인과 삽입을 MERGE 한 문장으로 처리 - 삽입되지 않았거나 동시에 삽입되어 유니크 제약에 걸리면 이미 출석 기록이 있음
+        // (사용자/세션 삭제 등 다른 무결성 오류는 그대로 전파)
+        int[] inserted;
+        try {
+            inserted = attendanceBatchRepository.insertAttendancesIfAbsent(List.of(attendance), LocalDateTime.now());
+        } catch (DuplicateKeyException e) {
+            inserted = new int[] {0};
+        }
+        if (inserted[0] == 0) {
             throw new IllegalArgumentException("이미 출석 기록이 존재합니다.");
         }
+        Attendance savedAttendance = attendanceRepository.findByUserIdAndStudySessionId(user.getId(), studySession.getId())
+                .orElseThrow(() -> new IllegalStateException("저장한 출석 기록을 찾을 수 없습니다."));
+        attendanceCounterService.add(user.getId(), studySession.getStudyGroup().getId(),
+                AttendanceCounterService.Delta.of(savedAttendance));
+        attendanceHistogramService.apply(List.of(), AttendanceHistogramService.Observation.of(List.of(savedAttendance)));
+        attendanceStatsService.attendancesChanged(List.of(studySession.getId()));
+        log.info("출석 기록이 생성되었습니다: {} - {}", user.getNickname(), studySession.getSessionName());
         
-        // 출석 상태에 따른 시간 설정
-        LocalDateTime arrivalTime = null;
-        LocalDateTime departureTime = null;
-        Integer lateMinutes = null;
-        Integer earlyLeaveMinutes = null;
+        return AttendanceDto.Response.from(savedAttendance);
+    }
+    
+    // 본인 출석 체크 (버퍼를 거치지 않는 경로) - 활성 멤버인지 확인 후 출석 기록 생성
+    @Transactional
+    public AttendanceDto.Response selfCheckIn(Long sessionId, Long userId, String note) {
+        StudySession studySession = studySessionRepository.findById(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("스터디 세션을 찾을 수 없습니다."));
+        studyGroupMemberRepository.findByUserIdAndStudyGroupId(userId, studySession.getStudyGroup().getId())
+                .filter(StudyGroupMember::getIsActive)
+                .orElseThrow(() -> new IllegalArgumentException("스터디 그룹의 활성 멤버가 아닙니다."));
         
-        if (request.getStatus() == Attendance.AttendanceStatus.PRESENT) {
-            arrivalTime = LocalDateTime.now();
-            // 지각 여부 계산
-            if (arrivalTime.isAfter(studySession.getStartTime())) {
-                lateMinutes = (int) ChronoUnit.MINUTES.between(studySession.getStartTime(), arrivalTime);
+        return createAttendance(AttendanceDto.CreateRequest.builder()
+                .userId(userId)
+                .studySessionId(sessionId)
+                .status(Attendance.AttendanceStatus.PRESENT)
+                .note(note)
+                .build());
+    }
+    
+    // 버퍼에 쌓인 본인 출석 체크 저장 - MERGE 배치로 저장하고, 그 사이 자동 결석 처리가 넣은 결석 기록은 출석 체크로 교체하며
+    // 그 밖의 기존 출석 기록이 있는 사용자는 건너뜀
+    @Transactional
+    public int saveBufferedCheckIns(Long sessionId, List<CheckInBuffer.PendingCheckIn> checkIns) {
+        StudySession studySession = studySessionRepository.findById(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("스터디 세션을 찾을 수 없습니다."));
+        
+        List<Attendance> attendances = new ArrayList<>();
+        for (CheckInBuffer.PendingCheckIn checkIn : checkIns) {
+            Attendance attendance = Attendance.builder()
+                    .user(userRepository.getReferenceById(checkIn.userId()))
+                    .studySession(studySession)
+                    .note(checkIn.note())
+                    .build();
+            checkIn(attendance, Attendance.AttendanceStatus.PRESENT, checkIn.arrivalTime());
+            attendances.add(attendance);
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        int[] inserted = attendanceBatchRepository.insertAttendancesIfAbsent(attendances, now);
+        List<Attendance> insertedAttendances = new ArrayList<>();
+        List<Attendance> existing = new ArrayList<>();
+        Map<Long, AttendanceCounterService.Delta> deltas = new HashMap<>();
+        for (int i = 0; i < attendances.size(); i++) {
+            if (inserted[i] != 0) {
+                insertedAttendances.add(attendances.get(i));
+                deltas.put(attendances.get(i).getUser().getId(), AttendanceCounterService.Delta.of(attendances.get(i)));
+            } else {
+                existing.add(attendances.get(i));
+            }
+        }
+        if (!existing.isEmpty()) {
+            // 출석 체크를 접수한 뒤 자동 결석 처리가 먼저 결석으로 넣은 행은 출석 체크로 교체
+            int[] replaced = attendanceBatchRepository.replaceAbsencePlaceholders(existing, now);
+            AttendanceCounterService.Delta absence = AttendanceCounterService.Delta.of(Attendance.builder()
+                    .studySession(studySession)
+                    .status(Attendance.AttendanceStatus.ABSENT)
+                    .build());
+            for (int i = 0; i < existing.size(); i++) {
+                if (replaced[i] != 0) {
+                    insertedAttendances.add(existing.get(i));
+                    deltas.put(existing.get(i).getUser().getId(),
+                            AttendanceCounterService.Delta.of(existing.get(i)).minus(absence));
+                }
             }
-        } else if (request.getStatus() == Attendance.AttendanceStatus.LATE) {
-            arrivalTime = LocalDateTime.now();
-            lateMinutes = (int) ChronoUnit.MINUTES.between(studySession.getStartTime(), arrivalTime);
+        }
+        attendanceCounterService.addAll(studySession.getStudyGroup().getId(), deltas);
+        attendanceHistogramService.apply(List.of(), AttendanceHistogramService.Observation.of(insertedAttendances));
+        if (!deltas.isEmpty()) {
+            attendanceStatsService.attendancesChanged(List.of(sessionId));
+        }
+        if (deltas.size() < checkIns.size()) {
+            // 버퍼에 담은 뒤 다른 경로로 출석 기록이 생긴 경우 (버퍼 응답과 다른 기존 기록이 유지됨)
+            List<Long> skippedUserIds = checkIns.stream()
+                    .map(CheckInBuffer.PendingCheckIn::userId)
+                    .filter(userId -> !deltas.containsKey(userId))
+                    .collect(Collectors.toList());
+            log.warn("이미 출석 기록이 있어 버린 출석 체크: {} - 사용자 {}", studySession.getSessionName(), skippedUserIds);
+        }
+        return deltas.size();
+    }
+    
+    // 세션 일괄 출석 체크 (그룹 리더용) - 멤버 확인과 기존 기록 조회를 한 번씩 하고 JDBC 배치로 저장, 행별 결과 반환
+    @Transactional
+    public AttendanceDto.BulkCheckInResponse bulkCheckIn(Long sessionId, Long leaderId, AttendanceDto.BulkCheckInRequest request) {
+        List<AttendanceDto.BulkCheckInItem> items = request.getItems() != null ? request.getItems() : List.of();
+        if (items.size() > MAX_BULK_CHECK_IN_ITEMS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_CHECK_IN_ITEMS + "명까지 출석 체크할 수 있습니다.");
         }
         
-        Attendance attendance = Attendance.builder()
-                .user(user)
-                .studySession(studySession)
-                .status(request.getStatus())
-                .arrivalTime(arrivalTime)
-                .departureTime(departureTime)
-                .lateMinutes(lateMinutes)
-                .earlyLeaveMinutes(earlyLeaveMinutes)
-                .note(request.getNote())
-                .build();
+        StudySession studySession = studySessionRepository.findById(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("스터디 세션을 찾을 수 없습니다."));
+        Long groupId = studySession.getStudyGroup().getId();
+        StudyGroupMember leader = studyGroupMemberRepository.findByUserIdAndStudyGroupId(leaderId, groupId)
+                .orElseThrow(() -> new IllegalArgumentException("권한이 없습니다."));
+        if (leader.getRole() != StudyGroupMember.MemberRole.LEADER) {
+            throw new IllegalArgumentException("그룹 리더만 일괄 출석 체크할 수 있습니다.");
+        }
         
-        Attendance savedAttendance = attendanceRepository.save(attendance);
-        log.info("출석 기록이 생성되었습니다: {} - {}", user.getNickname(), studySession.getSessionName());
+        Set<Long> userIds = items.stream()
+                .map(AttendanceDto.BulkCheckInItem::getUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> memberIds = userIds.isEmpty() ? Set.of()
+                : new HashSet<>(studyGroupMemberRepository.findActiveUserIdsByStudyGroupIdAndUserIds(groupId, userIds));
+        Map<Long, Attendance> existingByUser = userIds.isEmpty() ? Map.of()
+                : attendanceRepository.findByStudySessionIdAndUserIdInForUpdate(sessionId, userIds).stream()
+                        .collect(Collectors.toMap(attendance -> attendance.getUser().getId(), attendance -> attendance));
         
-        return AttendanceDto.Response.from(savedAttendance);
+        LocalDateTime now = LocalDateTime.now();
+        List<AttendanceDto.BulkCheckInResult> results = new ArrayList<>();
+        Map<Long, AttendanceDto.BulkCheckInResult> resultsByUser = new HashMap<>();
+        List<Attendance> toInsert = new ArrayList<>();
+        List<Attendance> toUpdate = new ArrayList<>();
+        Map<Long, AttendanceCounterService.Delta> deltas = new HashMap<>();
+        Map<Long, List<AttendanceHistogramService.Observation>> observedBefore = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (AttendanceDto.BulkCheckInItem item : items) {
+            String error = item.getUserId() == null ? "사용자 ID가 없습니다."
+                    : item.getStatus() == null ? "출석 상태가 없습니다."
+                    : !seen.add(item.getUserId()) ? "같은 사용자가 중복되었습니다."
+                    : !memberIds.contains(item.getUserId()) ? "스터디 그룹의 활성 멤버가 아닙니다."
+                    : null;
+            if (error != null) {
+                results.add(AttendanceDto.BulkCheckInResult.builder()
+                        .userId(item.getUserId())
+                        .status(item.getStatus())
+                        .outcome(AttendanceDto.BulkCheckInOutcome.FAILED)
+                        .message(error)
+                        .build());
+                continue;
+            }
+            
+            Attendance existing = existingByUser.get(item.getUserId());
+            Attendance attendance;
+            if (existing != null) {
+                AttendanceCounterService.Delta before = AttendanceCounterService.Delta.of(existing);
+                observedBefore.put(item.getUserId(), AttendanceHistogramService.Observation.of(List.of(existing)));
+                attendance = existing;
+                if (item.getStatus() != existing.getStatus()) {
+                    checkIn(attendance, item.getStatus(), now);
+                }
+                attendance.setNote(item.getNote());
+                toUpdate.add(attendance);
+                deltas.put(item.getUserId(), AttendanceCounterService.Delta.of(attendance).minus(before));
+            } else {
+                attendance = Attendance.builder()
+                        .user(userRepository.getReferenceById(item.getUserId()))
+                        .studySession(studySession)
+                        .note(item.getNote())
+                        .build();
+                checkIn(attendance, item.getStatus(), now);
+                toInsert.add(attendance);
+                deltas.put(item.getUserId(), AttendanceCounterService.Delta.of(attendance));
+            }
+            AttendanceDto.BulkCheckInResult result = AttendanceDto.BulkCheckInResult.builder()
+                    .userId(item.getUserId())
+                    .attendanceId(attendance.getId())
+                    .status(attendance.getStatus())
+                    .outcome(existing != null ? AttendanceDto.BulkCheckInOutcome.UPDATED : AttendanceDto.BulkCheckInOutcome.CREATED)
+                    .build();
+            results.add(result);
+            resultsByUser.put(item.getUserId(), result);
+        }
+        
+        // 변경된 기존 엔티티가 JPA로 다시 저장되지 않도록 영속성 컨텍스트에서 분리
+        toUpdate.forEach(entityManager::detach);
+        // 기존 행은 잠가 두었으므로 그대로 수정되고, 조회 이후 다른 요청이 생성한 행은 실패로 돌려 누적 출석 수에서 제외
+        int updatedCount = applyWriteCounts(toUpdate, attendanceBatchRepository.updateAttendances(toUpdate, now),
+                resultsByUser, deltas, "출석 기록을 찾을 수 없습니다.");
+        int createdCount = applyWriteCounts(toInsert, attendanceBatchRepository.insertAttendancesIfAbsent(toInsert, now),
+                resultsByUser, deltas, "이미 출석 기록이 존재합니다.");
+        attendanceCounterService.addAll(groupId, deltas);
+        // 실제로 반영된 행만 분포에 반영 (실패한 행은 applyWriteCounts에서 deltas에서 제외됨)
+        attendanceHistogramService.apply(
+                observedBefore.entrySet().stream()
+                        .filter(entry -> deltas.containsKey(entry.getKey()))
+                        .flatMap(entry -> entry.getValue().stream())
+                        .collect(Collectors.toList()),
+                AttendanceHistogramService.Observation.of(Stream.concat(toUpdate.stream(), toInsert.stream())
+                        .filter(attendance -> deltas.containsKey(attendance.getUser().getId()))
+                        .collect(Collectors.toList())));
+        if (!deltas.isEmpty()) {
+            attendanceStatsService.attendancesChanged(List.of(sessionId));
+        }
+        
+        if (createdCount > 0) {
+            Map<Long, Long> insertedIds = attendanceRepository.findIdsBySessionIdAndUserIds(sessionId,
+                            toInsert.stream().map(attendance -> attendance.getUser().getId()).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(AttendanceRepository.UserAttendanceId::getUserId,
+                            AttendanceRepository.UserAttendanceId::getAttendanceId));
+            results.stream()
+                    .filter(result -> result.getOutcome() == AttendanceDto.BulkCheckInOutcome.CREATED)
+                    .forEach(result -> result.setAttendanceId(insertedIds.get(result.getUserId())));
+        }
+        
+        int failedCount = items.size() - createdCount - updatedCount;
+        log.info("일괄 출석 체크 완료: {} - 생성 {}건, 수정 {}건, 실패 {}건",
+                studySession.getSessionName(), createdCount, updatedCount, failedCount);
+        
+        return AttendanceDto.BulkCheckInResponse.builder()
+                .studySessionId(sessionId)
+                .createdCount(createdCount)
+                .updatedCount(updatedCount)
+                .failedCount(failedCount)
+                .results(results)
+                .build();
+    }
+    
+    // 반영되지 않은 행(수 0)을 실패로 바꾸고 반영된 행 수 반환
+    private static int applyWriteCounts(List<Attendance> attendances, int[] counts,
+                                        Map<Long, AttendanceDto.BulkCheckInResult> resultsByUser,
+                                        Map<Long, AttendanceCounterService.Delta> deltas, String failureMessage) {
+        int appliedCount = 0;
+        for (int i = 0; i < attendances.size(); i++) {
+            Long userId = attendances.get(i).getUser().getId();
+            if (counts[i] != 0) {
+                appliedCount++;
+                continue;
+            }
+            AttendanceDto.BulkCheckInResult result = resultsByUser.get(userId);
+            result.setAttendanceId(null);
+            result.setOutcome(AttendanceDto.BulkCheckInOutcome.FAILED);
+            result.setMessage(failureMessage);
+            deltas.remove(userId);
+        }
+        return appliedCount;
+    }
+    
+    // 출석 상태에 따른 도착/지각 시간 설정 (출석, 지각 외에는 시간 정보 없음)
+    private static void checkIn(Attendance attendance, Attendance.AttendanceStatus status, LocalDateTime now) {
+        StudySession studySession = attendance.getStudySession();
+        attendance.setStatus(status);
+        attendance.setArrivalTime(null);
+        attendance.setDepartureTime(null);
+        attendance.setLateMinutes(null);
+        attendance.setEarlyLeaveMinutes(null);
+        
+        if (status == Attendance.AttendanceStatus.PRESENT) {
+            attendance.setArrivalTime(now);
+            // 지각 여부 계산
+            if (now.isAfter(studySession.getStartTime())) {
+                attendance.setLateMinutes((int) ChronoUnit.MINUTES.between(studySession.getStartTime(), now));
+            }
+        } else if (status == Attendance.AttendanceStatus.LATE) {
+            attendance.setArrivalTime(now);
+            attendance.setLateMinutes((int) ChronoUnit.MINUTES.between(studySession.getStartTime(), now));
+        }
     }
     
     public AttendanceDto.Response getAttendanceById(Long attendanceId) {
@@ -96,6 +355,10 @@ public class AttendanceService {
                 .collect(Collectors.toList());
     }
     
+    public boolean hasAttendance(Long sessionId, Long userId) {
+        return attendanceRepository.existsByUserIdAndStudySessionId(userId, sessionId);
+    }
+    
     public List<AttendanceDto.Response> getAttendancesByStudySessionId(Long sessionId) {
         return attendanceRepository.findByStudySessionId(sessionId).stream()
                 .map(AttendanceDto.Response::from)
@@ -110,7 +373,8 @@ public class AttendanceService {
     
     @Transactional
     public AttendanceDto.Response updateAttendance(Long attendanceId, Long userId, AttendanceDto.UpdateRequest request) {
-        Attendance attendance = attendanceRepository.findById(attendanceId)
+        // 변경 전 값으로 누적 출석 수 변경분을 계산하므로 커밋까지 행을 잠금
+        Attendance attendance = attendanceRepository.findByIdForUpdate(attendanceId)
                 .orElseThrow(() -> new IllegalArgumentException("출석 기록을 찾을 수 없습니다."));
         
         // 본인 또는 그룹 리더만 수정 가능
@@ -123,6 +387,11 @@ public class AttendanceService {
                 throw new IllegalArgumentException("본인 또는 그룹 리더만 출석 기록을 수정할 수 있습니다.");
             }
         }
+        // 직접 수정한 기록은 버퍼의 출석 체크로 교체하지 않음
+        attendance.setAbsenceRunId(null);
+        
+        AttendanceCounterService.Delta before = AttendanceCounterService.Delta.of(attendance);
+        List<AttendanceHistogramService.Observation> observedBefore = AttendanceHistogramService.Observation.of(List.of(attendance));
         
         // 출석 상태 변경 시 시간 재계산
         if (request.getStatus() != attendance.getStatus()) {
@@ -153,6 +422,10 @@ public class AttendanceService {
         attendance.setNote(request.getNote());
         
         Attendance updatedAttendance = attendanceRepository.save(attendance);
+        attendanceCounterService.add(attendance.getUser().getId(), attendance.getStudySession().getStudyGroup().getId(),
+                AttendanceCounterService.Delta.of(updatedAttendance).minus(before));
+        attendanceHistogramService.apply(observedBefore, AttendanceHistogramService.Observation.of(List.of(updatedAttendance)));
+        attendanceStatsService.attendancesChanged(List.of(attendance.getStudySession().getId()));
         log.info("출석 기록이 수정되었습니다: {}", updatedAttendance.getId());
         
         return AttendanceDto.Response.from(updatedAttendance);
@@ -160,7 +433,8 @@ public class AttendanceService {
     
     @Transactional
     public void deleteAttendance(Long attendanceId, Long userId) {
-        Attendance attendance = attendanceRepository.findById(attendanceId)
+        // 변경 전 값으로 누적 출석 수 변경분을 계산하므로 커밋까지 행을 잠금
+        Attendance attendance = attendanceRepository.findByIdForUpdate(attendanceId)
                 .orElseThrow(() -> new IllegalArgumentException("출석 기록을 찾을 수 없습니다."));
         
         // 본인 또는 그룹 리더만 삭제 가능
@@ -175,39 +449,79 @@ public class AttendanceService {
         }
         
         attendanceRepository.delete(attendance);
+        attendanceCounterService.add(attendance.getUser().getId(), attendance.getStudySession().getStudyGroup().getId(),
+                AttendanceCounterService.Delta.of(attendance).negate());
+        attendanceHistogramService.apply(AttendanceHistogramService.Observation.of(List.of(attendance)), List.of());
+        attendanceStatsService.attendancesChanged(List.of(attendance.getStudySession().getId()));
         log.info("출석 기록이 삭제되었습니다: {}", attendanceId);
     }
     
-    // 출석률 통계 계산
+    // 출석률 통계 계산 - 출석 기록 변경 시 함께 갱신되는 누적 출석 수를 기본 키로 조회
     public AttendanceDto.AttendanceSummary getAttendanceSummary(Long userId, Long groupId) {
-        List<Attendance> attendances = attendanceRepository.findByStudyGroupIdAndUserId(groupId, userId);
-        
-        long totalSessions = attendances.size();
-        long presentCount = attendances.stream()
-                .filter(a -> a.getStatus() == Attendance.AttendanceStatus.PRESENT)
-                .count();
-        long absentCount = attendances.stream()
-                .filter(a -> a.getStatus() == Attendance.AttendanceStatus.ABSENT)
-                .count();
-        long lateCount = attendances.stream()
-                .filter(a -> a.getStatus() == Attendance.AttendanceStatus.LATE)
-                .count();
-        long earlyLeaveCount = attendances.stream()
-                .filter(a -> a.getStatus() == Attendance.AttendanceStatus.EARLY_LEAVE)
-                .count();
-        long excusedCount = attendances.stream()
-                .filter(a -> a.getStatus() == Attendance.AttendanceStatus.EXCUSED)
-                .count();
+        MemberAttendanceCounter counter = attendanceCounterService.getCounter(userId, groupId);
         
-        double attendanceRate = totalSessions > 0 ? 
-                (double) (presentCount + lateCount) / totalSessions * 100 : 0.0;
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         
+        return toSummary(userId, user.getNickname(), counter.getPresentCount(), counter.getAbsentCount(),
+                counter.getLateCount(), counter.getEarlyLeaveCount(), counter.getExcusedCount());
+    }
+    
+    // 그룹 전체 멤버의 출석률 통계 - 활성 멤버와 닉네임, 누적 출석 수를 한 번의 조회로 가져옴
+    public List<AttendanceDto.AttendanceSummary> getGroupAttendanceSummaries(Long groupId) {
+        return memberAttendanceCounterRepository.findGroupSummaries(groupId).stream()
+                .map(summary -> toSummary(summary.getUserId(), summary.getUserNickname(), summary.getPresentCount(),
+                        summary.getAbsentCount(), summary.getLateCount(), summary.getEarlyLeaveCount(),
+                        summary.getExcusedCount()))
+                .collect(Collectors.toList());
+    }
+    
+    // 그룹 출석 순위 상위 limit명
+    public List<AttendanceDto.LeaderboardEntry> getLeaderboard(Long groupId, int limit) {
+        List<AttendanceLeaderboard.RankedStanding> ranked = attendanceLeaderboard.top(groupId, limit);
+        Map<Long, String> nicknames = userRepository.findAllById(ranked.stream()
+                        .map(entry -> entry.standing().userId())
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+        
+        return ranked.stream()
+                .map(entry -> toLeaderboardEntry(entry, nicknames.get(entry.standing().userId())))
+                .collect(Collectors.toList());
+    }
+    
+    // 그룹 내 사용자의 출석 순위
+    public AttendanceDto.LeaderboardEntry getLeaderboardRank(Long groupId, Long userId) {
+        AttendanceLeaderboard.RankedStanding ranked = attendanceLeaderboard.rankOf(groupId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("출석 기록이 없어 순위를 계산할 수 없습니다."));
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         
+        return toLeaderboardEntry(ranked, user.getNickname());
+    }
+    
+    private static AttendanceDto.LeaderboardEntry toLeaderboardEntry(AttendanceLeaderboard.RankedStanding ranked,
+                                                                     String nickname) {
+        AttendanceLeaderboard.Standing standing = ranked.standing();
+        return AttendanceDto.LeaderboardEntry.builder()
+                .rank(ranked.rank())
+                .userId(standing.userId())
+                .userNickname(nickname)
+                .totalSessions(standing.total())
+                .attendanceRate(Math.round(standing.attendanceRate() * 100.0) / 100.0)
+                .studyMinutes(standing.studyMinutes())
+                .build();
+    }
+    
+    private static AttendanceDto.AttendanceSummary toSummary(Long userId, String nickname, long presentCount,
+                                                             long absentCount, long lateCount, long earlyLeaveCount,
+                                                             long excusedCount) {
+        long totalSessions = presentCount + absentCount + lateCount + earlyLeaveCount + excusedCount;
+        double attendanceRate = totalSessions > 0 ? 
+                (double) (presentCount + lateCount) / totalSessions * 100 : 0.0;
+        
         return AttendanceDto.AttendanceSummary.builder()
                 .userId(userId)
-                .userNickname(user.getNickname())
+                .userNickname(nickname)
                 .totalSessions(totalSessions)
                 .presentCount(presentCount)
                 .absentCount(absentCount)
@@ -218,32 +532,40 @@ public class AttendanceService {
                 .build();
     }
     
-    // 자동 출석 체크 (스케줄러용)
-    @Transactional
-    public void checkAttendanceForCurrentSessions() {
-        List<StudySession> currentSessions = studySessionRepository.findCurrentSessions(LocalDateTime.now());
+    // 누적 출석 수 재생성 (관리자용) - 누적 출석 수 도입 이전 기록 반영 또는 불일치 복구
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAttendanceCounters(Long userId, Long groupId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        if (user.getRole() != User.UserRole.ADMIN) {
+            throw new IllegalArgumentException("관리자만 누적 출석 수를 재생성할 수 있습니다.");
+        }
         
-        for (StudySession session : currentSessions) {
-            // 그룹의 모든 활성 멤버에 대해 출석 체크
-            List<StudyGroupMember> activeMembers = studyGroupMemberRepository.findByStudyGroupIdAndIsActiveTrue(session.getStudyGroup().getId());
-            
-            for (StudyGroupMember member : activeMembers) {
-                // 이미 출석 기록이 있는지 확인
-                Optional<Attendance> existingAttendance = attendanceRepository.findByUserIdAndStudySessionId(
-                        member.getUser().getId(), session.getId());
-                
-                if (existingAttendance.isEmpty()) {
-                    // 자동으로 결석 처리
-                    Attendance attendance = Attendance.builder()
-                            .user(member.getUser())
-                            .studySession(session)
-                            .status(Attendance.AttendanceStatus.ABSENT)
-                            .build();
-                    
-                    attendanceRepository.save(attendance);
-                    log.info("자동 출석 체크: {} - {} (결석)", member.getUser().getNickname(), session.getSessionName());
-                }
-            }
+        log.info("누적 출석 수 재생성 시작: {} (그룹: {})", user.getNickname(), groupId != null ? groupId : "전체");
+        return attendanceCounterService.rebuild(groupId);
+    }
+    
+    // 자동 출석 체크 대상 세션 (스케줄러용, 그룹별) - 처리 이후 새로 참여한 멤버가 없는 세션은 제외
+    public Map<Long, List<Long>> findSessionsToCheckAbsencesByGroup() {
+        return studySessionRepository.findSessionsToCheckAbsences(LocalDateTime.now()).stream()
+                .collect(Collectors.groupingBy(StudySessionRepository.SessionGroup::getStudyGroupId,
+                        Collectors.mapping(StudySessionRepository.SessionGroup::getSessionId, Collectors.toList())));
+    }
+    
+    // 자동 출석 체크 (스케줄러용) - 출석 기록이 없는 활성 멤버를 한 번의 INSERT ... SELECT로 결석 처리
+    @Transactional
+    public int markAbsences(List<Long> sessionIds) {
+        // 삽입한 행은 실행 ID로 다시 찾음 (같은 시각에 다른 경로로 쓰인 결석 기록과 구분)
+        String runId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        int absentCount = attendanceRepository.insertMissingAttendances(sessionIds,
+                Attendance.AttendanceStatus.ABSENT.name(), runId, now);
+        if (absentCount > 0) {
+            attendanceCounterService.addInsertedAbsences(sessionIds, runId);
+            attendanceStatsService.attendancesChanged(sessionIds);
         }
+        studySessionRepository.markAbsencesChecked(sessionIds, now);
+        log.info("자동 출석 체크: 세션 {}개, 결석 처리 {}건", sessionIds.size(), absentCount);
+        return absentCount;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,206 @@
+package com.dmt.app.service;
+
+import com.dmt.app.entity.AttendanceDailyStat;
+import com.dmt.app.entity.RollupWatermark;
+import com.dmt.app.repository.AttendanceDailyStatRepository;
+import com.dmt.app.repository.AttendanceRepository;
+import com.dmt.app.repository.RollupWatermarkRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 일별 출석 통계 집계
+ * 워터마크(마지막으로 반영한 세션의 완료 시각과 ID) 이후 완료된 세션만 읽어 통계에 누적하므로
+ * 집계 비용은 전체 이력이 아니라 새로 완료된 세션 수에 비례합니다.
+ * 완료 후 출석 기록이 바뀐 세션은 표시해 두었다가 해당 그룹의 그날 통계만 다시 계산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class AttendanceStatsService {
+
+    static final String WATERMARK_NAME = "attendance_daily_stats";
+
+    // 한 트랜잭션에서 반영하는 최대 세션 수
+    private static final int BATCH_SIZE = 500;
+
+    // 완료 처리 트랜잭션이 커밋되기 전에 워터마크가 지나가지 않도록 두는 여유 시간
+    private static final Duration COMMIT_LAG = Duration.ofMinutes(1);
+
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final AttendanceDailyStatRepository attendanceDailyStatRepository;
+    private final RollupWatermarkRepository rollupWatermarkRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final StudySessionRepository studySessionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 출석 기록 변경 표시 - 완료된 세션이면 다음 집계에서 해당 그룹의 그날 통계를 다시 계산
+     */
+    @Transactional
+    public void attendancesChanged(Collection<Long> sessionIds) {
+        studySessionRepository.markStatsChanged(sessionIds, LocalDateTime.now());
+    }
+
+    /**
+     * 워터마크 이후 완료된 세션의 출석 기록을 일별 통계에 반영 (배치마다 통계와 워터마크를 함께 커밋)
+     * 이어서 완료 후 출석 기록이 바뀐 세션의 그룹별 일자 통계를 다시 계산합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rollupCompletedSessions() {
+        LocalDateTime until = LocalDateTime.now().minus(COMMIT_LAG);
+        int total = 0;
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> rollupBatch(until));
+            total += processed != null ? processed : 0;
+            if (processed == null || processed < BATCH_SIZE) {
+                break;
+            }
+        }
+        int rerolledDays = rerollChangedSessions(until);
+        log.info("일별 출석 통계 집계 완료: 세션 {}개, 재집계 {}일", total, rerolledDays);
+        return total;
+    }
+
+    /**
+     * 완료 후 출석 기록이 바뀐 세션이 속한 (그룹, 일자)의 통계를 워터마크까지 집계된 세션으로 다시 계산
+     * 재계산은 반복해도 결과가 같으므로, until 이후 표시된 세션은 커밋이 늦을 수 있어 표시를 남겨 다음 집계에서 다시 계산합니다.
+     */
+    private int rerollChangedSessions(LocalDateTime until) {
+        List<StudySessionRepository.StatsChangedSession> changed = studySessionRepository
+                .findStatsChangedSessions(PageRequest.of(0, BATCH_SIZE));
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Set<LocalDate>> datesByGroup = new HashMap<>();
+        for (StudySessionRepository.StatsChangedSession session : changed) {
+            datesByGroup.computeIfAbsent(session.getStudyGroupId(), id -> new HashSet<>())
+                    .add(session.getStartTime().toLocalDate());
+        }
+
+        int rerolledDays = 0;
+        for (Map.Entry<Long, Set<LocalDate>> entry : datesByGroup.entrySet()) {
+            for (LocalDate statDate : entry.getValue()) {
+                transactionTemplate.executeWithoutResult(status -> reroll(entry.getKey(), statDate));
+                rerolledDays++;
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> studySessionRepository.clearStatsChanged(changed.stream()
+                .map(StudySessionRepository.StatsChangedSession::getSessionId)
+                .collect(Collectors.toList()), until));
+        return rerolledDays;
+    }
+
+    private void reroll(Long groupId, LocalDate statDate) {
+        RollupWatermark watermark = currentWatermark();
+        List<Long> sessionIds = studySessionRepository.findRolledUpSessionIds(groupId, statDate.atStartOfDay(),
+                statDate.plusDays(1).atStartOfDay(), watermark.getWatermarkTime(), watermark.getWatermarkId());
+
+        // 새로 저장할 행과 유니크 키가 겹치므로 벌크 삭제로 먼저 지움
+        attendanceDailyStatRepository.deleteByGroupAndDate(groupId, statDate);
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+
+        Map<StatKey, AttendanceDailyStat> stats = new HashMap<>();
+        accumulateAll(stats, attendanceRepository.sumBySessionIds(sessionIds));
+        attendanceDailyStatRepository.saveAll(stats.values());
+    }
+
+    private int rollupBatch(LocalDateTime until) {
+        RollupWatermark watermark = currentWatermark();
+        List<StudySessionRepository.CompletedSession> sessions = studySessionRepository.findCompletedSessionsAfter(
+                watermark.getWatermarkTime(), watermark.getWatermarkId(), until, PageRequest.of(0, BATCH_SIZE));
+        if (sessions.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> sessionIds = sessions.stream()
+                .map(StudySessionRepository.CompletedSession::getSessionId)
+                .collect(Collectors.toList());
+        List<AttendanceRepository.DailyAttendanceTotals> totals = attendanceRepository.sumBySessionIds(sessionIds);
+
+        if (!totals.isEmpty()) {
+            Set<Long> groupIds = totals.stream()
+                    .map(AttendanceRepository.DailyAttendanceTotals::getStudyGroupId)
+                    .collect(Collectors.toSet());
+            Set<LocalDate> statDates = totals.stream()
+                    .map(AttendanceRepository.DailyAttendanceTotals::getStatDate)
+                    .collect(Collectors.toSet());
+            Map<StatKey, AttendanceDailyStat> stats = new HashMap<>();
+            for (AttendanceDailyStat stat : attendanceDailyStatRepository.findByStudyGroupIdInAndStatDateIn(groupIds, statDates)) {
+                stats.put(new StatKey(stat.getStatDate(), stat.getStudyGroupId(), stat.getUserId()), stat);
+            }
+
+            accumulateAll(stats, totals);
+            attendanceDailyStatRepository.saveAll(stats.values());
+        }
+
+        StudySessionRepository.CompletedSession last = sessions.get(sessions.size() - 1);
+        watermark.setWatermarkTime(last.getCompletedAt());
+        watermark.setWatermarkId(last.getSessionId());
+        watermark.setUpdatedAt(LocalDateTime.now());
+        rollupWatermarkRepository.save(watermark);
+        return sessions.size();
+    }
+
+    private RollupWatermark currentWatermark() {
+        return rollupWatermarkRepository.findById(WATERMARK_NAME)
+                .orElseGet(() -> RollupWatermark.builder()
+                        .name(WATERMARK_NAME)
+                        .watermarkTime(INITIAL_WATERMARK)
+                        .watermarkId(0L)
+                        .build());
+    }
+
+    // 사용자별 행과 그룹 전체 행에 함께 누적
+    private static void accumulateAll(Map<StatKey, AttendanceDailyStat> stats,
+                                      List<AttendanceRepository.DailyAttendanceTotals> totals) {
+        for (AttendanceRepository.DailyAttendanceTotals total : totals) {
+            accumulate(stats, new StatKey(total.getStatDate(), total.getStudyGroupId(), total.getUserId()), total);
+            accumulate(stats, new StatKey(total.getStatDate(), total.getStudyGroupId(), null), total);
+        }
+    }
+
+    private static void accumulate(Map<StatKey, AttendanceDailyStat> stats, StatKey key,
+                                   AttendanceRepository.DailyAttendanceTotals total) {
+        AttendanceDailyStat stat = stats.computeIfAbsent(key, k -> AttendanceDailyStat.builder()
+                .statDate(k.statDate())
+                .studyGroupId(k.studyGroupId())
+                .userId(k.userId())
+                .build());
+        long count = total.getAttendanceCount();
+        switch (total.getStatus()) {
+            case PRESENT -> stat.setPresentCount(stat.getPresentCount() + count);
+            case ABSENT -> stat.setAbsentCount(stat.getAbsentCount() + count);
+            case LATE -> stat.setLateCount(stat.getLateCount() + count);
+            case EARLY_LEAVE -> stat.setEarlyLeaveCount(stat.getEarlyLeaveCount() + count);
+            case EXCUSED -> stat.setExcusedCount(stat.getExcusedCount() + count);
+        }
+        stat.setLateMinutes(stat.getLateMinutes() + total.getLateMinutes());
+        stat.setEarlyLeaveMinutes(stat.getEarlyLeaveMinutes() + total.getEarlyLeaveMinutes());
+    }
+
+    private record StatKey(LocalDate statDate, Long studyGroupId, Long userId) {
+    }
+}
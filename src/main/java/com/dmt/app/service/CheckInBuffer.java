@@ -0,0 +1,175 @@
+package com.dmt.app.service;
+
+import com.dmt.app.dto.AttendanceDto;
+import com.dmt.app.entity.Attendance;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 본인 출석 체크 쓰기 지연 버퍼
+ * 세션 시작 직후 몰리는 본인 출석 체크를 제한 인덱스의 멤버 정보와 기존 출석 기록으로 확인한 뒤 버퍼에 담고 바로 응답하며,
+ * 버퍼에 쌓인 출석 체크는 주기적으로 세션별 JDBC 배치로 저장합니다.
+ * 버퍼에 담은 뒤 저장 전에 다른 경로로 출석 기록이 생기면 기존 기록을 유지하고 버린 출석 체크를 경고로 남깁니다.
+ * 저장 전에도 세션 출석 목록 조회에 포함되며, 종료 시 남은 출석 체크를 모두 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CheckInBuffer {
+
+    // 버퍼 최대 크기 (넘으면 바로 저장하는 경로로 처리)
+    private static final int MAX_PENDING = 10_000;
+
+    private final RestrictionIndex restrictionIndex;
+    private final AttendanceService attendanceService;
+
+    // 저장 대기 중인 출석 체크 ((세션 ID, 사용자 ID) -> 출석 체크)
+    private final Map<Key, PendingCheckIn> pending = new ConcurrentHashMap<>();
+
+    private volatile boolean closed = false;
+
+    /**
+     * 본인 출석 체크 - 진행 중인 세션의 활성 멤버이고 출석 기록이 없으면 버퍼에 담고 ID 없는 응답 반환,
+     * 인덱스에 없는 세션이거나 버퍼가 가득 찼거나 종료 중이면 바로 저장
+     */
+    public AttendanceDto.Response checkIn(Long sessionId, Long userId, String note) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<LocalDateTime> startTime = restrictionIndex.liveStartTimeFor(sessionId, userId, now);
+        if (startTime.isEmpty() || closed || pending.size() >= MAX_PENDING) {
+            return attendanceService.selfCheckIn(sessionId, userId, note);
+        }
+
+        // 이미 저장된 출석 기록이 있으면 버퍼에 담지 않음 (저장 시 기존 기록에 밀려 버려지므로)
+        if (attendanceService.hasAttendance(sessionId, userId)) {
+            throw new IllegalArgumentException("이미 출석 기록이 존재합니다.");
+        }
+
+        Integer lateMinutes = now.isAfter(startTime.get())
+                ? (int) ChronoUnit.MINUTES.between(startTime.get(), now) : null;
+        PendingCheckIn checkIn = new PendingCheckIn(sessionId, userId, note, now, lateMinutes);
+        Key key = new Key(sessionId, userId);
+        if (pending.putIfAbsent(key, checkIn) != null) {
+            throw new IllegalArgumentException("이미 출석 기록이 존재합니다.");
+        }
+        // 담는 사이 종료가 시작되어 마지막 저장에서 빠졌을 수 있으면 꺼내서 바로 저장
+        // (종료 표시 후 버퍼를 읽으므로 여기서 종료 전으로 보였다면 마지막 저장에 포함됨)
+        if (closed && pending.remove(key, checkIn)) {
+            return attendanceService.selfCheckIn(sessionId, userId, note);
+        }
+        return checkIn.toResponse();
+    }
+
+    /**
+     * 세션 출석 목록 - 저장된 출석 기록과 아직 저장되지 않은 출석 체크
+     */
+    public List<AttendanceDto.Response> getAttendancesByStudySessionId(Long sessionId) {
+        // 버퍼를 먼저 읽어야 그 사이 저장된 출석 체크가 양쪽 모두에서 빠지지 않음
+        List<PendingCheckIn> buffered = pendingOf(sessionId);
+        List<AttendanceDto.Response> attendances = new ArrayList<>(attendanceService.getAttendancesByStudySessionId(sessionId));
+        Set<Long> savedUserIds = attendances.stream()
+                .map(AttendanceDto.Response::getUserId)
+                .collect(Collectors.toSet());
+        buffered.stream()
+                .filter(checkIn -> !savedUserIds.contains(checkIn.userId()))
+                .map(PendingCheckIn::toResponse)
+                .forEach(attendances::add);
+        return attendances;
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * 버퍼에 쌓인 출석 체크를 세션별로 저장 (저장에 성공한 항목만 버퍼에서 제거)
+     */
+    @Scheduled(fixedDelay = 250) // 0.25초 = 250ms
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<PendingCheckIn>> bySession = pending.values().stream()
+                .collect(Collectors.groupingBy(PendingCheckIn::sessionId));
+        bySession.forEach((sessionId, checkIns) -> {
+            try {
+                attendanceService.saveBufferedCheckIns(sessionId, checkIns);
+                checkIns.forEach(this::remove);
+            } catch (RuntimeException e) {
+                log.warn("출석 체크 일괄 저장 실패, 개별 저장으로 재시도: 세션 {} ({}건)", sessionId, checkIns.size(), e);
+                checkIns.forEach(this::saveOne);
+            }
+        });
+    }
+
+    /**
+     * 종료 시 새 출석 체크는 바로 저장하고 버퍼에 남은 출석 체크를 모두 저장
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("출석 체크 버퍼 종료: 저장하지 못한 출석 체크 {}건", pending.size());
+        }
+    }
+
+    private void saveOne(PendingCheckIn checkIn) {
+        try {
+            attendanceService.saveBufferedCheckIns(checkIn.sessionId(), List.of(checkIn));
+        } catch (DataIntegrityViolationException | IllegalArgumentException e) {
+            // 다시 시도해도 저장할 수 없는 출석 체크 (삭제된 세션 등)
+            log.error("출석 체크 저장 실패로 버림: 세션 {} - 사용자 {}", checkIn.sessionId(), checkIn.userId(), e);
+        } catch (RuntimeException e) {
+            // 일시적인 오류는 다음 주기에 다시 저장
+            log.warn("출석 체크 저장 실패, 다음 주기에 재시도: 세션 {} - 사용자 {}", checkIn.sessionId(), checkIn.userId(), e);
+            return;
+        }
+        remove(checkIn);
+    }
+
+    private void remove(PendingCheckIn checkIn) {
+        pending.remove(new Key(checkIn.sessionId(), checkIn.userId()), checkIn);
+    }
+
+    private List<PendingCheckIn> pendingOf(Long sessionId) {
+        return pending.values().stream()
+                .filter(checkIn -> checkIn.sessionId().equals(sessionId))
+                .collect(Collectors.toList());
+    }
+
+    private record Key(Long sessionId, Long userId) {
+    }
+
+    /**
+     * 저장 대기 중인 본인 출석 체크 (항상 출석 상태, 시작 이후면 지각 시간 기록)
+     */
+    public record PendingCheckIn(Long sessionId, Long userId, String note, LocalDateTime arrivalTime,
+                                 Integer lateMinutes) {
+
+        AttendanceDto.Response toResponse() {
+            return AttendanceDto.Response.builder()
+                    .userId(userId)
+                    .studySessionId(sessionId)
+                    .status(Attendance.AttendanceStatus.PRESENT)
+                    .arrivalTime(arrivalTime)
+                    .lateMinutes(lateMinutes)
+                    .note(note)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.dmt.app.service;
+
+import com.dmt.app.entity.PhoneRestrictionException;
+import com.dmt.app.repository.PhoneRestrictionExceptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 승인된 폰 사용 제한 예외 시간대 인메모리 인덱스
+ * 끝나지 않은 세션의 사용자별 예외 시간대를 보관하여 제한 상태와 타임라인 계산 시 DB를 조회하지 않습니다.
+ * 변경은 커밋된 뒤에 반영되며, 예외 만료는 인덱스가 아닌 DB 기준으로 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExceptionWindowIndex {
+
+    private final PhoneRestrictionExceptionRepository phoneRestrictionExceptionRepository;
+
+    // 세션별 예외 시간대 (세션 ID -> (사용자 ID -> 시간대))
+    private final Map<Long, Map<Long, ExceptionWindow>> windowsBySession = new ConcurrentHashMap<>();
+
+    // 예외 ID별 시간대
+    private final Map<Long, ExceptionWindow> windowsById = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 시작 시 끝나지 않은 세션의 승인된 예외 적재 (제한 인덱스보다 먼저 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        for (PhoneRestrictionException exception : phoneRestrictionExceptionRepository
+                .findIndexableApprovedExceptions(LocalDateTime.now())) {
+            put(exception);
+        }
+        TransactionCallbacks.afterCommit(() -> log.info("예외 시간대 인덱스 초기화 완료: {}건", windowsById.size()));
+    }
+
+    /**
+     * 예외 반영 - 승인 상태가 아니면 인덱스에서 제거
+     */
+    public void put(PhoneRestrictionException exception) {
+        Long exceptionId = exception.getId();
+        ExceptionWindow window = exception.getStatus() == PhoneRestrictionException.ExceptionStatus.APPROVED
+                ? ExceptionWindow.of(exception) : null;
+        TransactionCallbacks.afterCommit(() -> replace(exceptionId, window));
+    }
+
+    public void remove(Long exceptionId) {
+        TransactionCallbacks.afterCommit(() -> replace(exceptionId, null));
+    }
+
+    public void removeAll(Collection<Long> exceptionIds) {
+        List<Long> ids = List.copyOf(exceptionIds);
+        TransactionCallbacks.afterCommit(() -> ids.forEach(id -> replace(id, null)));
+    }
+
+    /**
+     * 세션 종료 - 세션의 시간대 정리
+     */
+    public void sessionEnded(Long sessionId) {
+        TransactionCallbacks.afterCommit(() -> windowsOf(sessionId).forEach(window -> replace(window.exceptionId(), null)));
+    }
+
+    /**
+     * 인덱스에 있는 예외 시간대 (승인되지 않았거나 정리된 예외면 빈 값)
+     */
+    public Optional<ExceptionWindow> find(Long exceptionId) {
+        return Optional.ofNullable(windowsById.get(exceptionId));
+    }
+
+    public List<ExceptionWindow> windowsOf(Long sessionId) {
+        Map<Long, ExceptionWindow> windows = windowsBySession.get(sessionId);
+        return windows == null ? List.of() : new ArrayList<>(windows.values());
+    }
+
+    private synchronized void replace(Long exceptionId, ExceptionWindow window) {
+        ExceptionWindow previous = windowsById.remove(exceptionId);
+        if (previous != null) {
+            windowsBySession.computeIfPresent(previous.sessionId(), (id, windows) -> {
+                windows.remove(previous.userId(), previous);
+                return windows.isEmpty() ? null : windows;
+            });
+        }
+        if (window == null) {
+            return;
+        }
+
+        windowsById.put(window.exceptionId(), window);
+        windowsBySession.computeIfAbsent(window.sessionId(), id -> new ConcurrentHashMap<>()).put(window.userId(), window);
+    }
+
+    /**
+     * 예외 적용 시간대 (시작/종료가 없으면 세션 전체)
+     */
+    public record ExceptionWindow(Long exceptionId, Long userId, Long sessionId,
+                                  LocalDateTime startTime, LocalDateTime endTime) {
+
+        public static ExceptionWindow of(PhoneRestrictionException exception) {
+            return new ExceptionWindow(exception.getId(), exception.getUser().getId(), exception.getStudySession().getId(),
+                    exception.getExceptionStartTime(), exception.getExceptionEndTime());
+        }
+
+        public boolean covers(LocalDateTime now) {
+            return (startTime == null || !now.isBefore(startTime)) && (endTime == null || !now.isAfter(endTime));
+        }
+    }
+}
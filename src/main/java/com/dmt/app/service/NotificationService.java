@@ -140,6 +140,19 @@ public class NotificationService {
         }
     }
 
+    /**
+     * 폰 사용 제한 상태 변경 전송 (사용자별 구독: /user/{id}/queue/restriction)
+     */
+    public void sendRestrictionStatusChange(NotificationDto.PhoneRestrictionStatusChange change) {
+        messagingTemplate.convertAndSendToUser(
+            change.getUserId().toString(),
+            "/queue/restriction",
+            change
+        );
+        log.info("폰 사용 제한 상태 변경 전송: 사용자 {} -> {} (버전 {}-{})", change.getUserId(), change.getStatus(),
+                change.getEpoch(), change.getVersion());
+    }
+
     /**
      * 폰 사용 제한 예외 신청 알림 (리더에게)
      */
@@ -199,7 +212,7 @@ public class NotificationService {
     /**
      * 출석 알림 (세션 시작 5분 전)
      */
-    public void notifyAttendanceReminder(StudySession session) {
+    public void notifyAttendanceReminder(StudySession session, List<StudyGroupMember> members) {
         NotificationDto.NotificationMessage notification = NotificationDto.NotificationMessage.builder()
                 .id(UUID.randomUUID().toString())
                 .type(NotificationDto.NotificationType.ATTENDANCE_REMINDER)
@@ -213,6 +226,24 @@ public class NotificationService {
                 .build();
 
         sendGroupNotification(session.getStudyGroup().getId(), notification);
+
+        // 개별 멤버에게도 알림 (멤버 목록은 호출자가 여러 세션분을 한 번에 조회)
+        for (StudyGroupMember member : members) {
+            NotificationDto.NotificationMessage reminder = NotificationDto.NotificationMessage.builder()
+                    .id(UUID.randomUUID().toString())
+                    .type(NotificationDto.NotificationType.ATTENDANCE_REMINDER)
+                    .title(notification.getTitle())
+                    .message(notification.getMessage())
+                    .userId(member.getUser().getId())
+                    .studyGroupId(session.getStudyGroup().getId())
+                    .studySessionId(session.getId())
+                    .createdAt(notification.getCreatedAt())
+                    .isRead(false)
+                    .priority(NotificationDto.NotificationPriority.NORMAL)
+                    .build();
+
+            sendPersonalNotification(member.getUser().getId(), reminder);
+        }
     }
 
     /**
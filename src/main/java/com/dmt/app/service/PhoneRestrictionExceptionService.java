@@ -15,8 +15,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,10 +29,17 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PhoneRestrictionExceptionService {
     
+    // 일괄 조회 시 한 번에 평가할 수 있는 최대 사용자 수
+    private static final int MAX_BATCH_USERS = 1000;
+    
     private final PhoneRestrictionExceptionRepository phoneRestrictionExceptionRepository;
     private final StudySessionRepository studySessionRepository;
     private final UserRepository userRepository;
     private final StudyGroupMemberRepository studyGroupMemberRepository;
+    private final RestrictionIndex restrictionIndex;
+    private final ExceptionWindowIndex exceptionWindowIndex;
+    private final RestrictionTimelineIndex restrictionTimelineIndex;
+    private final RestrictionStatusWatchers restrictionStatusWatchers;
     
     @Transactional
     public PhoneRestrictionExceptionDto.Response createException(PhoneRestrictionExceptionDto.CreateRequest request) {
@@ -133,6 +144,12 @@ public class PhoneRestrictionExceptionService {
         
         PhoneRestrictionException updatedException = phoneRestrictionExceptionRepository.save(exception);
         
+        exceptionWindowIndex.put(updatedException);
+        restrictionTimelineIndex.exceptionChanged(updatedException);
+        if (request.getStatus() == PhoneRestrictionException.ExceptionStatus.APPROVED) {
+            restrictionIndex.exceptionApproved(updatedException);
+        }
+        
         String action = request.getStatus() == PhoneRestrictionException.ExceptionStatus.APPROVED ? "승인" : "거절";
         log.info("폰 사용 제한 예외가 {}되었습니다: {} - {}", action, 
                 exception.getUser().getNickname(), exception.getStudySession().getSessionName());
@@ -173,6 +190,8 @@ public class PhoneRestrictionExceptionService {
         exception.setExceptionEndTime(request.getExceptionEndTime());
         
         PhoneRestrictionException updatedException = phoneRestrictionExceptionRepository.save(exception);
+        exceptionWindowIndex.put(updatedException);
+        restrictionTimelineIndex.exceptionChanged(updatedException);
         log.info("폰 사용 제한 예외가 수정되었습니다: {}", exceptionId);
         
         return PhoneRestrictionExceptionDto.Response.from(updatedException);
@@ -194,6 +213,8 @@ public class PhoneRestrictionExceptionService {
         }
         
         phoneRestrictionExceptionRepository.delete(exception);
+        exceptionWindowIndex.remove(exceptionId);
+        restrictionTimelineIndex.exceptionChanged(exception);
         log.info("폰 사용 제한 예외가 삭제되었습니다: {}", exceptionId);
     }
     
@@ -204,68 +225,131 @@ public class PhoneRestrictionExceptionService {
                 .collect(Collectors.toList());
     }
     
-    // 만료된 예외 처리 (스케줄러용)
+    // 만료 대상 예외 (스케줄러용, 그룹별) - 종료 시각이 지난 승인 예외를 DB에서 조회 (담당 노드가 바뀌어도 누락되지 않음)
+    public Map<Long, List<Long>> findEndedExceptionsByGroup() {
+        return phoneRestrictionExceptionRepository.findExpiredExceptions(LocalDateTime.now()).stream()
+                .collect(Collectors.groupingBy(exception -> exception.getStudySession().getStudyGroup().getId(),
+                        Collectors.mapping(PhoneRestrictionException::getId, Collectors.toList())));
+    }
+    
+    // 만료된 예외 처리 (스케줄러용) - 한 그룹의 끝난 예외를 한 번에 만료 처리
     @Transactional
-    public void processExpiredExceptions() {
-        List<PhoneRestrictionException> expiredExceptions = phoneRestrictionExceptionRepository
-                .findExpiredExceptions(LocalDateTime.now());
-        
-        for (PhoneRestrictionException exception : expiredExceptions) {
-            exception.setStatus(PhoneRestrictionException.ExceptionStatus.EXPIRED);
-            phoneRestrictionExceptionRepository.save(exception);
-            log.info("폰 사용 제한 예외가 만료되었습니다: {}", exception.getId());
-        }
+    public int expireExceptions(List<Long> exceptionIds) {
+        int expiredCount = phoneRestrictionExceptionRepository.expireApprovedExceptions(exceptionIds, LocalDateTime.now());
+        exceptionWindowIndex.removeAll(exceptionIds);
+        log.info("폰 사용 제한 예외가 만료되었습니다: {}건", expiredCount);
+        return expiredCount;
     }
     
     // 폰 사용 제한 상태 관련 메서드들
     
     /**
      * 사용자가 특정 세션에서 폰 사용이 제한되는지 확인
+     * 사용자가 활성 멤버로 참여 중인 진행 세션만 예외 정보와 함께 한 번에 조회합니다.
      */
     public boolean isUserPhoneRestrictedInSession(Long userId, Long sessionId) {
-        // 해당 세션이 진행 중인지 확인
-        StudySession session = studySessionRepository.findById(sessionId)
-                .orElseThrow(() -> new IllegalArgumentException("스터디 세션을 찾을 수 없습니다."));
+        LocalDateTime now = LocalDateTime.now();
+        Optional<StudySessionRepository.SessionParticipation> participation = studySessionRepository
+                .findCurrentParticipations(List.of(userId), now).stream()
+                .filter(p -> p.getSessionId().equals(sessionId))
+                .findFirst();
+        
+        if (participation.isEmpty()) {
+            if (!studySessionRepository.existsById(sessionId)) {
+                throw new IllegalArgumentException("스터디 세션을 찾을 수 없습니다.");
+            }
+            return false; // 진행 중이 아니거나 참여하지 않는 세션이면 제한되지 않음
+        }
         
-        if (session.getStatus() != StudySession.SessionStatus.IN_PROGRESS) {
-            return false; // 세션이 진행 중이 아니면 제한되지 않음
+        return !participation.get().isExemptAt(now); // 승인된 예외 시간대가 아니면 제한됨
+    }
+    
+    /**
+     * 사용자의 현재 전체 폰 사용 제한 상태 확인
+     * 인메모리 인덱스로 응답하며, 인덱스 초기화 전에는 사용자가 속한 그룹의 진행 세션만 평가합니다.
+     */
+    public boolean isUserCurrentlyPhoneRestricted(Long userId) {
+        if (restrictionIndex.isReady()) {
+            return restrictionIndex.isRestricted(userId);
         }
         
-        // 현재 시간이 세션 시간 내에 있는지 확인
         LocalDateTime now = LocalDateTime.now();
-        if (now.isBefore(session.getStartTime()) || now.isAfter(session.getEndTime())) {
-            return false; // 세션 시간이 아니면 제한되지 않음
+        return studySessionRepository.findCurrentParticipations(List.of(userId), now).stream()
+                .anyMatch(participation -> !participation.isExemptAt(now)); // 하나라도 제한되는 세션이 있으면 제한됨
+    }
+    
+    /**
+     * 사용자 제한 상태 버전 (ETag 생성용, 노드 실행별 기준 포함, 상태가 바뀔 때만 증가)
+     * 인덱스 초기화 전에는 상태를 DB에서 평가하므로 버전이 변경을 반영하지 못해 빈 값을 반환합니다.
+     */
+    public Optional<String> getRestrictionStatusVersion(Long userId) {
+        if (!restrictionIndex.isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(restrictionIndex.getVersionTag(userId));
+    }
+    
+    /**
+     * 사용자 제한 상태가 바뀌면 한 번 실행될 콜백 등록 - 반환된 작업으로 등록 해제
+     */
+    public Runnable watchRestrictionStatus(Long userId, Runnable onChange) {
+        return restrictionStatusWatchers.watch(userId, onChange);
+    }
+    
+    /**
+     * 여러 사용자의 현재 폰 사용 제한 상태 일괄 확인
+     * 인메모리 인덱스로 응답하며, 인덱스 초기화 전에는 사용자 수와 관계없이 고정된 횟수의 집합 쿼리로 평가합니다.
+     */
+    public Map<Long, PhoneRestrictionExceptionDto.UserRestrictionStatus> getRestrictionStatuses(
+            PhoneRestrictionExceptionDto.BatchRestrictionStatusRequest request) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        if (request.getUserIds() != null) {
+            userIds.addAll(request.getUserIds());
+        }
+        if (request.getGroupId() != null) {
+            userIds.addAll(studyGroupMemberRepository.findActiveUserIdsByStudyGroupId(request.getGroupId()));
         }
         
-        // 사용자가 해당 세션에 참여하고 있는지 확인 (출석 기록 기반)
-        // TODO: AttendanceService와 연동하여 구현
+        if (userIds.isEmpty()) {
+            throw new IllegalArgumentException("사용자 ID 목록 또는 그룹 ID가 필요합니다.");
+        }
+        if (userIds.size() > MAX_BATCH_USERS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 사용자는 최대 " + MAX_BATCH_USERS + "명입니다.");
+        }
         
-        // 활성화된 폰 사용 제한 예외가 있는지 확인
-        Optional<PhoneRestrictionException> activeException = phoneRestrictionExceptionRepository
-                .findByUserIdAndStudySessionId(userId, sessionId);
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, PhoneRestrictionExceptionDto.UserRestrictionStatus> statuses = new LinkedHashMap<>();
+        if (restrictionIndex.isReady()) {
+            for (Long userId : userIds) {
+                statuses.put(userId, restrictionIndex.evaluate(userId, now));
+            }
+            return statuses;
+        }
         
-        if (activeException.isPresent() && 
-            activeException.get().getStatus() == PhoneRestrictionException.ExceptionStatus.APPROVED) {
-            return false; // 승인된 예외가 있으면 제한되지 않음
+        for (Long userId : userIds) {
+            statuses.put(userId, PhoneRestrictionExceptionDto.UserRestrictionStatus.free());
         }
         
-        return true; // 폰 사용 제한됨
-    }
-    
-    /**
-     * 사용자의 현재 전체 폰 사용 제한 상태 확인
-     */
-    public boolean isUserCurrentlyPhoneRestricted(Long userId) {
-        // 현재 진행 중인 모든 세션에 대해 확인
-        List<StudySession> currentSessions = studySessionRepository.findCurrentSessions(LocalDateTime.now());
+        List<StudySessionRepository.SessionParticipation> participations = studySessionRepository
+                .findCurrentParticipations(userIds, now);
         
-        for (StudySession session : currentSessions) {
-            if (isUserPhoneRestrictedInSession(userId, session.getId())) {
-                return true; // 하나라도 제한되는 세션이 있으면 제한됨
+        for (StudySessionRepository.SessionParticipation participation : participations) {
+            PhoneRestrictionExceptionDto.UserRestrictionStatus current = statuses.get(participation.getUserId());
+            if (current.getState() == PhoneRestrictionExceptionDto.RestrictionState.RESTRICTED) {
+                continue; // 하나라도 제한되는 세션이 있으면 제한됨
+            }
+            
+            boolean exempt = participation.isExemptAt(now);
+            if (!exempt || current.getState() == PhoneRestrictionExceptionDto.RestrictionState.FREE) {
+                statuses.put(participation.getUserId(), PhoneRestrictionExceptionDto.UserRestrictionStatus.builder()
+                        .state(exempt ? PhoneRestrictionExceptionDto.RestrictionState.EXEMPT
+                                : PhoneRestrictionExceptionDto.RestrictionState.RESTRICTED)
+                        .sessionId(participation.getSessionId())
+                        .build());
             }
         }
         
-        return false; // 제한되지 않음
+        return statuses;
     }
     
     /**
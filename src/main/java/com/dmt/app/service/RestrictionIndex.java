@@ -0,0 +1,360 @@
+package com.dmt.app.service;
+
+import com.dmt.app.dto.NotificationDto;
+import com.dmt.app.dto.PhoneRestrictionExceptionDto;
+import com.dmt.app.entity.PhoneRestrictionException;
+import com.dmt.app.entity.StudyGroupMember;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.repository.StudyGroupMemberRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 폰 사용 제한 상태 인메모리 인덱스
+ * 세션 시작/종료, 그룹 멤버 변경, 예외 승인이 커밋된 뒤에 갱신되며
+ * 제한 여부 조회 시 데이터베이스를 조회하지 않습니다.
+ * 다른 노드에서 일어난 변경은 RestrictionIndexSynchronizer가 주기적으로 반영합니다.
+ * 사용자의 실제 제한 상태가 바뀌면 버전이 부여된 상태 변경 알림을 전송합니다.
+ * 버전은 노드 실행마다 새로 만드는 기준(epoch) 안에서만 증가하므로, 기준이 다른 버전끼리는 비교할 수 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RestrictionIndex {
+
+    private final StudySessionRepository studySessionRepository;
+    private final StudyGroupMemberRepository studyGroupMemberRepository;
+    private final ExceptionWindowIndex exceptionWindowIndex;
+    private final RestrictionTimelineIndex restrictionTimelineIndex;
+    private final NotificationService notificationService;
+    private final RestrictionStatusWatchers restrictionStatusWatchers;
+    private final TaskScheduler taskScheduler;
+
+    // 진행 중인 세션 (세션 ID -> 세션 정보)
+    private final Map<Long, LiveSession> liveSessions = new ConcurrentHashMap<>();
+
+    // 그룹별 진행 중인 세션 ID
+    private final Map<Long, Set<Long>> liveSessionIdsByGroup = new ConcurrentHashMap<>();
+
+    // 사용자별 참여 중인 진행 세션 ID
+    private final Map<Long, Set<Long>> liveSessionIdsByUser = new ConcurrentHashMap<>();
+
+    // 사용자별 마지막으로 전송된 제한 상태
+    private final Map<Long, PhoneRestrictionExceptionDto.UserRestrictionStatus> publishedStates = new ConcurrentHashMap<>();
+
+    // 사용자별 상태 버전
+    private final Map<Long, Long> stateVersions = new ConcurrentHashMap<>();
+
+    // 노드/실행마다 다른 버전 기준 (다른 노드나 재시작 이전의 버전과 섞이지 않도록)
+    private final String epoch = UUID.randomUUID().toString();
+
+    // 버전 기준 안에서 상태가 바뀔 때마다 증가
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 시 현재 진행 중인 세션으로 인덱스 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        for (StudySession session : studySessionRepository.findCurrentSessions(LocalDateTime.now())) {
+            sessionStarted(session);
+        }
+        // 세션 등록이 모두 반영된 뒤에 준비 완료
+        TransactionCallbacks.afterCommit(() -> {
+            ready = true;
+            log.info("폰 사용 제한 인덱스 초기화 완료: 진행 중인 세션 {}개", liveSessions.size());
+        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 사용자의 현재 폰 사용 제한 여부 (DB 조회 없음)
+     */
+    public boolean isRestricted(Long userId) {
+        return isRestricted(userId, LocalDateTime.now());
+    }
+
+    public boolean isRestricted(Long userId, LocalDateTime now) {
+        return evaluate(userId, now).getState() == PhoneRestrictionExceptionDto.RestrictionState.RESTRICTED;
+    }
+
+    /**
+     * 사용자의 제한 상태와 해당 상태를 결정한 세션
+     */
+    public PhoneRestrictionExceptionDto.UserRestrictionStatus evaluate(Long userId, LocalDateTime now) {
+        Set<Long> sessionIds = liveSessionIdsByUser.get(userId);
+        if (sessionIds == null) {
+            return PhoneRestrictionExceptionDto.UserRestrictionStatus.free();
+        }
+
+        PhoneRestrictionExceptionDto.UserRestrictionStatus result = PhoneRestrictionExceptionDto.UserRestrictionStatus.free();
+        for (Long sessionId : sessionIds) {
+            LiveSession session = liveSessions.get(sessionId);
+            if (session == null || !session.isOngoing(now)) {
+                continue;
+            }
+            if (restrictionTimelineIndex.isRestricted(userId, sessionId, now)) {
+                return status(PhoneRestrictionExceptionDto.RestrictionState.RESTRICTED, sessionId);
+            }
+            if (result.getState() == PhoneRestrictionExceptionDto.RestrictionState.FREE) {
+                result = status(PhoneRestrictionExceptionDto.RestrictionState.EXEMPT, sessionId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 진행 중인 세션의 시작 시각 (진행 중이 아니거나 활성 멤버가 아니면 빈 값, DB 조회 없음)
+     */
+    public Optional<LocalDateTime> liveStartTimeFor(Long sessionId, Long userId, LocalDateTime now) {
+        LiveSession session = liveSessions.get(sessionId);
+        if (session == null || !session.isOngoing(now) || !session.memberIds().contains(userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(session.startTime());
+    }
+
+    /**
+     * 사용자의 현재 상태 버전 (상태 변경이 없었으면 0)
+     */
+    public long getVersion(Long userId) {
+        return stateVersions.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * 상태 버전의 기준 - 클라이언트는 기준이 바뀌면 버전 비교 없이 받은 상태로 초기화
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * 기준을 포함한 사용자 상태 버전 ("기준-버전", ETag 생성용)
+     */
+    public String getVersionTag(Long userId) {
+        return epoch + "-" + getVersion(userId);
+    }
+
+    public boolean isLive(Long sessionId) {
+        return liveSessions.containsKey(sessionId);
+    }
+
+    /**
+     * 세션 시작 - 그룹의 활성 멤버를 바로 조회하고 커밋 후 적재 (승인된 예외는 예외 시간대 인덱스에서 조회)
+     */
+    public void sessionStarted(StudySession session) {
+        Long groupId = session.getStudyGroup().getId();
+
+        // 멤버 조회는 인덱스 잠금 밖에서 (시작 트랜잭션과 같은 시점의 멤버)
+        Set<Long> memberIds = ConcurrentHashMap.newKeySet();
+        for (StudyGroupMember member : studyGroupMemberRepository.findByStudyGroupIdAndIsActiveTrue(groupId)) {
+            memberIds.add(member.getUser().getId());
+        }
+
+        LiveSession liveSession = new LiveSession(session.getId(), groupId,
+                session.getStartTime(), session.getEndTime(), memberIds);
+        TransactionCallbacks.afterCommit(() -> register(liveSession, session));
+    }
+
+    /**
+     * 세션 종료/취소 - 커밋 후 인덱스에서 제거
+     */
+    public void sessionEnded(Long sessionId) {
+        TransactionCallbacks.afterCommit(() -> unregister(sessionId));
+    }
+
+    /**
+     * 그룹 참여 - 커밋 후 진행 중인 그룹 세션에 반영
+     */
+    public void memberJoined(Long groupId, Long userId) {
+        TransactionCallbacks.afterCommit(() -> addMember(groupId, userId));
+    }
+
+    /**
+     * 그룹 탈퇴 - 커밋 후 진행 중인 그룹 세션에서 제외
+     */
+    public void memberLeft(Long groupId, Long userId) {
+        TransactionCallbacks.afterCommit(() -> removeMember(groupId, userId));
+    }
+
+    /**
+     * 예외 승인 - 커밋 후 진행 중인 세션이면 즉시 재평가 (시간대와 타임라인이 먼저 반영되어야 함)
+     */
+    public void exceptionApproved(PhoneRestrictionException exception) {
+        ExceptionWindowIndex.ExceptionWindow window = ExceptionWindowIndex.ExceptionWindow.of(exception);
+        TransactionCallbacks.afterCommit(() -> approve(window));
+    }
+
+    private synchronized void register(LiveSession liveSession, StudySession session) {
+        restrictionTimelineIndex.sessionScheduled(session);
+        List<ExceptionWindowIndex.ExceptionWindow> windows = exceptionWindowIndex.windowsOf(liveSession.sessionId());
+        windows.forEach(this::scheduleWindowBoundaries);
+
+        liveSessions.put(liveSession.sessionId(), liveSession);
+        liveSessionIdsByGroup.computeIfAbsent(liveSession.groupId(), id -> ConcurrentHashMap.newKeySet())
+                .add(liveSession.sessionId());
+        for (Long userId : liveSession.memberIds()) {
+            liveSessionIdsByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(liveSession.sessionId());
+        }
+        log.debug("제한 인덱스 세션 등록: {} (멤버 {}명, 예외 {}명)", liveSession.sessionId(),
+                liveSession.memberIds().size(), windows.size());
+
+        refresh(liveSession.memberIds());
+        // 종료 시간이 지나면 상태 변경을 알리고 인덱스에서 제거
+        scheduleAfter(liveSession.endTime(), () -> unregister(liveSession.sessionId()));
+    }
+
+    private synchronized void unregister(Long sessionId) {
+        exceptionWindowIndex.sessionEnded(sessionId);
+        restrictionTimelineIndex.sessionRemoved(sessionId);
+        LiveSession session = liveSessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+
+        removeFrom(liveSessionIdsByGroup, session.groupId(), sessionId);
+        for (Long userId : session.memberIds()) {
+            removeFrom(liveSessionIdsByUser, userId, sessionId);
+        }
+        log.debug("제한 인덱스 세션 제거: {}", sessionId);
+
+        refresh(session.memberIds());
+    }
+
+    private synchronized void addMember(Long groupId, Long userId) {
+        for (Long sessionId : liveSessionIdsByGroup.getOrDefault(groupId, Set.of())) {
+            LiveSession session = liveSessions.get(sessionId);
+            if (session != null) {
+                session.memberIds().add(userId);
+                liveSessionIdsByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(sessionId);
+            }
+        }
+        restrictionTimelineIndex.membershipChanged(userId);
+        refresh(List.of(userId));
+    }
+
+    private synchronized void removeMember(Long groupId, Long userId) {
+        for (Long sessionId : liveSessionIdsByGroup.getOrDefault(groupId, Set.of())) {
+            LiveSession session = liveSessions.get(sessionId);
+            if (session != null) {
+                session.memberIds().remove(userId);
+                removeFrom(liveSessionIdsByUser, userId, sessionId);
+            }
+        }
+        restrictionTimelineIndex.membershipChanged(userId);
+        refresh(List.of(userId));
+    }
+
+    private synchronized void approve(ExceptionWindowIndex.ExceptionWindow window) {
+        if (liveSessions.containsKey(window.sessionId())) {
+            scheduleWindowBoundaries(window);
+            refresh(List.of(window.userId()));
+        }
+    }
+
+    /**
+     * 사용자 상태를 다시 평가하고 바뀐 경우에만 상태 변경 알림 전송
+     */
+    private synchronized void refresh(Collection<Long> userIds) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long userId : userIds) {
+            PhoneRestrictionExceptionDto.UserRestrictionStatus current = evaluate(userId, now);
+            PhoneRestrictionExceptionDto.UserRestrictionStatus previous = publishedStates.put(userId, current);
+            if (current.equals(previous != null ? previous : PhoneRestrictionExceptionDto.UserRestrictionStatus.free())) {
+                continue;
+            }
+
+            long version = versionSequence.incrementAndGet();
+            stateVersions.put(userId, version);
+            restrictionStatusWatchers.stateChanged(userId);
+            if (ready) {
+                notificationService.sendRestrictionStatusChange(NotificationDto.PhoneRestrictionStatusChange.builder()
+                        .userId(userId)
+                        .studySessionId(current.getSessionId())
+                        .status(current.getState().name())
+                        .epoch(epoch)
+                        .version(version)
+                        .changedAt(now)
+                        .message(messageOf(current.getState()))
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * 예외 시간대가 열리고 닫히는 시점에 상태 재평가
+     */
+    private void scheduleWindowBoundaries(ExceptionWindowIndex.ExceptionWindow window) {
+        scheduleAt(window.startTime(), () -> refresh(List.of(window.userId())));
+        scheduleAfter(window.endTime(), () -> refresh(List.of(window.userId())));
+    }
+
+    private void scheduleAfter(LocalDateTime time, Runnable task) {
+        if (time != null) {
+            scheduleAt(time.plusSeconds(1), task);
+        }
+    }
+
+    private void scheduleAt(LocalDateTime time, Runnable task) {
+        if (time != null && time.isAfter(LocalDateTime.now())) {
+            taskScheduler.schedule(task, time.atZone(ZoneId.systemDefault()).toInstant());
+        }
+    }
+
+    private void removeFrom(Map<Long, Set<Long>> index, Long key, Long sessionId) {
+        index.computeIfPresent(key, (id, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+
+    private static PhoneRestrictionExceptionDto.UserRestrictionStatus status(
+            PhoneRestrictionExceptionDto.RestrictionState state, Long sessionId) {
+        return PhoneRestrictionExceptionDto.UserRestrictionStatus.builder()
+                .state(state)
+                .sessionId(sessionId)
+                .build();
+    }
+
+    private static String messageOf(PhoneRestrictionExceptionDto.RestrictionState state) {
+        switch (state) {
+            case RESTRICTED:
+                return "폰 사용이 제한되었습니다";
+            case EXEMPT:
+                return "폰 사용 제한 예외가 적용 중입니다";
+            default:
+                return "폰 사용 제한이 해제되었습니다";
+        }
+    }
+
+    private record LiveSession(Long sessionId, Long groupId, LocalDateTime startTime, LocalDateTime endTime,
+                               Set<Long> memberIds) {
+
+        boolean isOngoing(LocalDateTime now) {
+            return !now.isBefore(startTime) && !now.isAfter(endTime);
+        }
+    }
+}
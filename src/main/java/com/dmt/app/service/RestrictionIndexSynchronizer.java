@@ -0,0 +1,169 @@
+package com.dmt.app.service;
+
+import com.dmt.app.entity.PhoneRestrictionException;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.repository.PhoneRestrictionExceptionRepository;
+import com.dmt.app.repository.StudyGroupMemberRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 노드 간 폰 사용 제한 인덱스 동기화
+ * 세션 시작/종료, 그룹 멤버 변경, 예외 승인은 처리한 노드의 인덱스에만 바로 반영되므로,
+ * 수정 시각(updated_at) 기준 변경분을 주기적으로 조회해 이 노드의 인덱스와 전환 타이머에 반영합니다.
+ * 늦게 커밋된 변경과 노드 간 시계 차이를 고려해 이전 조회 구간과 겹쳐 조회하며, 이미 반영된 세션과 예외는 다시 적용하지 않습니다.
+ * 다른 노드의 변경은 최대 동기화 주기만큼 늦게 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RestrictionIndexSynchronizer {
+
+    // 이전 조회 구간과 겹쳐 조회하는 시간
+    private static final Duration OVERLAP = Duration.ofSeconds(30);
+
+    private final StudySessionRepository studySessionRepository;
+    private final StudyGroupMemberRepository studyGroupMemberRepository;
+    private final PhoneRestrictionExceptionRepository phoneRestrictionExceptionRepository;
+    private final RestrictionIndex restrictionIndex;
+    private final ExceptionWindowIndex exceptionWindowIndex;
+    private final RestrictionTimelineIndex restrictionTimelineIndex;
+    private final SessionTransitionTimer sessionTransitionTimer;
+
+    // 이 시각 이후 수정된 행을 다음 동기화에서 조회 (인덱스 초기화보다 먼저 잡아 그 사이 변경도 포함)
+    private volatile LocalDateTime syncedUntil = LocalDateTime.now();
+
+    /**
+     * 매 5초마다 실행 - 지난 동기화 이후 변경된 예외, 세션, 멤버십을 반영하고 삭제된 세션 정리
+     * (인덱스 변경은 조회 트랜잭션이 끝난 뒤 예외 - 세션 - 멤버십 순으로 반영)
+     */
+    @Scheduled(fixedDelay = 5000) // 5초 = 5,000ms
+    @Transactional(readOnly = true)
+    public void synchronize() {
+        if (!restrictionIndex.isReady()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime since = syncedUntil.minus(OVERLAP);
+            int exceptionCount = syncExceptions(since, now);
+            int sessionCount = syncSessions(since, now);
+            int membershipCount = syncMemberships(since);
+            int removedCount = removeDeletedSessions();
+            syncedUntil = now;
+            if (exceptionCount + sessionCount + membershipCount + removedCount > 0) {
+                log.debug("제한 인덱스 동기화: 예외 {}건, 세션 {}건, 멤버십 {}건, 삭제된 세션 {}건",
+                        exceptionCount, sessionCount, membershipCount, removedCount);
+            }
+        } catch (Exception e) {
+            log.error("제한 인덱스 동기화 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 승인/만료/거절된 예외 반영 (인덱스의 시간대와 같으면 건너뜀)
+     */
+    private int syncExceptions(LocalDateTime since, LocalDateTime now) {
+        int count = 0;
+        for (PhoneRestrictionException exception : phoneRestrictionExceptionRepository.findUpdatedSince(since)) {
+            boolean indexable = exception.getStatus() == PhoneRestrictionException.ExceptionStatus.APPROVED
+                    && !exception.getStudySession().getEndTime().isBefore(now);
+            Optional<ExceptionWindowIndex.ExceptionWindow> window = indexable
+                    ? Optional.of(ExceptionWindowIndex.ExceptionWindow.of(exception)) : Optional.empty();
+            if (window.equals(exceptionWindowIndex.find(exception.getId()))) {
+                continue;
+            }
+
+            if (indexable) {
+                exceptionWindowIndex.put(exception);
+            } else {
+                exceptionWindowIndex.remove(exception.getId());
+            }
+            restrictionTimelineIndex.exceptionChanged(exception);
+            if (indexable) {
+                restrictionIndex.exceptionApproved(exception);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 생성/수정/시작/종료된 세션 반영
+     */
+    private int syncSessions(LocalDateTime since, LocalDateTime now) {
+        int count = 0;
+        for (StudySession session : studySessionRepository.findUpdatedSince(since)) {
+            switch (session.getStatus()) {
+                case SCHEDULED:
+                    restrictionTimelineIndex.sessionSynced(session);
+                    sessionTransitionTimer.sessionScheduled(session);
+                    break;
+                case IN_PROGRESS:
+                    if (!restrictionIndex.isLive(session.getId()) && !now.isAfter(session.getEndTime())) {
+                        restrictionIndex.sessionStarted(session);
+                    } else {
+                        restrictionTimelineIndex.sessionSynced(session);
+                    }
+                    sessionTransitionTimer.sessionScheduled(session);
+                    break;
+                default:
+                    restrictionIndex.sessionEnded(session.getId());
+                    sessionTransitionTimer.sessionRemoved(session.getId());
+                    break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 그룹 참여/탈퇴 반영 (겹쳐 조회한 구간의 변경은 다시 적용되어 해당 사용자는 다음 일정 동기화 시 전체 일정을 받음)
+     */
+    private int syncMemberships(LocalDateTime since) {
+        int count = 0;
+        for (StudyGroupMemberRepository.MembershipChange change : studyGroupMemberRepository.findMembershipChangesSince(since)) {
+            if (Boolean.TRUE.equals(change.getIsActive())) {
+                restrictionIndex.memberJoined(change.getStudyGroupId(), change.getUserId());
+            } else {
+                restrictionIndex.memberLeft(change.getStudyGroupId(), change.getUserId());
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 다른 노드에서 삭제된 예정 세션 정리 (삭제된 행은 수정 시각으로 찾을 수 없음)
+     */
+    private int removeDeletedSessions() {
+        Set<Long> indexedIds = restrictionTimelineIndex.sessionIds();
+        if (indexedIds.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> existingIds = studySessionRepository.findSessionGroups(indexedIds).stream()
+                .map(StudySessionRepository.SessionGroup::getSessionId)
+                .collect(Collectors.toSet());
+        int count = 0;
+        for (Long sessionId : indexedIds) {
+            if (!existingIds.contains(sessionId)) {
+                restrictionTimelineIndex.sessionRemoved(sessionId);
+                sessionTransitionTimer.sessionRemoved(sessionId);
+                count++;
+            }
+        }
+        return count;
+    }
+}
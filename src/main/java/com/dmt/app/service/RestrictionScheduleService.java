@@ -0,0 +1,147 @@
+package com.dmt.app.service;
+
+import com.dmt.app.config.RestrictionScheduleConfig;
+import com.dmt.app.dto.PhoneRestrictionExceptionDto;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.repository.StudyGroupMemberRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기기 오프라인 적용용 폰 사용 제한 일정
+ * 미리 계산된 멤버별 타임라인으로 향후 N시간의 제한 구간을 만들고 HMAC으로 서명합니다.
+ * 이전 일정의 epoch, since 버전과 validUntil을 받으면 그 이후 바뀐 세션, 이전 일정 이후로 이어지는 세션과 제거된 세션만 반환합니다.
+ * validUntil 없이 since만 받으면 조회 구간이 얼마나 밀렸는지 알 수 없으므로 전체 일정을 반환합니다.
+ * 버전은 노드 실행별 기준(epoch) 안에서만 비교할 수 있으므로 다른 노드나 재시작 이전에 받은 일정이면 전체 일정을 반환합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class RestrictionScheduleService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final StudySessionRepository studySessionRepository;
+    private final StudyGroupMemberRepository studyGroupMemberRepository;
+    private final RestrictionTimelineIndex restrictionTimelineIndex;
+    private final RestrictionScheduleConfig restrictionScheduleConfig;
+
+    public PhoneRestrictionExceptionDto.RestrictionSchedule getSchedule(Long userId, Integer hours, String epoch, Long since,
+                                                                        Long validUntil) {
+        int scheduleHours = hours != null ? hours : restrictionScheduleConfig.getDefaultHours();
+        if (scheduleHours < 1 || scheduleHours > restrictionScheduleConfig.getMaxHours()) {
+            throw new IllegalArgumentException("일정 조회 기간은 1시간 이상 " + restrictionScheduleConfig.getMaxHours() + "시간 이하여야 합니다.");
+        }
+
+        // 조회 전에 버전을 읽어 조회 중 발생한 변경은 다음 동기화에 포함되도록 함
+        long version = restrictionTimelineIndex.currentVersion();
+        boolean full = since == null || validUntil == null
+                || !restrictionTimelineIndex.canDiffSince(userId, epoch, since);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusHours(scheduleHours);
+        List<StudySession> sessions = studySessionRepository.findUserSessionsBetween(userId, now, until);
+
+        List<PhoneRestrictionExceptionDto.ScheduleEntry> entries = new ArrayList<>();
+        Set<Long> scheduledSessionIds = new HashSet<>();
+        for (StudySession session : sessions) {
+            scheduledSessionIds.add(session.getId());
+            RestrictionTimelineIndex.VersionedTimeline timeline = restrictionTimelineIndex.versionedTimelineOf(userId, session);
+            // 바뀌지 않았고 이전 일정 구간 안에서 끝나는 세션은 기기에 이미 있음
+            if (!full && timeline.version() <= since && toEpochMilli(session.getEndTime()) <= validUntil) {
+                continue;
+            }
+
+            List<long[]> intervals = new ArrayList<>();
+            for (RestrictionTimeline.Interval interval : timeline.timeline().intervalsBetween(now, until)) {
+                intervals.add(new long[]{toEpochMilli(interval.startTime()), toEpochMilli(interval.endTime())});
+            }
+            entries.add(PhoneRestrictionExceptionDto.ScheduleEntry.builder()
+                    .sessionId(session.getId())
+                    .intervals(intervals)
+                    .build());
+        }
+
+        List<Long> removedSessionIds = new ArrayList<>();
+        if (!full) {
+            List<Long> groupIds = studyGroupMemberRepository.findActiveStudyGroupIdsByUserId(userId);
+            for (Long sessionId : restrictionTimelineIndex.changedSessionIdsSince(since, groupIds)) {
+                if (!scheduledSessionIds.contains(sessionId)) {
+                    removedSessionIds.add(sessionId);
+                }
+            }
+        }
+
+        PhoneRestrictionExceptionDto.RestrictionSchedule schedule = PhoneRestrictionExceptionDto.RestrictionSchedule.builder()
+                .userId(userId)
+                .epoch(restrictionTimelineIndex.getEpoch())
+                .version(version)
+                .full(full)
+                .generatedAt(toEpochMilli(now))
+                .validUntil(toEpochMilli(until))
+                .entries(entries)
+                .removedSessionIds(removedSessionIds)
+                .build();
+        schedule.setSignature(sign(schedule));
+
+        log.debug("제한 일정 생성: 사용자 {} (버전 {}-{}, 전체 {}, 세션 {}개, 제거 {}개)",
+                userId, restrictionTimelineIndex.getEpoch(), version, full, entries.size(), removedSessionIds.size());
+        return schedule;
+    }
+
+    /**
+     * 서명 대상 문자열 - userId|epoch|version|full|generatedAt|validUntil|세션:시작-종료,...|제거 세션,...
+     */
+    private static String canonicalize(PhoneRestrictionExceptionDto.RestrictionSchedule schedule) {
+        StringBuilder builder = new StringBuilder()
+                .append(schedule.getUserId()).append('|')
+                .append(schedule.getEpoch()).append('|')
+                .append(schedule.getVersion()).append('|')
+                .append(schedule.isFull()).append('|')
+                .append(schedule.getGeneratedAt()).append('|')
+                .append(schedule.getValidUntil()).append('|');
+        for (PhoneRestrictionExceptionDto.ScheduleEntry entry : schedule.getEntries()) {
+            builder.append(entry.getSessionId());
+            for (long[] interval : entry.getIntervals()) {
+                builder.append(':').append(interval[0]).append('-').append(interval[1]);
+            }
+            builder.append(',');
+        }
+        builder.append('|');
+        for (Long sessionId : schedule.getRemovedSessionIds()) {
+            builder.append(sessionId).append(',');
+        }
+        return builder.toString();
+    }
+
+    private String sign(PhoneRestrictionExceptionDto.RestrictionSchedule schedule) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(restrictionScheduleConfig.getSigningKey().getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            byte[] signature = mac.doFinal(canonicalize(schedule).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("제한 일정 서명에 실패했습니다.", e);
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,48 @@
+package com.dmt.app.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 폰 사용 제한 상태 변경 대기 목록 (롱 폴링용)
+ * 제한 인덱스에서 상태 버전이 바뀌면 해당 사용자의 대기 요청을 모두 깨웁니다.
+ */
+@Component
+@Slf4j
+public class RestrictionStatusWatchers {
+
+    // 사용자별 상태 변경 콜백
+    private final Map<Long, Set<Runnable>> watchers = new ConcurrentHashMap<>();
+
+    /**
+     * 상태 변경 시 한 번 실행될 콜백 등록 - 반환된 작업으로 등록 해제
+     */
+    public Runnable watch(Long userId, Runnable onChange) {
+        watchers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(onChange);
+        return () -> watchers.computeIfPresent(userId, (id, callbacks) -> {
+            callbacks.remove(onChange);
+            return callbacks.isEmpty() ? null : callbacks;
+        });
+    }
+
+    /**
+     * 사용자 상태 변경 - 대기 중인 콜백 실행 후 제거
+     */
+    public void stateChanged(Long userId) {
+        Set<Runnable> callbacks = watchers.remove(userId);
+        if (callbacks == null) {
+            return;
+        }
+        for (Runnable callback : callbacks) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                log.warn("폰 사용 제한 상태 대기 요청 처리 실패: {}", userId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.dmt.app.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 멤버별 폰 사용 제한 타임라인
+ * 세션 시간에서 승인된 예외 시간대를 뺀 제한 구간을 정렬된 경계값 배열로 보관하며,
+ * 임의 시각의 제한 여부를 이진 탐색으로 판정합니다.
+ * 경계값은 [b0, b1), [b2, b3) ... 형태의 반열린 제한 구간입니다.
+ */
+public final class RestrictionTimeline {
+
+    private static final RestrictionTimeline EMPTY = new RestrictionTimeline(new long[0]);
+
+    private final long[] boundaries;
+
+    private RestrictionTimeline(long[] boundaries) {
+        this.boundaries = boundaries;
+    }
+
+    public static RestrictionTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 세션 시간(시작/종료 포함)에서 예외 시간대(시작/종료 포함)를 제외한 타임라인 생성
+     */
+    public static RestrictionTimeline of(LocalDateTime sessionStart, LocalDateTime sessionEnd,
+                                         Collection<ExceptionWindowIndex.ExceptionWindow> windows) {
+        if (sessionStart == null || sessionEnd == null || sessionStart.isAfter(sessionEnd)) {
+            return EMPTY;
+        }
+
+        long start = toKey(sessionStart);
+        long end = toKey(sessionEnd) + 1;
+
+        List<long[]> exempted = new ArrayList<>();
+        for (ExceptionWindowIndex.ExceptionWindow window : windows) {
+            long from = window.startTime() == null ? start : toKey(window.startTime());
+            long to = window.endTime() == null ? end : toKey(window.endTime()) + 1;
+            if (from < to) {
+                exempted.add(new long[]{from, to});
+            }
+        }
+        exempted.sort(Comparator.comparingLong(range -> range[0]));
+
+        long[] result = new long[2 * (exempted.size() + 1)];
+        int size = 0;
+        long cursor = start;
+        for (long[] range : exempted) {
+            if (cursor >= end) {
+                break;
+            }
+            long restrictedUntil = Math.min(range[0], end);
+            if (restrictedUntil > cursor) {
+                result[size++] = cursor;
+                result[size++] = restrictedUntil;
+            }
+            cursor = Math.max(cursor, range[1]);
+        }
+        if (cursor < end) {
+            result[size++] = cursor;
+            result[size++] = end;
+        }
+
+        return size == 0 ? EMPTY : new RestrictionTimeline(Arrays.copyOf(result, size));
+    }
+
+    /**
+     * 지정 시각에 제한되는지 확인
+     */
+    public boolean isRestrictedAt(LocalDateTime time) {
+        int index = Arrays.binarySearch(boundaries, toKey(time));
+        if (index >= 0) {
+            return index % 2 == 0;
+        }
+        return (-index - 1) % 2 == 1;
+    }
+
+    /**
+     * 지정 시각 이후 처음으로 제한 상태가 바뀌는 시각 (없으면 null)
+     */
+    public LocalDateTime nextChangeAfter(LocalDateTime time) {
+        int index = Arrays.binarySearch(boundaries, toKey(time));
+        int next = index >= 0 ? index + 1 : -index - 1;
+        return next < boundaries.length ? fromKey(boundaries[next]) : null;
+    }
+
+    /**
+     * 지정 기간과 겹치는 제한 구간 (기간 경계로 잘라서 반환)
+     */
+    public List<Interval> intervalsBetween(LocalDateTime from, LocalDateTime until) {
+        long lower = toKey(from);
+        long upper = toKey(until);
+        List<Interval> intervals = new ArrayList<>();
+        for (int i = 0; i < boundaries.length; i += 2) {
+            long start = Math.max(boundaries[i], lower);
+            long end = Math.min(boundaries[i + 1], upper);
+            if (start < end) {
+                intervals.add(new Interval(fromKey(start), fromKey(end)));
+            }
+        }
+        return intervals;
+    }
+
+    public boolean isEmpty() {
+        return boundaries.length == 0;
+    }
+
+    /**
+     * 제한 구간 (시작 포함, 종료 제외)
+     */
+    public record Interval(LocalDateTime startTime, LocalDateTime endTime) {
+    }
+
+    // 나노초 단위 정렬 키 (시간대 변환 없이 순서만 보존)
+    private static long toKey(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    private static LocalDateTime fromKey(long key) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(key, 1_000_000_000L),
+                (int) Math.floorMod(key, 1_000_000_000L), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,244 @@
+package com.dmt.app.service;
+
+import com.dmt.app.entity.PhoneRestrictionException;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.repository.StudySessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션별 멤버 폰 사용 제한 타임라인 저장소
+ * 세션 생성/수정, 예외 승인/수정/삭제 시점에 미리 계산해 두며,
+ * 예외가 없는 멤버는 세션 기본 타임라인을 공유합니다.
+ * 변경마다 버전을 부여하고 제거된 세션을 기록하여 변경분 동기화에 사용합니다.
+ * 버전은 노드 실행마다 새로 만드는 기준(epoch) 안에서만 비교할 수 있습니다.
+ * 변경은 커밋된 뒤에 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RestrictionTimelineIndex {
+
+    // 보관하는 제거 기록 최대 개수 (초과 시 오래된 기록부터 삭제)
+    private static final int MAX_TOMBSTONES = 10_000;
+
+    private final StudySessionRepository studySessionRepository;
+    private final ExceptionWindowIndex exceptionWindowIndex;
+
+    // 세션별 타임라인 (세션 ID -> 기본/멤버별 타임라인)
+    private final Map<Long, SessionTimelines> timelinesBySession = new ConcurrentHashMap<>();
+
+    // 제거된 세션 기록 (버전 -> 제거 기록)
+    private final NavigableMap<Long, Tombstone> tombstones = new ConcurrentSkipListMap<>();
+
+    // 사용자별 그룹 멤버십 변경 버전
+    private final Map<Long, Long> membershipVersions = new ConcurrentHashMap<>();
+
+    // 노드/실행마다 다른 버전 기준 (다른 노드나 재시작 이전의 버전으로는 변경분을 계산할 수 없음)
+    private final String epoch = UUID.randomUUID().toString();
+
+    // 버전 기준 안에서 변경마다 증가
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    // 이 버전 이전 기준의 변경분은 계산할 수 없음 (제거 기록 정리)
+    private volatile long oldestDiffableVersion = 0L;
+
+    /**
+     * 애플리케이션 시작 시 예정/진행 중인 세션의 타임라인 계산 (예외 시간대 인덱스 이후, 제한 인덱스 이전)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        for (StudySession.SessionStatus status : List.of(StudySession.SessionStatus.SCHEDULED,
+                StudySession.SessionStatus.IN_PROGRESS)) {
+            studySessionRepository.findByStatus(status).forEach(this::sessionScheduled);
+        }
+        TransactionCallbacks.afterCommit(() ->
+                log.info("폰 사용 제한 타임라인 초기화 완료: 세션 {}개", timelinesBySession.size()));
+    }
+
+    /**
+     * 세션 생성/수정 - 세션 시간 기준으로 전체 타임라인 재계산
+     */
+    public void sessionScheduled(StudySession session) {
+        TransactionCallbacks.afterCommit(() -> timelinesBySession.put(session.getId(), compute(session)));
+    }
+
+    /**
+     * 다른 노드의 세션 변경 반영 - 타임라인이 없거나 세션 시간이 바뀐 경우에만 재계산
+     */
+    public void sessionSynced(StudySession session) {
+        SessionTimelines current = timelinesBySession.get(session.getId());
+        if (current == null || !current.startTime().equals(session.getStartTime())
+                || !current.endTime().equals(session.getEndTime())) {
+            sessionScheduled(session);
+        }
+    }
+
+    /**
+     * 예외 승인/수정/삭제 - 해당 멤버 타임라인만 재계산 (예외 시간대 인덱스에 먼저 반영되어야 함)
+     */
+    public void exceptionChanged(PhoneRestrictionException exception) {
+        Long sessionId = exception.getStudySession().getId();
+        Long userId = exception.getUser().getId();
+        TransactionCallbacks.afterCommit(() -> recompute(sessionId, userId));
+    }
+
+    private void recompute(Long sessionId, Long userId) {
+        timelinesBySession.computeIfPresent(sessionId, (id, timelines) -> {
+            List<ExceptionWindowIndex.ExceptionWindow> windows = exceptionWindowIndex.windowsOf(sessionId).stream()
+                    .filter(window -> window.userId().equals(userId))
+                    .toList();
+            if (windows.isEmpty()) {
+                timelines.members().remove(userId);
+            } else {
+                timelines.members().put(userId, RestrictionTimeline.of(timelines.startTime(), timelines.endTime(), windows));
+            }
+            return timelines.withVersion(versionSequence.incrementAndGet());
+        });
+    }
+
+    /**
+     * 세션 종료/취소/삭제 - 타임라인 제거 후 제거 기록 보관
+     */
+    public void sessionRemoved(Long sessionId) {
+        TransactionCallbacks.afterCommit(() -> remove(sessionId));
+    }
+
+    private void remove(Long sessionId) {
+        SessionTimelines removed = timelinesBySession.remove(sessionId);
+        if (removed == null) {
+            return;
+        }
+
+        tombstones.put(versionSequence.incrementAndGet(), new Tombstone(sessionId, removed.groupId()));
+        while (tombstones.size() > MAX_TOMBSTONES) {
+            Map.Entry<Long, Tombstone> oldest = tombstones.pollFirstEntry();
+            if (oldest != null) {
+                oldestDiffableVersion = Math.max(oldestDiffableVersion, oldest.getKey());
+            }
+        }
+    }
+
+    /**
+     * 그룹 참여/탈퇴 - 해당 사용자는 다음 동기화 시 전체 일정을 받음
+     */
+    public void membershipChanged(Long userId) {
+        TransactionCallbacks.afterCommit(() -> membershipVersions.put(userId, versionSequence.incrementAndGet()));
+    }
+
+    /**
+     * 타임라인을 보관 중인 세션 ID
+     */
+    public Set<Long> sessionIds() {
+        return Set.copyOf(timelinesBySession.keySet());
+    }
+
+    /**
+     * 멤버의 세션 타임라인 (계산된 적 없는 세션이면 빈 타임라인)
+     */
+    public RestrictionTimeline timelineOf(Long userId, Long sessionId) {
+        SessionTimelines timelines = timelinesBySession.get(sessionId);
+        if (timelines == null) {
+            return RestrictionTimeline.empty();
+        }
+        return timelines.members().getOrDefault(userId, timelines.base());
+    }
+
+    /**
+     * 멤버의 세션 타임라인과 버전 (계산된 적 없는 세션이면 계산 후 반환)
+     */
+    public VersionedTimeline versionedTimelineOf(Long userId, StudySession session) {
+        SessionTimelines timelines = timelinesBySession.computeIfAbsent(session.getId(), id -> compute(session));
+        return new VersionedTimeline(timelines.version(), timelines.members().getOrDefault(userId, timelines.base()));
+    }
+
+    /**
+     * 세션 멤버가 지정 시각에 제한되는지 확인 (멤버 여부는 호출자가 확인)
+     */
+    public boolean isRestricted(Long userId, Long sessionId, LocalDateTime at) {
+        return timelineOf(userId, sessionId).isRestrictedAt(at);
+    }
+
+    public long currentVersion() {
+        return versionSequence.get();
+    }
+
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * 지정 기준과 버전 이후의 변경분만으로 사용자 일정을 갱신할 수 있는지 확인 (기준이 다르면 불가)
+     */
+    public boolean canDiffSince(Long userId, String sinceEpoch, long since) {
+        return epoch.equals(sinceEpoch) && since <= versionSequence.get()
+                && since >= oldestDiffableVersion && since >= membershipVersions.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * 지정 버전 이후 변경/제거된 그룹 세션 ID
+     */
+    public Set<Long> changedSessionIdsSince(long since, Collection<Long> groupIds) {
+        Set<Long> sessionIds = new LinkedHashSet<>();
+        for (Map.Entry<Long, SessionTimelines> entry : timelinesBySession.entrySet()) {
+            if (entry.getValue().version() > since && groupIds.contains(entry.getValue().groupId())) {
+                sessionIds.add(entry.getKey());
+            }
+        }
+        for (Tombstone tombstone : tombstones.tailMap(since, false).values()) {
+            if (groupIds.contains(tombstone.groupId())) {
+                sessionIds.add(tombstone.sessionId());
+            }
+        }
+        return sessionIds;
+    }
+
+    private SessionTimelines compute(StudySession session) {
+        SessionTimelines timelines = new SessionTimelines(session.getStudyGroup().getId(),
+                session.getStartTime(), session.getEndTime(),
+                RestrictionTimeline.of(session.getStartTime(), session.getEndTime(), List.of()),
+                new ConcurrentHashMap<>(), versionSequence.incrementAndGet());
+        for (ExceptionWindowIndex.ExceptionWindow window : exceptionWindowIndex.windowsOf(session.getId())) {
+            timelines.members().put(window.userId(),
+                    RestrictionTimeline.of(session.getStartTime(), session.getEndTime(), List.of(window)));
+        }
+        return timelines;
+    }
+
+    /**
+     * 버전이 부여된 멤버 타임라인
+     */
+    public record VersionedTimeline(long version, RestrictionTimeline timeline) {
+    }
+
+    private record SessionTimelines(Long groupId, LocalDateTime startTime, LocalDateTime endTime,
+                                    RestrictionTimeline base, Map<Long, RestrictionTimeline> members, long version) {
+
+        SessionTimelines withVersion(long newVersion) {
+            return new SessionTimelines(groupId, startTime, endTime, base, members, newVersion);
+        }
+    }
+
+    private record Tombstone(Long sessionId, Long groupId) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.dmt.app.service;
+
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.repository.StudySessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 놓친 세션 복구
+ * 애플리케이션 중단이나 긴 일시 정지 동안 종료 시각이 지나간 예정/진행 세션을 한 번에 완료 처리하고,
+ * 출석 기록이 없는 멤버를 결석 처리합니다. 이미 끝난 세션의 시작/종료 알림은 보내지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SessionRecoveryService {
+
+    private final StudySessionRepository studySessionRepository;
+    private final AttendanceService attendanceService;
+    private final NotificationService notificationService;
+    private final RestrictionIndex restrictionIndex;
+    private final SessionTransitionTimer sessionTransitionTimer;
+
+    /**
+     * 종료 시각이 지났지만 완료되지 않은 세션 (종료 시각이 이른 순으로 최대 limit개, 그룹별)
+     */
+    public Map<Long, List<Long>> findMissedSessionsByGroup(int limit) {
+        return studySessionRepository.findMissedSessions(LocalDateTime.now(), PageRequest.of(0, limit)).stream()
+                .collect(Collectors.groupingBy(StudySessionRepository.SessionGroup::getStudyGroupId,
+                        Collectors.mapping(StudySessionRepository.SessionGroup::getSessionId, Collectors.toList())));
+    }
+
+    /**
+     * 한 그룹의 놓친 세션 복구 - 결석 처리 후 완료 상태로 변경하고 복구한 세션 수 반환
+     */
+    @Transactional
+    public int recoverSessions(List<Long> sessionIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StudySession> missedSessions = studySessionRepository.findAllById(sessionIds).stream()
+                .filter(session -> session.getStatus() == StudySession.SessionStatus.SCHEDULED
+                        || session.getStatus() == StudySession.SessionStatus.IN_PROGRESS)
+                .filter(session -> session.getEndTime().isBefore(now))
+                .collect(Collectors.toList());
+        if (missedSessions.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> missedIds = missedSessions.stream()
+                .map(StudySession::getId)
+                .collect(Collectors.toList());
+        int absentCount = attendanceService.markAbsences(missedIds);
+
+        int recoveredCount = 0;
+        int notifiedCount = 0;
+        for (StudySession session : missedSessions) {
+            // 세션별 조건부 갱신으로 이번 호출이 완료 처리한 세션만 구분 (다른 인스턴스가 먼저 완료했으면 0)
+            boolean recovered = studySessionRepository.completeMissedSessions(List.of(session.getId()), now) > 0;
+            restrictionIndex.sessionEnded(session.getId());
+            sessionTransitionTimer.sessionRemoved(session.getId());
+            if (!recovered) {
+                continue;
+            }
+            recoveredCount++;
+
+            // 진행 중이던 세션이 방금 끝난 경우에만 커밋 후 종료 알림 (시작하지 못한 세션은 알림 없음)
+            if (session.getStatus() == StudySession.SessionStatus.IN_PROGRESS
+                    && !StudySessionService.isStale(session, now)) {
+                session.setStatus(StudySession.SessionStatus.COMPLETED);
+                TransactionCallbacks.afterCommit(() -> notificationService.notifySessionEnd(session));
+                notifiedCount++;
+            }
+        }
+        log.info("놓친 세션 복구: 세션 {}건 완료, 결석 처리 {}건, 알림 {}건", recoveredCount, absentCount, notifiedCount);
+        return recoveredCount;
+    }
+}
@@ -0,0 +1,157 @@
+package com.dmt.app.service;
+
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.repository.StudySessionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 세션 시작/종료 시각 타이머
+ * 예정된 세션의 시작/종료 시각과 시작 5분 전 출석 알림 시각을 지연 큐에 보관하고 해당 시각에 전환 작업을 실행하여
+ * 주기적인 세션 테이블 스캔 없이 1초 이내에 상태를 전환합니다.
+ * 같은 초에 도래한 전환은 한 묶음으로 전달합니다. 변경은 커밋된 뒤에 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionTransitionTimer {
+
+    // 세션 시작 전 출석 알림 시점
+    private static final long REMINDER_MINUTES_BEFORE_START = 5;
+
+    private final StudySessionRepository studySessionRepository;
+
+    private final DelayQueue<Transition> queue = new DelayQueue<>();
+
+    private volatile Thread worker;
+
+    /**
+     * 예정/진행 중인 세션으로 큐를 채우고 전환 처리 스레드 시작
+     */
+    public synchronized void start(Consumer<List<Transition>> handler) {
+        if (worker != null) {
+            return;
+        }
+
+        for (StudySession session : studySessionRepository.findByStatus(StudySession.SessionStatus.SCHEDULED)) {
+            sessionScheduled(session);
+        }
+        for (StudySession session : studySessionRepository.findByStatus(StudySession.SessionStatus.IN_PROGRESS)) {
+            sessionScheduled(session);
+        }
+
+        worker = Thread.ofPlatform()
+                .name("session-transition-timer")
+                .daemon(true)
+                .start(() -> run(handler));
+        log.info("세션 전환 타이머 시작: 대기 중인 전환 {}건", queue.size());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    /**
+     * 세션 생성/수정/시작 - 기존 전환을 지우고 현재 상태 기준으로 다시 등록
+     */
+    public void sessionScheduled(StudySession session) {
+        Long sessionId = session.getId();
+        List<Transition> transitions = new ArrayList<>();
+        if (session.getStatus() == StudySession.SessionStatus.SCHEDULED) {
+            // 같은 초의 알림이 함께 만료되도록 초 단위로 맞춤 (이미 지난 알림은 보내지 않음)
+            LocalDateTime remindAt = session.getStartTime().minusMinutes(REMINDER_MINUTES_BEFORE_START)
+                    .truncatedTo(ChronoUnit.SECONDS);
+            if (remindAt.isAfter(LocalDateTime.now())) {
+                transitions.add(new Transition(sessionId, TransitionType.REMIND, remindAt));
+            }
+            transitions.add(new Transition(sessionId, TransitionType.START, session.getStartTime()));
+        }
+        if (session.getStatus() == StudySession.SessionStatus.SCHEDULED
+                || session.getStatus() == StudySession.SessionStatus.IN_PROGRESS) {
+            transitions.add(new Transition(sessionId, TransitionType.END, session.getEndTime()));
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            queue.removeIf(transition -> transition.sessionId().equals(sessionId));
+            queue.addAll(transitions);
+        });
+    }
+
+    /**
+     * 세션 삭제/취소/완료 - 대기 중인 전환 제거
+     */
+    public void sessionRemoved(Long sessionId) {
+        TransactionCallbacks.afterCommit(() -> queue.removeIf(transition -> transition.sessionId().equals(sessionId)));
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void run(Consumer<List<Transition>> handler) {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Transition> batch = new ArrayList<>();
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            // 같은 초에 도래한 전환을 함께 꺼냄
+            LocalDateTime second = batch.get(0).at().truncatedTo(ChronoUnit.SECONDS);
+            Transition next;
+            while ((next = queue.peek()) != null && next.at().truncatedTo(ChronoUnit.SECONDS).equals(second)
+                    && (next = queue.poll()) != null) {
+                batch.add(next);
+            }
+
+            try {
+                handler.accept(batch);
+            } catch (RuntimeException e) {
+                log.error("세션 전환 처리 중 오류 발생: {}건 ({})", batch.size(), second, e);
+            }
+        }
+    }
+
+    public enum TransitionType {
+        REMIND, START, END
+    }
+
+    /**
+     * 세션 전환 예약 (지정 시각이 되면 큐에서 꺼낼 수 있음)
+     */
+    public record Transition(Long sessionId, TransitionType type, LocalDateTime at) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            long dueMillis = at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            return unit.convert(dueMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof Transition transition) {
+                int byTime = at.compareTo(transition.at);
+                // 같은 시각이면 종료를 먼저 처리
+                return byTime != 0 ? byTime : transition.type.compareTo(type);
+            }
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -26,6 +26,7 @@ public class StudyGroupService {
     private final StudyGroupRepository studyGroupRepository;
     private final StudyGroupMemberRepository studyGroupMemberRepository;
     private final UserRepository userRepository;
+    private final RestrictionIndex restrictionIndex;
     
     @Transactional
     public StudyGroupDto.Response createStudyGroup(Long userId, StudyGroupDto.CreateRequest request) {
@@ -159,6 +160,7 @@ public class StudyGroupService {
                 .build();
         
         studyGroupMemberRepository.save(newMember);
+        restrictionIndex.memberJoined(groupId, userId);
         log.info("사용자 {}가 그룹 {}에 참여했습니다.", user.getNickname(), studyGroup.getName());
     }
     
@@ -173,6 +175,7 @@ public class StudyGroupService {
         
         member.setIsActive(false);
         studyGroupMemberRepository.save(member);
+        restrictionIndex.memberLeft(groupId, userId);
         
         log.info("사용자 {}가 그룹 {}에서 나갔습니다.", member.getUser().getNickname(), member.getStudyGroup().getName());
     }
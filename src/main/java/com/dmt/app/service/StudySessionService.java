@@ -4,22 +4,25 @@ import com.dmt.app.dto.StudySessionDto;
 import com.dmt.app.entity.StudyGroup;
 import com.dmt.app.entity.StudyGroupMember;
 import com.dmt.app.entity.StudySession;
-import com.dmt.app.entity.PhoneRestrictionException;
 import com.dmt.app.exception.StudyGroupException;
 import com.dmt.app.exception.StudySessionException;
 import com.dmt.app.repository.StudyGroupRepository;
 import com.dmt.app.repository.StudyGroupMemberRepository;
 import com.dmt.app.repository.StudySessionRepository;
-import com.dmt.app.repository.PhoneRestrictionExceptionRepository;
 import com.dmt.app.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,11 +31,16 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class StudySessionService {
     
+    // 종료 시각 이후 종료 알림을 보내는 최대 지연 시간
+    static final Duration STALE_NOTIFICATION_GRACE = Duration.ofMinutes(5);
+    
     private final StudySessionRepository studySessionRepository;
     private final StudyGroupRepository studyGroupRepository;
     private final StudyGroupMemberRepository studyGroupMemberRepository;
-    private final PhoneRestrictionExceptionRepository phoneRestrictionExceptionRepository;
     private final NotificationService notificationService;
+    private final RestrictionIndex restrictionIndex;
+    private final RestrictionTimelineIndex restrictionTimelineIndex;
+    private final SessionTransitionTimer sessionTransitionTimer;
     
     @Transactional
     public StudySessionDto.Response createStudySession(Long userId, StudySessionDto.CreateRequest request) {
@@ -71,6 +79,8 @@ public class StudySessionService {
                 .build();
         
         StudySession savedSession = studySessionRepository.save(studySession);
+        restrictionTimelineIndex.sessionScheduled(savedSession);
+        sessionTransitionTimer.sessionScheduled(savedSession);
         log.info("새로운 스터디 세션이 생성되었습니다: {} (그룹: {})", savedSession.getSessionName(), studyGroup.getName());
         
         return StudySessionDto.Response.from(savedSession);
@@ -125,12 +135,18 @@ public class StudySessionService {
             throw new IllegalArgumentException("시작 시간은 종료 시간보다 빨라야 합니다.");
         }
         
+        // 시작 시각이 바뀌면 새 시작 시각 기준으로 다시 알림
+        if (!request.getStartTime().equals(studySession.getStartTime())) {
+            studySession.setRemindedAt(null);
+        }
         studySession.setSessionName(request.getSessionName());
         studySession.setStartTime(request.getStartTime());
         studySession.setEndTime(request.getEndTime());
         studySession.setDurationMinutes((int) ChronoUnit.MINUTES.between(request.getStartTime(), request.getEndTime()));
         
         StudySession updatedSession = studySessionRepository.save(studySession);
+        restrictionTimelineIndex.sessionScheduled(updatedSession);
+        sessionTransitionTimer.sessionScheduled(updatedSession);
         log.info("스터디 세션이 수정되었습니다: {}", updatedSession.getSessionName());
         
         return StudySessionDto.Response.from(updatedSession);
@@ -175,9 +191,21 @@ public class StudySessionService {
         }
         
         studySession.setStatus(request.getStatus());
+        if (request.getStatus() == StudySession.SessionStatus.COMPLETED) {
+            studySession.setCompletedAt(LocalDateTime.now());
+        }
         StudySession updatedSession = studySessionRepository.save(studySession);
         log.info("스터디 세션 상태가 변경되었습니다: {} -> {}", studySession.getSessionName(), request.getStatus());
         
+        // 폰 사용 제한 인덱스와 전환 타이머 반영
+        if (request.getStatus() == StudySession.SessionStatus.IN_PROGRESS) {
+            restrictionIndex.sessionStarted(updatedSession);
+            sessionTransitionTimer.sessionScheduled(updatedSession);
+        } else {
+            restrictionIndex.sessionEnded(sessionId);
+            sessionTransitionTimer.sessionRemoved(sessionId);
+        }
+        
         return StudySessionDto.Response.from(updatedSession);
     }
     
@@ -201,60 +229,209 @@ public class StudySessionService {
         }
         
         studySessionRepository.delete(studySession);
+        restrictionTimelineIndex.sessionRemoved(sessionId);
+        sessionTransitionTimer.sessionRemoved(sessionId);
         log.info("스터디 세션이 삭제되었습니다: {}", studySession.getSessionName());
     }
     
-    // 스케줄러를 위한 메서드 - 예정된 세션을 진행 상태로 변경
+    // 스케줄러를 위한 메서드 - 시작 시각이 지난 예정 세션 (그룹별)
+    public Map<Long, List<Long>> findSessionsToStartByGroup() {
+        return groupSessionIds(studySessionRepository.findSessionsToStart(LocalDateTime.now()));
+    }
+    
+    // 스케줄러를 위한 메서드 - 한 그룹의 예정된 세션을 진행 상태로 변경 (전환 타이머가 놓친 세션 보정용)
+    @Transactional
+    public int startSessions(List<Long> sessionIds) {
+        LocalDateTime now = LocalDateTime.now();
+        int startedCount = 0;
+        for (StudySession session : studySessionRepository.findAllById(sessionIds)) {
+            if (session.getStatus() == StudySession.SessionStatus.SCHEDULED
+                    && !now.isBefore(session.getStartTime()) && start(session)) {
+                startedCount++;
+            }
+        }
+        return startedCount;
+    }
+    
+    // 전환 타이머를 위한 메서드 - 알림 시각이 된 세션들의 멤버를 한 번에 조회하여 출석 알림 전송
+    // 모든 인스턴스의 타이머가 알림 시각에 호출하며, 알림 시각을 먼저 기록한 인스턴스만 커밋 후 전송
+    @Transactional
+    public void sendAttendanceReminders(Collection<Long> sessionIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StudySession> sessions = studySessionRepository.findAllById(sessionIds).stream()
+                .filter(session -> session.getStatus() == StudySession.SessionStatus.SCHEDULED)
+                .filter(session -> studySessionRepository.claimReminder(session.getId(), now) > 0)
+                .collect(Collectors.toList());
+        
+        if (sessions.isEmpty()) {
+            return;
+        }
+        
+        Set<Long> groupIds = sessions.stream()
+                .map(session -> session.getStudyGroup().getId())
+                .collect(Collectors.toSet());
+        Map<Long, List<StudyGroupMember>> membersByGroup = studyGroupMemberRepository
+                .findActiveMembersByStudyGroupIds(groupIds).stream()
+                .collect(Collectors.groupingBy(member -> member.getStudyGroup().getId()));
+        
+        TransactionCallbacks.afterCommit(() -> {
+            for (StudySession session : sessions) {
+                notificationService.notifyAttendanceReminder(session,
+                        membersByGroup.getOrDefault(session.getStudyGroup().getId(), List.of()));
+            }
+            log.info("출석 알림 전송 완료: 세션 {}개", sessions.size());
+        });
+    }
+    
+    // 전환 타이머를 위한 메서드 - 시작 시각이 된 예정 세션을 진행 상태로 변경 (이미 끝난 세션은 복구 작업이 처리)
     @Transactional
-    public void startScheduledSessions() {
-        List<StudySession> sessionsToStart = studySessionRepository.findSessionsToStart(LocalDateTime.now());
+    public void startSession(Long sessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        studySessionRepository.findById(sessionId)
+                .filter(session -> !now.isBefore(session.getStartTime()) && now.isBefore(session.getEndTime()))
+                .ifPresent(this::start);
+    }
+    
+    // 전환 타이머를 위한 메서드 - 종료 시각이 지난 진행 세션을 완료 상태로 변경
+    @Transactional
+    public void completeSession(Long sessionId) {
+        studySessionRepository.findById(sessionId)
+                .filter(session -> !LocalDateTime.now().isBefore(session.getEndTime()))
+                .ifPresent(session -> {
+                    boolean completed = session.getStatus() == StudySession.SessionStatus.IN_PROGRESS
+                            && studySessionRepository.completeSessions(List.of(sessionId), LocalDateTime.now()) > 0;
+                    // 종료 시각이 지났으므로 어느 인스턴스가 전환했든 인메모리 인덱스에서는 제거
+                    restrictionIndex.sessionEnded(sessionId);
+                    if (completed) {
+                        log.info("스터디 세션이 자동으로 종료되었습니다: {}", session.getSessionName());
+                        
+                        // 커밋 후 실시간 알림 전송 (중단 등으로 늦게 처리된 세션은 생략)
+                        if (!isStale(session, LocalDateTime.now())) {
+                            TransactionCallbacks.afterCommit(() -> notificationService.notifySessionEnd(session));
+                        }
+                    }
+                });
+    }
+    
+    // 스케줄러를 위한 메서드 - 종료 시각이 지난 진행 세션 (그룹별)
+    public Map<Long, List<Long>> findSessionsToCompleteByGroup() {
+        return groupSessionIds(studySessionRepository.findSessionsToComplete(LocalDateTime.now()));
+    }
+    
+    // 스케줄러를 위한 메서드 - 한 그룹의 종료 시각이 지난 진행 세션을 완료 처리하고 완료한 세션 수 반환
+    @Transactional
+    public int completeEndedSessions(List<Long> sessionIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StudySession> sessionsToComplete = studySessionRepository.findAllById(sessionIds).stream()
+                .filter(session -> session.getStatus() == StudySession.SessionStatus.IN_PROGRESS)
+                .filter(session -> session.getEndTime().isBefore(now))
+                .collect(Collectors.toList());
+        if (sessionsToComplete.isEmpty()) {
+            return 0;
+        }
+        
+        int completedCount = 0;
+        for (StudySession session : sessionsToComplete) {
+            // 세션별 조건부 갱신으로 이번 호출이 완료 처리한 세션만 구분 (전환 타이머가 먼저 완료했으면 0)
+            boolean completed = studySessionRepository.completeSessions(List.of(session.getId()), now) > 0;
+            restrictionIndex.sessionEnded(session.getId());
+            sessionTransitionTimer.sessionRemoved(session.getId());
+            if (!completed) {
+                continue;
+            }
+            completedCount++;
+            session.setStatus(StudySession.SessionStatus.COMPLETED);
+            
+            // 커밋 후 세션 종료 및 폰 사용 제한 해제 알림 전송 (중단 등으로 늦게 처리된 세션은 생략)
+            if (!isStale(session, now)) {
+                TransactionCallbacks.afterCommit(() -> notificationService.notifySessionEnd(session));
+            }
+        }
+        log.info("종료 시간이 지난 스터디 세션이 완료 처리되었습니다: {}건", completedCount);
+        return completedCount;
+    }
+    
+    /**
+     * 종료 시각에서 알림 유효 시간이 지난 세션 - 알림을 보내도 의미가 없음
+     */
+    static boolean isStale(StudySession session, LocalDateTime now) {
+        return session.getEndTime().plus(STALE_NOTIFICATION_GRACE).isBefore(now);
+    }
+    
+    private static Map<Long, List<Long>> groupSessionIds(List<StudySession> sessions) {
+        return sessions.stream()
+                .collect(Collectors.groupingBy(session -> session.getStudyGroup().getId(),
+                        Collectors.mapping(StudySession::getId, Collectors.toList())));
+    }
+    
+    /**
+     * 세션 시작 - 이 인스턴스가 상태를 전환했으면 true
+     */
+    private boolean start(StudySession session) {
+        boolean started = transition(session, StudySession.SessionStatus.SCHEDULED,
+                StudySession.SessionStatus.IN_PROGRESS);
+        if (!started && currentStatus(session) != StudySession.SessionStatus.IN_PROGRESS) {
+            return false;
+        }
         
-        for (StudySession session : sessionsToStart) {
-            session.setStatus(StudySession.SessionStatus.IN_PROGRESS);
-            studySessionRepository.save(session);
+        // 다른 인스턴스가 전환했더라도 이 인스턴스의 인메모리 인덱스와 타이머는 반영
+        session.setStatus(StudySession.SessionStatus.IN_PROGRESS);
+        restrictionIndex.sessionStarted(session);
+        sessionTransitionTimer.sessionScheduled(session);
+        
+        if (started) {
             log.info("스터디 세션이 자동으로 시작되었습니다: {}", session.getSessionName());
             
-            // 실시간 알림 전송
-            notificationService.notifySessionStart(session);
+            // 실시간 알림 전송 (커밋 후)
+            TransactionCallbacks.afterCommit(() -> notificationService.notifySessionStart(session));
         }
+        return started;
     }
-
-    // 폰 사용 제한 관련 메서드들
     
     /**
-     * 사용자의 현재 폰 사용 제한 상태 확인
+     * 조건부 상태 전환 - 여러 인스턴스가 동시에 시도해도 한 곳만 성공
      */
-    public boolean isPhoneRestricted(Long userId) {
-        List<StudySession> activeSessions = studySessionRepository.findCurrentSessions(LocalDateTime.now());
-        
-        for (StudySession session : activeSessions) {
-            // 사용자가 해당 세션에 참여하고 있는지 확인
-            if (isUserParticipatingInSession(userId, session.getId())) {
-                // 폰 사용 제한 예외가 있는지 확인
-                if (!hasActivePhoneException(userId, session.getId())) {
-                    return true; // 폰 사용 제한됨
-                }
-            }
+    private boolean transition(StudySession session, StudySession.SessionStatus from, StudySession.SessionStatus to) {
+        return session.getStatus() == from
+                && studySessionRepository.transitionStatus(session.getId(), from, to, LocalDateTime.now()) > 0;
+    }
+    
+    private StudySession.SessionStatus currentStatus(StudySession session) {
+        if (session.getStatus() != StudySession.SessionStatus.SCHEDULED) {
+            return session.getStatus();
         }
-        return false; // 폰 사용 제한되지 않음
+        // 전환에 실패했으면 다른 인스턴스가 바꾼 상태를 다시 조회
+        return studySessionRepository.findById(session.getId())
+                .map(StudySession::getStatus)
+                .orElse(null);
     }
+
+    // 폰 사용 제한 관련 메서드들
     
     /**
-     * 사용자가 특정 세션에 참여하고 있는지 확인
+     * 사용자의 현재 폰 사용 제한 상태 확인
+     * 인메모리 인덱스로 응답하며, 인덱스 초기화 전에만 DB를 조회합니다.
      */
-    private boolean isUserParticipatingInSession(Long userId, Long sessionId) {
-        // 출석 기록에서 확인
-        // TODO: AttendanceService와 연동하여 구현
-        return true; // 임시로 true 반환
+    public boolean isPhoneRestricted(Long userId) {
+        if (restrictionIndex.isReady()) {
+            return restrictionIndex.isRestricted(userId);
+        }
+        
+        // 사용자가 활성 멤버로 참여 중인 진행 세션만 예외 정보와 함께 조회
+        LocalDateTime now = LocalDateTime.now();
+        return studySessionRepository.findCurrentParticipations(List.of(userId), now).stream()
+                .anyMatch(participation -> !participation.isExemptAt(now)); // 승인된 예외 시간대가 아니면 제한됨
     }
     
     /**
-     * 사용자가 특정 세션에 대해 활성화된 폰 사용 제한 예외가 있는지 확인
+     * 사용자의 폰 사용 제한 상태 버전 (노드 실행별 기준 포함, 상태가 바뀔 때만 증가)
+     * 인덱스 초기화 전에는 상태를 DB에서 평가하므로 버전이 변경을 반영하지 못해 빈 값을 반환합니다.
      */
-    private boolean hasActivePhoneException(Long userId, Long sessionId) {
-        return phoneRestrictionExceptionRepository.findByUserIdAndStudySessionId(userId, sessionId)
-                .map(exception -> exception.getStatus() == PhoneRestrictionException.ExceptionStatus.APPROVED)
-                .orElse(false);
+    public Optional<String> getPhoneRestrictionVersion(Long userId) {
+        if (!restrictionIndex.isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(restrictionIndex.getVersionTag(userId));
     }
     
     /**
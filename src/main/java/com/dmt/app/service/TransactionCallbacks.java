@@ -0,0 +1,36 @@
+package com.dmt.app.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행
+ * 인메모리 인덱스와 순위표는 커밋된 변경만 반영해야 롤백 시 DB와 어긋나지 않습니다.
+ * 트랜잭션 밖이거나 이미 커밋 후 콜백 안에서 호출되면 바로 실행합니다.
+ */
+final class TransactionCallbacks {
+
+    // 커밋 후 콜백 실행 중 여부 (이때 등록한 콜백은 실행되지 않으므로 바로 실행)
+    private static final ThreadLocal<Boolean> RUNNING_AFTER_COMMIT = ThreadLocal.withInitial(() -> false);
+
+    private TransactionCallbacks() {
+    }
+
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || RUNNING_AFTER_COMMIT.get()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                RUNNING_AFTER_COMMIT.set(true);
+                try {
+                    action.run();
+                } finally {
+                    RUNNING_AFTER_COMMIT.set(false);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,210 @@
+package com.dmt.app.controller;
+
+import com.dmt.app.dto.PhoneRestrictionExceptionDto;
+import com.dmt.app.service.PhoneRestrictionExceptionService;
+import com.dmt.app.service.RestrictionScheduleService;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class PhoneRestrictionExceptionControllerTest {
+
+    private static final String STATUS_URL = "/api/phone-exceptions/user/1/restriction-status";
+    private static final String BATCH_STATUS_URL = "/api/phone-exceptions/restriction-status/batch";
+
+    @Mock
+    private PhoneRestrictionExceptionService phoneRestrictionExceptionService;
+
+    @Mock
+    private RestrictionScheduleService restrictionScheduleService;
+
+    @InjectMocks
+    private PhoneRestrictionExceptionController phoneRestrictionExceptionController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(phoneRestrictionExceptionController).build();
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 상태 버전과 같으면 304")
+    void restrictionStatus_NotModified() throws Exception {
+        // given
+        when(phoneRestrictionExceptionService.getRestrictionStatusVersion(1L)).thenReturn(Optional.of("a-5"));
+
+        // when
+        MvcResult result = mockMvc.perform(get(STATUS_URL).header("If-None-Match", "\"a-5\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"a-5\""));
+        verify(phoneRestrictionExceptionService, never()).isUserCurrentlyPhoneRestricted(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드 기준의 ETag는 버전 숫자가 같아도 일치하지 않음")
+    void restrictionStatus_EtagFromOtherEpoch_ReturnsState() throws Exception {
+        // given
+        when(phoneRestrictionExceptionService.getRestrictionStatusVersion(1L)).thenReturn(Optional.of("a-5"));
+        when(phoneRestrictionExceptionService.isUserCurrentlyPhoneRestricted(1L)).thenReturn(true);
+
+        // when
+        MvcResult result = mockMvc.perform(get(STATUS_URL).param("wait", "30").header("If-None-Match", "\"b-5\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"a-5\""))
+                .andExpect(content().string("true"));
+        verify(phoneRestrictionExceptionService, never()).watchRestrictionStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("롱 폴링 중 상태가 바뀌면 새 ETag와 상태로 응답")
+    void restrictionStatus_LongPoll_RespondsOnChange() throws Exception {
+        // given
+        when(phoneRestrictionExceptionService.getRestrictionStatusVersion(1L)).thenReturn(Optional.of("a-5"));
+        ArgumentCaptor<Runnable> onChange = ArgumentCaptor.forClass(Runnable.class);
+        Runnable unwatch = mock(Runnable.class);
+        when(phoneRestrictionExceptionService.watchRestrictionStatus(eq(1L), onChange.capture())).thenReturn(unwatch);
+
+        MvcResult result = mockMvc.perform(get(STATUS_URL).param("wait", "30").header("If-None-Match", "\"a-5\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        when(phoneRestrictionExceptionService.getRestrictionStatusVersion(1L)).thenReturn(Optional.of("a-6"));
+        when(phoneRestrictionExceptionService.isUserCurrentlyPhoneRestricted(1L)).thenReturn(true);
+        onChange.getValue().run();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"a-6\""))
+                .andExpect(content().string("true"));
+        verify(unwatch).run();
+    }
+
+    @Test
+    @DisplayName("롱 폴링 대기 시간이 지나면 304")
+    void restrictionStatus_LongPoll_TimeoutReturnsNotModified() throws Exception {
+        // given
+        when(phoneRestrictionExceptionService.getRestrictionStatusVersion(1L)).thenReturn(Optional.of("a-5"));
+        when(phoneRestrictionExceptionService.watchRestrictionStatus(eq(1L), any(Runnable.class))).thenReturn(() -> { });
+
+        MvcResult result = mockMvc.perform(get(STATUS_URL).param("wait", "1").header("If-None-Match", "\"a-5\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"a-5\""));
+        verify(phoneRestrictionExceptionService, never()).isUserCurrentlyPhoneRestricted(any());
+    }
+
+    @Test
+    @DisplayName("제한 인덱스 초기화 전에는 ETag 없이 대기하지 않고 응답")
+    void restrictionStatus_IndexNotReady_OmitsEtag() throws Exception {
+        // given
+        when(phoneRestrictionExceptionService.getRestrictionStatusVersion(1L)).thenReturn(Optional.empty());
+        when(phoneRestrictionExceptionService.isUserCurrentlyPhoneRestricted(1L)).thenReturn(false);
+
+        // when
+        MvcResult result = mockMvc.perform(get(STATUS_URL).param("wait", "30").header("If-None-Match", "\"0\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(content().string("false"));
+        verify(phoneRestrictionExceptionService, never()).watchRestrictionStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 사용자별 제한/예외/자유 상태와 적용 세션을 반환")
+    void restrictionStatusBatch_ReturnsMixedStatuses() throws Exception {
+        // given
+        Map<Long, PhoneRestrictionExceptionDto.UserRestrictionStatus> statuses = new LinkedHashMap<>();
+        statuses.put(1L, PhoneRestrictionExceptionDto.UserRestrictionStatus.builder()
+                .state(PhoneRestrictionExceptionDto.RestrictionState.RESTRICTED).sessionId(10L).build());
+        statuses.put(2L, PhoneRestrictionExceptionDto.UserRestrictionStatus.builder()
+                .state(PhoneRestrictionExceptionDto.RestrictionState.EXEMPT).sessionId(11L).build());
+        statuses.put(3L, PhoneRestrictionExceptionDto.UserRestrictionStatus.free());
+        ArgumentCaptor<PhoneRestrictionExceptionDto.BatchRestrictionStatusRequest> request =
+                ArgumentCaptor.forClass(PhoneRestrictionExceptionDto.BatchRestrictionStatusRequest.class);
+        when(phoneRestrictionExceptionService.getRestrictionStatuses(request.capture())).thenReturn(statuses);
+
+        // when & then
+        mockMvc.perform(post(BATCH_STATUS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userIds\":[1,2,3],\"groupId\":7}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['1'].state").value("RESTRICTED"))
+                .andExpect(jsonPath("$['1'].sessionId").value(10))
+                .andExpect(jsonPath("$['2'].state").value("EXEMPT"))
+                .andExpect(jsonPath("$['2'].sessionId").value(11))
+                .andExpect(jsonPath("$['3'].state").value("FREE"))
+                .andExpect(jsonPath("$['3'].sessionId").doesNotExist());
+        assertThat(request.getValue().getUserIds()).containsExactly(1L, 2L, 3L);
+        assertThat(request.getValue().getGroupId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 사용자가 최대 인원을 넘으면 서비스 예외가 그대로 전달됨")
+    void restrictionStatusBatch_OverBatchLimit_Rejected() {
+        // given
+        when(phoneRestrictionExceptionService.getRestrictionStatuses(any()))
+                .thenThrow(new IllegalArgumentException("한 번에 조회할 수 있는 사용자는 최대 1000명입니다."));
+
+        // when & then
+        assertThatThrownBy(() -> mockMvc.perform(post(BATCH_STATUS_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userIds\":" + List.of(1L, 2L) + "}")))
+                .hasRootCauseInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("한 번에 조회할 수 있는 사용자는 최대 1000명입니다.");
+    }
+}
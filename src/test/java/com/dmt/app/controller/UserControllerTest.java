@@ -58,7 +58,7 @@ class UserControllerTest {
                 .email("test@example.com")
                 .nickname("테스트유저")
                 .phoneNumber("010-1234-5678")
-                .role("USER")
+                .role(com.dmt.app.entity.User.UserRole.USER)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
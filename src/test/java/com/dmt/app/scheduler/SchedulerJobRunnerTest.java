@@ -0,0 +1,185 @@
+package com.dmt.app.scheduler;
+
+import com.dmt.app.config.SchedulerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchedulerJobRunnerTest {
+
+    private SchedulerJobRunner schedulerJobRunner;
+
+    @BeforeEach
+    void setUp() {
+        SchedulerConfig schedulerConfig = new SchedulerConfig();
+        schedulerConfig.setMaxConcurrency(2);
+        schedulerJobRunner = new SchedulerJobRunner(schedulerConfig);
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulerJobRunner.shutdown();
+    }
+
+    @Test
+    @DisplayName("그룹별 처리 건수를 합산하고 실패한 그룹은 제외")
+    void runPerGroup_SumsCountsAndSkipsFailures() {
+        // given
+        Map<Long, List<Long>> plan = Map.of(1L, List.of(10L, 11L), 2L, List.of(20L), 3L, List.of(30L));
+
+        // when
+        int processed = schedulerJobRunner.runPerGroup("test", Duration.ofSeconds(5), () -> plan, ids -> {
+            if (ids.contains(30L)) {
+                throw new IllegalStateException("실패");
+            }
+            return ids.size();
+        });
+
+        // then
+        assertThat(processed).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("동시 실행 수를 설정값으로 제한")
+    void runPerGroup_LimitsConcurrency() {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Map<Long, List<Long>> plan = Map.of(1L, List.of(1L), 2L, List.of(2L), 3L, List.of(3L), 4L, List.of(4L));
+
+        // when
+        schedulerJobRunner.runPerGroup("test", Duration.ofSeconds(5), () -> plan, ids -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(50);
+            running.decrementAndGet();
+            return 1;
+        });
+
+        // then
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지나면 남은 그룹 작업을 취소")
+    void runPerGroup_CancelsAfterTimeout() {
+        // when
+        long startedAt = System.nanoTime();
+        int processed = schedulerJobRunner.runPerGroup("test", Duration.ofMillis(200),
+                () -> Map.of(1L, List.of(1L), 2L, List.of(2L)), ids -> {
+                    if (ids.contains(2L)) {
+                        sleep(10_000);
+                    }
+                    return 1;
+                });
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("이전 실행이 끝나지 않았으면 같은 작업을 건너뜀")
+    void runPerGroup_SkipsOverlappingRun() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() ->
+                schedulerJobRunner.runPerGroup("test", Duration.ofSeconds(5), () -> Map.of(1L, List.of(1L)), ids -> {
+                    started.countDown();
+                    await(release);
+                    return 1;
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        int skipped = schedulerJobRunner.runPerGroup("test", Duration.ofSeconds(5), () -> Map.of(2L, List.of(2L)), ids -> 1);
+        int other = schedulerJobRunner.runPerGroup("other", Duration.ofSeconds(5), () -> Map.of(2L, List.of(2L)), ids -> 1);
+        release.countDown();
+
+        // then
+        assertThat(skipped).isZero();
+        assertThat(other).isEqualTo(1);
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시간 초과 후에도 끝나지 않은 그룹 작업은 실제로 끝날 때까지 다음 실행에서 건너뜀")
+    void runPerGroup_SkipsGroupStillRunningAfterTimeout() throws Exception {
+        // given - 인터럽트를 무시하는 그룹 작업 (JDBC 호출처럼)
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger group1Runs = new AtomicInteger();
+        int first = schedulerJobRunner.runPerGroup("test", Duration.ofMillis(100), () -> Map.of(1L, List.of(1L)), ids -> {
+            group1Runs.incrementAndGet();
+            awaitIgnoringInterrupts(release);
+            return 1;
+        });
+
+        // when
+        int second = schedulerJobRunner.runPerGroup("test", Duration.ofSeconds(5),
+                () -> Map.of(1L, List.of(1L), 2L, List.of(2L)), ids -> {
+                    if (ids.contains(1L)) {
+                        group1Runs.incrementAndGet();
+                    }
+                    return 1;
+                });
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        assertThat(group1Runs.get()).isEqualTo(1);
+
+        // 이전 그룹 작업이 끝나면 다시 실행됨
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        int third = 0;
+        while (third == 0 && System.nanoTime() < deadline) {
+            third = schedulerJobRunner.runPerGroup("test", Duration.ofSeconds(5), () -> Map.of(1L, List.of(1L)), ids -> 1);
+            if (third == 0) {
+                sleep(10);
+            }
+        }
+        assertThat(third).isEqualTo(1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        boolean interrupted = false;
+        while (latch.getCount() > 0 && System.nanoTime() < deadline) {
+            try {
+                latch.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.dmt.app.scheduler;
+
+import com.dmt.app.DmtAppApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 H2 파일 데이터베이스를 공유하는 두 애플리케이션 컨텍스트(노드)의 임대 경쟁 검증
+ * 각 노드는 자체 커넥션 풀, 트랜잭션 관리자와 노드 ID를 가지므로 실제 다중 인스턴스 배포와 같은 경로로 임대를 얻습니다.
+ */
+class SchedulerLeaseClusterTest {
+
+    @TempDir
+    static Path databaseDir;
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        String url = "jdbc:h2:file:" + databaseDir.resolve("cluster").toAbsolutePath() + ";DB_CLOSE_DELAY=-1";
+        nodeA = startNode("node-a", url);
+        nodeB = startNode("node-b", url);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    @DisplayName("두 노드 중 임대를 가진 노드만 실행하고, 만료되면 다른 노드가 이어받음")
+    void tryAcquire_SharedDatabase_SingleOwnerAndFailover() throws InterruptedException {
+        SchedulerLeaseManager leaseA = nodeA.getBean(SchedulerLeaseManager.class);
+        SchedulerLeaseManager leaseB = nodeB.getBean(SchedulerLeaseManager.class);
+        String jobName = "cluster-job-" + UUID.randomUUID();
+
+        assertThat(leaseA.tryAcquire(jobName, Duration.ofMillis(200))).isTrue();
+        assertThat(leaseB.tryAcquire(jobName, Duration.ofMinutes(1))).isFalse();
+
+        Thread.sleep(300);
+        assertThat(leaseB.tryAcquire(jobName, Duration.ofMinutes(1))).isTrue();
+        assertThat(leaseA.tryAcquire(jobName, Duration.ofMinutes(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("두 노드가 처음 실행되는 작업을 동시에 시작해도 한 노드만 임대를 얻음")
+    void tryAcquire_SharedDatabase_ConcurrentFirstRun_SingleWinner() throws Exception {
+        SchedulerLeaseManager leaseA = nodeA.getBean(SchedulerLeaseManager.class);
+        SchedulerLeaseManager leaseB = nodeB.getBean(SchedulerLeaseManager.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                String jobName = "cluster-job-" + UUID.randomUUID();
+                CountDownLatch ready = new CountDownLatch(1);
+                List<Future<Boolean>> results = List.of(
+                        executor.submit(() -> {
+                            ready.await();
+                            return leaseA.tryAcquire(jobName, Duration.ofMinutes(1));
+                        }),
+                        executor.submit(() -> {
+                            ready.await();
+                            return leaseB.tryAcquire(jobName, Duration.ofMinutes(1));
+                        }));
+                ready.countDown();
+
+                long winners = 0;
+                for (Future<Boolean> result : results) {
+                    if (result.get()) {
+                        winners++;
+                    }
+                }
+                assertThat(winners).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId, String url) {
+        // 기본 속성은 application.yml보다 우선순위가 낮으므로 명령행 인자로 지정
+        return new SpringApplicationBuilder(DmtAppApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + url,
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "--scheduler.node-id=" + nodeId);
+    }
+}
@@ -0,0 +1,101 @@
+package com.dmt.app.scheduler;
+
+import com.dmt.app.config.SchedulerConfig;
+import com.dmt.app.repository.SchedulerLeaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 데이터베이스를 공유하는 두 노드의 임대 경쟁 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SchedulerLeaseManagerTest {
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private SchedulerLeaseManager nodeA;
+    private SchedulerLeaseManager nodeB;
+    private String jobName;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = node("node-a");
+        nodeB = node("node-b");
+        jobName = "test-job-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("임대를 가진 노드만 작업을 실행하고 갱신할 수 있음")
+    void tryAcquire_OnlyOwnerRuns() {
+        assertThat(nodeA.tryAcquire(jobName, Duration.ofMinutes(1))).isTrue();
+        assertThat(nodeB.tryAcquire(jobName, Duration.ofMinutes(1))).isFalse();
+        assertThat(nodeA.tryAcquire(jobName, Duration.ofMinutes(1))).isTrue();
+        assertThat(schedulerLeaseRepository.findById(jobName)).get()
+                .extracting("owner").isEqualTo("node-a");
+    }
+
+    @Test
+    @DisplayName("임대가 만료되면 다른 노드가 이어받음")
+    void tryAcquire_ExpiredLease_FailsOver() throws InterruptedException {
+        assertThat(nodeA.tryAcquire(jobName, Duration.ofMillis(50))).isTrue();
+        Thread.sleep(100);
+
+        assertThat(nodeB.tryAcquire(jobName, Duration.ofMinutes(1))).isTrue();
+        assertThat(nodeA.tryAcquire(jobName, Duration.ofMinutes(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("처음 실행되는 작업을 동시에 시작해도 한 노드만 임대를 얻음")
+    void tryAcquire_ConcurrentFirstRun_SingleWinner() throws Exception {
+        CountDownLatch ready = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Boolean>> results = List.of(
+                    executor.submit(() -> {
+                        ready.await();
+                        return nodeA.tryAcquire(jobName, Duration.ofMinutes(1));
+                    }),
+                    executor.submit(() -> {
+                        ready.await();
+                        return nodeB.tryAcquire(jobName, Duration.ofMinutes(1));
+                    }));
+            ready.countDown();
+
+            long winners = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    winners++;
+                }
+            }
+            assertThat(winners).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SchedulerLeaseManager node(String nodeId) {
+        SchedulerConfig config = new SchedulerConfig();
+        config.setNodeId(nodeId);
+        return new SchedulerLeaseManager(schedulerLeaseRepository, config, transactionTemplate);
+    }
+}
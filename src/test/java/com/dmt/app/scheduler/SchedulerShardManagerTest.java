@@ -0,0 +1,117 @@
+package com.dmt.app.scheduler;
+
+import com.dmt.app.config.SchedulerConfig;
+import com.dmt.app.repository.SchedulerNodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerShardManagerTest {
+
+    private static final int GROUP_COUNT = 3000;
+
+    @Mock
+    private SchedulerNodeRepository schedulerNodeRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private Map<String, SchedulerShardManager> nodes;
+
+    @BeforeEach
+    void setUp() {
+        nodes = Map.of(
+                "node-a", node("node-a"),
+                "node-b", node("node-b"),
+                "node-c", node("node-c"));
+    }
+
+    @Test
+    @DisplayName("노드 목록을 얻기 전에는 모든 그룹을 담당")
+    void owns_BeforeHeartbeat_OwnsAll() {
+        assertThat(nodes.get("node-a").owns(1L)).isTrue();
+        assertThat(nodes.get("node-b").owns(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("살아있는 노드 중 정확히 하나가 각 그룹을 담당하며 고르게 분배")
+    void owns_ExactlyOneOwnerPerGroup() {
+        // given
+        refreshAll(List.of("node-a", "node-b", "node-c"));
+
+        // when & then
+        int[] owned = new int[3];
+        for (long groupId = 1; groupId <= GROUP_COUNT; groupId++) {
+            int owners = 0;
+            for (int i = 0; i < 3; i++) {
+                if (nodes.get(nodeId(i)).owns(groupId)) {
+                    owners++;
+                    owned[i]++;
+                }
+            }
+            assertThat(owners).isEqualTo(1);
+        }
+        for (int count : owned) {
+            assertThat(count).isBetween(GROUP_COUNT / 4, GROUP_COUNT / 2);
+        }
+    }
+
+    @Test
+    @DisplayName("노드 하트비트가 끊기면 그 노드의 그룹만 다른 노드로 이동")
+    void owns_NodeDies_OnlyItsGroupsMove() {
+        // given
+        refreshAll(List.of("node-a", "node-b", "node-c"));
+        boolean[][] before = new boolean[3][GROUP_COUNT + 1];
+        for (long groupId = 1; groupId <= GROUP_COUNT; groupId++) {
+            for (int i = 0; i < 3; i++) {
+                before[i][(int) groupId] = nodes.get(nodeId(i)).owns(groupId);
+            }
+        }
+
+        // when
+        refreshAll(List.of("node-a", "node-b"));
+
+        // then
+        for (long groupId = 1; groupId <= GROUP_COUNT; groupId++) {
+            boolean ownedByA = nodes.get("node-a").owns(groupId);
+            boolean ownedByB = nodes.get("node-b").owns(groupId);
+            assertThat(ownedByA ^ ownedByB).isTrue();
+            if (before[0][(int) groupId]) {
+                assertThat(ownedByA).isTrue();
+            }
+            if (before[1][(int) groupId]) {
+                assertThat(ownedByB).isTrue();
+            }
+        }
+    }
+
+    private void refreshAll(List<String> liveNodeIds) {
+        when(schedulerNodeRepository.findLiveNodeIds(any(LocalDateTime.class))).thenReturn(liveNodeIds);
+        for (String nodeId : liveNodeIds) {
+            nodes.get(nodeId).refreshNodes();
+        }
+    }
+
+    private static String nodeId(int index) {
+        return "node-" + (char) ('a' + index);
+    }
+
+    private SchedulerShardManager node(String nodeId) {
+        SchedulerConfig config = new SchedulerConfig();
+        config.setNodeId(nodeId);
+        return new SchedulerShardManager(schedulerNodeRepository, config, transactionTemplate);
+    }
+}
@@ -0,0 +1,320 @@
+package com.dmt.app.service;
+
+import com.dmt.app.dto.AttendanceDto;
+import com.dmt.app.entity.Attendance;
+import com.dmt.app.entity.StudyGroup;
+import com.dmt.app.entity.StudyGroupMember;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.entity.User;
+import com.dmt.app.repository.AttendanceRepository;
+import com.dmt.app.repository.StudyGroupMemberRepository;
+import com.dmt.app.repository.StudyGroupRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import com.dmt.app.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 누적 출석 수 갱신 및 재생성 검증 (재생성과 동시 갱신이 커밋된 데이터를 다루므로 테스트 트랜잭션 없이 실행)
+ * 커밋된 테스트 그룹 데이터는 테스트마다 지워 다른 테스트 클래스에 남지 않게 함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AttendanceCounterServiceTest {
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceCounterService attendanceCounterService;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private StudySessionRepository studySessionRepository;
+
+    @Autowired
+    private StudyGroupRepository studyGroupRepository;
+
+    @Autowired
+    private StudyGroupMemberRepository studyGroupMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private StudyGroup testStudyGroup;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        member = user("멤버", User.UserRole.USER);
+        testStudyGroup = studyGroupRepository.save(StudyGroup.builder()
+                .name("누적 출석 수 테스트 그룹")
+                .minMembers(2)
+                .status(StudyGroup.StudyGroupStatus.ACTIVE)
+                .build());
+        studyGroupMemberRepository.save(StudyGroupMember.builder()
+                .user(member)
+                .studyGroup(testStudyGroup)
+                .role(StudyGroupMember.MemberRole.MEMBER)
+                .isActive(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        Long groupId = testStudyGroup.getId();
+        jdbcTemplate.update("DELETE FROM attendances WHERE study_session_id IN " +
+                "(SELECT id FROM study_sessions WHERE study_group_id = ?)", groupId);
+        jdbcTemplate.update("DELETE FROM member_attendance_counters WHERE study_group_id = ?", groupId);
+        jdbcTemplate.update("DELETE FROM attendance_histogram_buckets WHERE study_group_id = ?", groupId);
+        jdbcTemplate.update("DELETE FROM attendance_daily_stats WHERE study_group_id = ?", groupId);
+        jdbcTemplate.update("DELETE FROM study_sessions WHERE study_group_id = ?", groupId);
+        jdbcTemplate.update("DELETE FROM study_group_members WHERE study_group_id = ?", groupId);
+        jdbcTemplate.update("DELETE FROM study_groups WHERE id = ?", groupId);
+    }
+
+    @Test
+    @DisplayName("출석 기록 생성/수정/삭제와 자동 결석 처리가 요약에 바로 반영")
+    void counters_FollowAttendanceChanges() {
+        // given
+        AttendanceDto.Response excused = attendanceService.createAttendance(AttendanceDto.CreateRequest.builder()
+                .userId(member.getId())
+                .studySessionId(session().getId())
+                .status(Attendance.AttendanceStatus.EXCUSED)
+                .build());
+        AttendanceDto.Response toDelete = attendanceService.createAttendance(AttendanceDto.CreateRequest.builder()
+                .userId(member.getId())
+                .studySessionId(session().getId())
+                .status(Attendance.AttendanceStatus.EXCUSED)
+                .build());
+
+        // when
+        attendanceService.updateAttendance(excused.getId(), member.getId(), AttendanceDto.UpdateRequest.builder()
+                .status(Attendance.AttendanceStatus.LATE)
+                .build());
+        attendanceService.deleteAttendance(toDelete.getId(), member.getId());
+        attendanceService.markAbsences(List.of(session().getId()));
+
+        // then
+        AttendanceDto.AttendanceSummary summary = attendanceService.getAttendanceSummary(member.getId(), testStudyGroup.getId());
+        assertThat(summary.getTotalSessions()).isEqualTo(2);
+        assertThat(summary.getLateCount()).isEqualTo(1);
+        assertThat(summary.getAbsentCount()).isEqualTo(1);
+        assertThat(summary.getExcusedCount()).isZero();
+        assertThat(attendanceCounterService.getCounter(member.getId(), testStudyGroup.getId()))
+                .satisfies(counter -> {
+                    assertThat(counter.getLateMinutes()).isEqualTo(10);
+                    assertThat(counter.getStudyMinutes()).isEqualTo(50);
+                });
+    }
+
+    @Test
+    @DisplayName("자동 결석 처리를 다시 실행해도 이번 실행에서 삽입된 결석만 누적")
+    void markAbsences_CountsOnlyInsertedRows() {
+        // given
+        Long sessionId = session().getId();
+        attendanceService.markAbsences(List.of(sessionId));
+
+        // when
+        int absentCount = attendanceService.markAbsences(List.of(sessionId));
+
+        // then
+        assertThat(absentCount).isZero();
+        assertThat(attendanceCounterService.getCounter(member.getId(), testStudyGroup.getId()).getAbsentCount())
+                .isEqualTo(1);
+        assertThat(attendanceCounterService.getCounter(member.getId(), testStudyGroup.getId()).getPresentCount())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("재생성은 출석 기록으로부터 누적 출석 수를 다시 계산")
+    void rebuild_BackfillsFromAttendances() {
+        // given
+        attendanceRepository.save(Attendance.builder()
+                .user(member)
+                .studySession(session())
+                .status(Attendance.AttendanceStatus.PRESENT)
+                .build());
+        attendanceRepository.save(Attendance.builder()
+                .user(member)
+                .studySession(session())
+                .status(Attendance.AttendanceStatus.LATE)
+                .lateMinutes(5)
+                .build());
+        User admin = user("관리자", User.UserRole.ADMIN);
+
+        // when
+        int rebuiltCount = attendanceService.rebuildAttendanceCounters(admin.getId(), testStudyGroup.getId());
+
+        // then
+        assertThat(rebuiltCount).isEqualTo(1);
+        AttendanceDto.AttendanceSummary summary = attendanceService.getAttendanceSummary(member.getId(), testStudyGroup.getId());
+        assertThat(summary.getTotalSessions()).isEqualTo(2);
+        assertThat(summary.getAttendanceRate()).isEqualTo(100.0);
+        assertThat(attendanceCounterService.getCounter(member.getId(), testStudyGroup.getId()))
+                .satisfies(counter -> {
+                    assertThat(counter.getLateMinutes()).isEqualTo(5);
+                    assertThat(counter.getStudyMinutes()).isEqualTo(115);
+                });
+    }
+
+    @Test
+    @DisplayName("그룹 요약은 출석 기록이 없는 멤버를 포함한 활성 멤버 전원을 한 번에 반환")
+    void getGroupAttendanceSummaries_ReturnsEveryActiveMember() {
+        // given
+        User newcomer = user("신규", User.UserRole.USER);
+        studyGroupMemberRepository.save(StudyGroupMember.builder()
+                .user(newcomer)
+                .studyGroup(testStudyGroup)
+                .role(StudyGroupMember.MemberRole.MEMBER)
+                .isActive(true)
+                .build());
+        attendanceService.createAttendance(AttendanceDto.CreateRequest.builder()
+                .userId(member.getId())
+                .studySessionId(session().getId())
+                .status(Attendance.AttendanceStatus.EXCUSED)
+                .build());
+
+        // when
+        List<AttendanceDto.AttendanceSummary> summaries = attendanceService.getGroupAttendanceSummaries(testStudyGroup.getId());
+
+        // then
+        assertThat(summaries).extracting(AttendanceDto.AttendanceSummary::getUserNickname)
+                .containsExactlyInAnyOrder("멤버", "신규");
+        assertThat(summaries).filteredOn(summary -> summary.getUserId().equals(member.getId()))
+                .singleElement()
+                .satisfies(summary -> assertThat(summary.getExcusedCount()).isEqualTo(1));
+        assertThat(summaries).filteredOn(summary -> summary.getUserId().equals(newcomer.getId()))
+                .singleElement()
+                .satisfies(summary -> assertThat(summary.getTotalSessions()).isZero());
+    }
+
+    @Test
+    @DisplayName("같은 멤버의 첫 출석 기록 변경이 동시에 반영되어도 중복 키 오류 없이 모두 누적")
+    void add_ConcurrentFirstWrites_CreateCounterOnce() throws Exception {
+        // given
+        AttendanceCounterService.Delta present = new AttendanceCounterService.Delta(1, 0, 0, 0, 0, 0, 0, 50);
+        int writers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < writers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    attendanceCounterService.add(member.getId(), testStudyGroup.getId(), present);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(attendanceCounterService.getCounter(member.getId(), testStudyGroup.getId()))
+                .satisfies(counter -> {
+                    assertThat(counter.getPresentCount()).isEqualTo(writers);
+                    assertThat(counter.getStudyMinutes()).isEqualTo(50L * writers);
+                });
+    }
+
+    @Test
+    @DisplayName("같은 출석 기록을 동시에 수정해도 누적 출석 수는 마지막 상태 하나만 반영")
+    void updateAttendance_ConcurrentEdits_KeepCountersConsistent() throws Exception {
+        // given
+        AttendanceDto.Response created = attendanceService.createAttendance(AttendanceDto.CreateRequest.builder()
+                .userId(member.getId())
+                .studySessionId(session().getId())
+                .status(Attendance.AttendanceStatus.EXCUSED)
+                .build());
+        List<Attendance.AttendanceStatus> edits = List.of(Attendance.AttendanceStatus.LATE,
+                Attendance.AttendanceStatus.ABSENT, Attendance.AttendanceStatus.EXCUSED, Attendance.AttendanceStatus.LATE,
+                Attendance.AttendanceStatus.ABSENT, Attendance.AttendanceStatus.EXCUSED);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(edits.size());
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (Attendance.AttendanceStatus status : edits) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    attendanceService.updateAttendance(created.getId(), member.getId(),
+                            AttendanceDto.UpdateRequest.builder().status(status).build());
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        Attendance.AttendanceStatus finalStatus = attendanceRepository.findById(created.getId()).orElseThrow().getStatus();
+        AttendanceDto.AttendanceSummary summary = attendanceService.getAttendanceSummary(member.getId(), testStudyGroup.getId());
+        assertThat(summary.getTotalSessions()).isEqualTo(1);
+        assertThat(summary.getLateCount()).isEqualTo(finalStatus == Attendance.AttendanceStatus.LATE ? 1 : 0);
+        assertThat(summary.getAbsentCount()).isEqualTo(finalStatus == Attendance.AttendanceStatus.ABSENT ? 1 : 0);
+        assertThat(summary.getExcusedCount()).isEqualTo(finalStatus == Attendance.AttendanceStatus.EXCUSED ? 1 : 0);
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 재생성 불가")
+    void rebuild_RequiresAdmin() {
+        assertThatThrownBy(() -> attendanceService.rebuildAttendanceCounters(member.getId(), testStudyGroup.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private StudySession session() {
+        LocalDateTime start = LocalDateTime.now().minusMinutes(10);
+        return studySessionRepository.save(StudySession.builder()
+                .studyGroup(testStudyGroup)
+                .sessionName("세션")
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .status(StudySession.SessionStatus.IN_PROGRESS)
+                .build());
+    }
+
+    private User user(String nickname, User.UserRole role) {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .nickname(nickname)
+                .password("password")
+                .role(role)
+                .build());
+    }
+}
@@ -0,0 +1,137 @@
+package com.dmt.app.service;
+
+import com.dmt.app.dto.AttendanceDto;
+import com.dmt.app.entity.Attendance;
+import com.dmt.app.entity.StudyGroup;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.entity.User;
+import com.dmt.app.repository.AttendanceRepository;
+import com.dmt.app.repository.StudyGroupRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import com.dmt.app.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AttendanceExportServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 4);
+
+    @Autowired
+    private AttendanceExportService attendanceExportService;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private StudySessionRepository studySessionRepository;
+
+    @Autowired
+    private StudyGroupRepository studyGroupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private StudyGroup testStudyGroup;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        member = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .nickname("멤버")
+                .password("password")
+                .role(User.UserRole.USER)
+                .build());
+        testStudyGroup = studyGroupRepository.save(StudyGroup.builder()
+                .name("내보내기 테스트 그룹")
+                .minMembers(2)
+                .status(StudyGroup.StudyGroupStatus.ACTIVE)
+                .build());
+        attend(DAY.atTime(9, 0), Attendance.AttendanceStatus.LATE, 5, "지각, \"버스\"");
+        attend(DAY.plusDays(1).atTime(9, 0), Attendance.AttendanceStatus.PRESENT, null, null);
+        attend(DAY.plusDays(2).atTime(9, 0), Attendance.AttendanceStatus.ABSENT, null, null);
+    }
+
+    @Test
+    @DisplayName("CSV는 기간 내 출석 기록을 세션 시작 순으로 쓰고 쉼표와 따옴표가 있는 값은 따옴표로 감쌈")
+    void export_WritesCsvWithinRange() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        int rowCount = attendanceExportService.export(testStudyGroup.getId(), DAY, DAY.plusDays(1),
+                AttendanceDto.ExportFormat.CSV, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rowCount).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("id,userId,userNickname,studySessionId,sessionName,sessionStartTime,status");
+        assertThat(lines[1]).contains(",LATE,").endsWith(",5,,\"지각, \"\"버스\"\"\"");
+        assertThat(lines[2]).contains(",PRESENT,");
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄에 출석 기록 하나씩 JSON 객체로 씀")
+    void export_WritesNdjson() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        attendanceExportService.export(testStudyGroup.getId(), DAY, DAY.plusDays(2),
+                AttendanceDto.ExportFormat.NDJSON, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("userNickname").asText()).isEqualTo("멤버");
+        assertThat(first.get("status").asText()).isEqualTo("LATE");
+        assertThat(first.get("sessionStartTime").asText()).isEqualTo("2024-03-04T09:00:00");
+        assertThat(objectMapper.readTree(lines[2]).get("status").asText()).isEqualTo("ABSENT");
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 내보내기 불가")
+    void checkExportable_RejectsInvertedRange() {
+        assertThatThrownBy(() -> attendanceExportService.checkExportable(testStudyGroup.getId(), DAY, DAY.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void attend(LocalDateTime start, Attendance.AttendanceStatus status, Integer lateMinutes, String note) {
+        StudySession session = studySessionRepository.save(StudySession.builder()
+                .studyGroup(testStudyGroup)
+                .sessionName("세션")
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .status(StudySession.SessionStatus.COMPLETED)
+                .build());
+        attendanceRepository.save(Attendance.builder()
+                .user(member)
+                .studySession(session)
+                .status(status)
+                .lateMinutes(lateMinutes)
+                .note(note)
+                .build());
+    }
+}
@@ -0,0 +1,160 @@
+package com.dmt.app.service;
+
+import com.dmt.app.dto.AttendanceDto;
+import com.dmt.app.entity.Attendance;
+import com.dmt.app.entity.AttendanceHistogramBucket;
+import com.dmt.app.entity.StudyGroup;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.entity.User;
+import com.dmt.app.repository.StudyGroupRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import com.dmt.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지각/조퇴 시간 분포 히스토그램 검증 (출석 기록 변경마다 커밋된 구간 수를 조회하므로 테스트 트랜잭션 없이 실행)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AttendanceHistogramServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 4);
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceHistogramService attendanceHistogramService;
+
+    @Autowired
+    private StudySessionRepository studySessionRepository;
+
+    @Autowired
+    private StudyGroupRepository studyGroupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private StudyGroup testStudyGroup;
+
+    @BeforeEach
+    void setUp() {
+        testStudyGroup = studyGroupRepository.save(StudyGroup.builder()
+                .name("분포 테스트 그룹")
+                .minMembers(2)
+                .status(StudyGroup.StudyGroupStatus.ACTIVE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("구간의 최댓값은 구간에 속한 모든 값 이상이고 상대 오차는 1/8 이내")
+    void buckets_BoundRelativeError() {
+        for (long value = 0; value <= AttendanceHistogramService.MAX_MINUTES; value++) {
+            long highest = AttendanceHistogramService.highestValueIn(AttendanceHistogramService.bucketOf(value));
+            assertThat(highest).isGreaterThanOrEqualTo(value);
+            assertThat(highest - value).isLessThanOrEqualTo(value / 8);
+        }
+    }
+
+    @Test
+    @DisplayName("출석 기록 생성/수정/삭제가 그룹과 세션 백분위에 바로 반영")
+    void percentiles_FollowAttendanceChanges() {
+        // given
+        StudySession session = session(DAY.atTime(9, 0));
+        List<AttendanceDto.Response> attendances = new ArrayList<>();
+        for (int lateMinutes = 1; lateMinutes <= 10; lateMinutes++) {
+            attendances.add(late(user(), session, lateMinutes));
+        }
+
+        // when
+        AttendanceDto.Response latest = attendances.get(9);
+        attendanceService.deleteAttendance(latest.getId(), latest.getUserId());
+
+        // then
+        List<AttendanceDto.PercentileSummary> group = attendanceHistogramService.getGroupPercentiles(testStudyGroup.getId(),
+                AttendanceHistogramBucket.Metric.LATE_MINUTES, DAY, DAY, null);
+        assertThat(group).singleElement().satisfies(summary -> {
+            assertThat(summary.getSampleCount()).isEqualTo(9);
+            assertThat(summary.getP50()).isEqualTo(5);
+            assertThat(summary.getP90()).isEqualTo(9);
+            assertThat(summary.getMax()).isEqualTo(9);
+        });
+        assertThat(attendanceHistogramService.getSessionPercentiles(session.getId(), AttendanceHistogramBucket.Metric.LATE_MINUTES))
+                .isEqualTo(group.get(0));
+        assertThat(attendanceHistogramService.getSessionPercentiles(session.getId(), AttendanceHistogramBucket.Metric.EARLY_LEAVE_MINUTES)
+                .getP99()).isZero();
+    }
+
+    @Test
+    @DisplayName("멤버의 일별 구간 수를 주기별로 합쳐 백분위 계산")
+    void memberPercentiles_MergeDailyBuckets() {
+        // given
+        User member = user();
+        late(member, session(DAY.atTime(9, 0)), 3);
+        late(member, session(DAY.plusDays(1).atTime(9, 0)), 20);
+
+        // when
+        List<AttendanceDto.PercentileSummary> daily = attendanceHistogramService.getMemberPercentiles(testStudyGroup.getId(),
+                member.getId(), AttendanceHistogramBucket.Metric.LATE_MINUTES, DAY, DAY.plusDays(6),
+                AttendanceDto.HistogramInterval.DAY);
+        List<AttendanceDto.PercentileSummary> weekly = attendanceHistogramService.getMemberPercentiles(testStudyGroup.getId(),
+                member.getId(), AttendanceHistogramBucket.Metric.LATE_MINUTES, DAY, DAY.plusDays(6),
+                AttendanceDto.HistogramInterval.WEEK);
+
+        // then
+        assertThat(daily).extracting(AttendanceDto.PercentileSummary::getPeriodStart)
+                .containsExactly(DAY, DAY.plusDays(1));
+        assertThat(daily).extracting(AttendanceDto.PercentileSummary::getMax)
+                .containsExactly(3L, AttendanceHistogramService.highestValueIn(AttendanceHistogramService.bucketOf(20)));
+        assertThat(weekly).singleElement().satisfies(summary -> {
+            assertThat(summary.getPeriodStart()).isEqualTo(DAY);
+            assertThat(summary.getSampleCount()).isEqualTo(2);
+            assertThat(summary.getP50()).isEqualTo(3);
+        });
+    }
+
+    // 사유 결석으로 만든 뒤 도착 시각을 지정해 지각으로 수정
+    private AttendanceDto.Response late(User user, StudySession session, int lateMinutes) {
+        AttendanceDto.Response created = attendanceService.createAttendance(AttendanceDto.CreateRequest.builder()
+                .userId(user.getId())
+                .studySessionId(session.getId())
+                .status(Attendance.AttendanceStatus.EXCUSED)
+                .build());
+        return attendanceService.updateAttendance(created.getId(), user.getId(), AttendanceDto.UpdateRequest.builder()
+                .status(Attendance.AttendanceStatus.LATE)
+                .arrivalTime(session.getStartTime().plusMinutes(lateMinutes))
+                .build());
+    }
+
+    private StudySession session(LocalDateTime start) {
+        return studySessionRepository.save(StudySession.builder()
+                .studyGroup(testStudyGroup)
+                .sessionName("세션")
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .status(StudySession.SessionStatus.COMPLETED)
+                .build());
+    }
+
+    private User user() {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .nickname("멤버")
+                .password("password")
+                .role(User.UserRole.USER)
+                .build());
+    }
+}
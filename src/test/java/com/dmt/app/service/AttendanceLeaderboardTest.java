@@ -0,0 +1,119 @@
+package com.dmt.app.service;
+
+import com.dmt.app.entity.MemberAttendanceCounter;
+import com.dmt.app.repository.MemberAttendanceCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceLeaderboardTest {
+
+    private static final Long GROUP_ID = 1L;
+
+    @Mock
+    private MemberAttendanceCounterRepository memberAttendanceCounterRepository;
+
+    private AttendanceLeaderboard attendanceLeaderboard;
+
+    @BeforeEach
+    void setUp() {
+        attendanceLeaderboard = new AttendanceLeaderboard(memberAttendanceCounterRepository);
+    }
+
+    @Test
+    @DisplayName("출석률, 참여 시간 순으로 정렬하고 기록이 없는 출석률은 0으로 취급")
+    void top_OrdersByRateThenMinutes() {
+        // given
+        when(memberAttendanceCounterRepository.findByStudyGroupId(GROUP_ID)).thenReturn(List.of(
+                counter(1L, 1, 1, 100),   // 50%
+                counter(2L, 2, 0, 60),    // 100%, 60분
+                counter(3L, 2, 0, 90),    // 100%, 90분
+                counter(4L, 0, 0, 0)));   // 기록 없음
+
+        // when
+        List<AttendanceLeaderboard.RankedStanding> top = attendanceLeaderboard.top(GROUP_ID, 3);
+
+        // then
+        assertThat(top).extracting(entry -> entry.standing().userId()).containsExactly(3L, 2L, 1L);
+        assertThat(top).extracting(AttendanceLeaderboard.RankedStanding::rank).containsExactly(1, 2, 3);
+        assertThat(attendanceLeaderboard.rankOf(GROUP_ID, 4L)).get()
+                .extracting(AttendanceLeaderboard.RankedStanding::rank).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("무작위 갱신 후에도 순위가 전체 정렬 결과와 일치")
+    void put_KeepsRanksConsistentWithSortedOrder() {
+        // given
+        AttendanceLeaderboard.GroupLeaderboard leaderboard = new AttendanceLeaderboard.GroupLeaderboard();
+        Map<Long, AttendanceLeaderboard.Standing> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 5000; i++) {
+            long userId = random.nextInt(300);
+            long total = random.nextInt(20);
+            AttendanceLeaderboard.Standing standing = new AttendanceLeaderboard.Standing(userId,
+                    total > 0 ? random.nextInt((int) total + 1) : 0, total, random.nextInt(5) * 30L);
+            leaderboard.put(standing);
+            expected.put(userId, standing);
+        }
+
+        // then
+        List<AttendanceLeaderboard.Standing> sorted = new ArrayList<>(expected.values());
+        sorted.sort(AttendanceLeaderboard.RANKING);
+        assertThat(leaderboard.size()).isEqualTo(sorted.size());
+        assertThat(leaderboard.top(sorted.size())).extracting(AttendanceLeaderboard.RankedStanding::standing)
+                .containsExactlyElementsOf(sorted);
+        for (int rank = 1; rank <= sorted.size(); rank++) {
+            assertThat(leaderboard.rankOf(sorted.get(rank - 1).userId())).get()
+                    .extracting(AttendanceLeaderboard.RankedStanding::rank).isEqualTo(rank);
+        }
+    }
+
+    @Test
+    @DisplayName("만들어진 순위표에만 누적 출석 수 변경을 반영")
+    void counterChanged_UpdatesLoadedGroupsOnly() {
+        // given
+        when(memberAttendanceCounterRepository.findByStudyGroupId(GROUP_ID)).thenReturn(List.of(
+                counter(1L, 1, 0, 60), counter(2L, 0, 1, 0)));
+        attendanceLeaderboard.top(GROUP_ID, 10);
+        when(memberAttendanceCounterRepository.findById(new MemberAttendanceCounter.Key(2L, GROUP_ID)))
+                .thenReturn(Optional.of(counter(2L, 2, 1, 120)));
+
+        // when
+        attendanceLeaderboard.counterChanged(2L, GROUP_ID);
+        attendanceLeaderboard.counterChanged(2L, 99L);
+
+        // then
+        assertThat(attendanceLeaderboard.top(GROUP_ID, 1)).extracting(entry -> entry.standing().userId())
+                .containsExactly(1L);
+        assertThat(attendanceLeaderboard.rankOf(GROUP_ID, 2L)).get()
+                .satisfies(entry -> assertThat(entry.standing().studyMinutes()).isEqualTo(120));
+        verify(memberAttendanceCounterRepository).findById(new MemberAttendanceCounter.Key(2L, GROUP_ID));
+    }
+
+    private static MemberAttendanceCounter counter(Long userId, long present, long absent, long studyMinutes) {
+        return MemberAttendanceCounter.builder()
+                .userId(userId)
+                .studyGroupId(GROUP_ID)
+                .presentCount(present)
+                .absentCount(absent)
+                .studyMinutes(studyMinutes)
+                .build();
+    }
+}
@@ -0,0 +1,298 @@
+package com.dmt.app.service;
+
+import com.dmt.app.dto.AttendanceDto;
+import com.dmt.app.entity.Attendance;
+import com.dmt.app.entity.StudyGroup;
+import com.dmt.app.entity.StudyGroupMember;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.entity.User;
+import com.dmt.app.repository.AttendanceRepository;
+import com.dmt.app.repository.StudyGroupMemberRepository;
+import com.dmt.app.repository.StudyGroupRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import com.dmt.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 출석 기록 생성, 일괄/버퍼 출석 체크 저장과 자동 결석 처리 (INSERT ... SELECT) 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AttendanceServiceTest {
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private StudySessionRepository studySessionRepository;
+
+    @Autowired
+    private StudyGroupRepository studyGroupRepository;
+
+    @Autowired
+    private StudyGroupMemberRepository studyGroupMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private StudyGroup testStudyGroup;
+    private StudySession testStudySession;
+    private User leader;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        leader = user("리더");
+        member = user("멤버");
+
+        testStudyGroup = studyGroupRepository.save(StudyGroup.builder()
+                .name("테스트 스터디 그룹")
+                .minMembers(2)
+                .status(StudyGroup.StudyGroupStatus.ACTIVE)
+                .build());
+        join(leader, StudyGroupMember.MemberRole.LEADER);
+        join(member, StudyGroupMember.MemberRole.MEMBER);
+
+        testStudySession = studySessionRepository.save(StudySession.builder()
+                .studyGroup(testStudyGroup)
+                .sessionName("테스트 세션")
+                .startTime(LocalDateTime.now().minusMinutes(10))
+                .endTime(LocalDateTime.now().plusHours(1))
+                .status(StudySession.SessionStatus.IN_PROGRESS)
+                .build());
+    }
+
+    @Test
+    @DisplayName("출석 기록이 없는 활성 멤버만 결석 처리")
+    void checkAttendance_MarksOnlyMembersWithoutAttendance() {
+        // given
+        attendanceRepository.save(Attendance.builder()
+                .user(leader)
+                .studySession(testStudySession)
+                .status(Attendance.AttendanceStatus.PRESENT)
+                .build());
+
+        // when
+        markAbsencesInTestGroup();
+
+        // then
+        List<Attendance> attendances = attendanceRepository.findByStudySessionId(testStudySession.getId());
+        assertThat(attendances).hasSize(2);
+        assertThat(attendanceRepository.findByUserIdAndStudySessionId(leader.getId(), testStudySession.getId()))
+                .get().extracting(Attendance::getStatus).isEqualTo(Attendance.AttendanceStatus.PRESENT);
+        assertThat(attendanceRepository.findByUserIdAndStudySessionId(member.getId(), testStudySession.getId()))
+                .get().extracting(Attendance::getStatus).isEqualTo(Attendance.AttendanceStatus.ABSENT);
+    }
+
+    @Test
+    @DisplayName("처리 후 새로 참여한 멤버가 없으면 다음 실행에서 세션을 건너뜀")
+    void checkAttendance_SkipsProcessedSessionsUntilMemberJoins() {
+        // given
+        markAbsencesInTestGroup();
+
+        // when & then
+        assertThat(studySessionRepository.findSessionsToCheckAbsences(LocalDateTime.now()))
+                .noneMatch(sessionGroup -> sessionGroup.getSessionId().equals(testStudySession.getId()));
+
+        User newcomer = user("신규");
+        join(newcomer, StudyGroupMember.MemberRole.MEMBER);
+        int absentCount = markAbsencesInTestGroup();
+
+        assertThat(absentCount).isEqualTo(1);
+        assertThat(attendanceRepository.findByStudySessionId(testStudySession.getId())).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("같은 세션의 두 번째 출석 기록은 삽입되지 않아 거부되고 누적 출석 수는 그대로")
+    void createAttendance_RejectsDuplicate() {
+        // given
+        AttendanceDto.CreateRequest request = AttendanceDto.CreateRequest.builder()
+                .userId(member.getId())
+                .studySessionId(testStudySession.getId())
+                .status(Attendance.AttendanceStatus.EXCUSED)
+                .build();
+        AttendanceDto.Response created = attendanceService.createAttendance(request);
+        assertThat(created.getId()).isNotNull();
+
+        // when & then
+        assertThatThrownBy(() -> attendanceService.createAttendance(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 출석 기록이 존재합니다.");
+        assertThat(attendanceRepository.findByStudySessionId(testStudySession.getId())).hasSize(1);
+        assertThat(attendanceService.getAttendanceSummary(member.getId(), testStudyGroup.getId()).getExcusedCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 출석 체크는 행별 결과를 반환하고 실패한 행이 있어도 나머지를 저장")
+    void bulkCheckIn_ReturnsPerRowResults() {
+        // given
+        User outsider = user("외부인");
+        attendanceService.createAttendance(AttendanceDto.CreateRequest.builder()
+                .userId(member.getId())
+                .studySessionId(testStudySession.getId())
+                .status(Attendance.AttendanceStatus.EXCUSED)
+                .build());
+
+        // when
+        AttendanceDto.BulkCheckInResponse response = attendanceService.bulkCheckIn(testStudySession.getId(), leader.getId(),
+                AttendanceDto.BulkCheckInRequest.builder()
+                        .items(List.of(
+                                item(member.getId(), Attendance.AttendanceStatus.LATE),
+                                item(leader.getId(), Attendance.AttendanceStatus.ABSENT),
+                                item(outsider.getId(), Attendance.AttendanceStatus.PRESENT),
+                                item(leader.getId(), Attendance.AttendanceStatus.PRESENT)))
+                        .build());
+
+        // then
+        assertThat(response.getUpdatedCount()).isEqualTo(1);
+        assertThat(response.getCreatedCount()).isEqualTo(1);
+        assertThat(response.getFailedCount()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(AttendanceDto.BulkCheckInResult::getOutcome)
+                .containsExactly(AttendanceDto.BulkCheckInOutcome.UPDATED, AttendanceDto.BulkCheckInOutcome.CREATED,
+                        AttendanceDto.BulkCheckInOutcome.FAILED, AttendanceDto.BulkCheckInOutcome.FAILED);
+        assertThat(response.getResults().get(1).getAttendanceId()).isNotNull();
+        assertThat(attendanceRepository.findByUserIdAndStudySessionId(member.getId(), testStudySession.getId()))
+                .hasValueSatisfying(attendance -> assertThat(attendance.getStatus()).isEqualTo(Attendance.AttendanceStatus.LATE));
+
+        AttendanceDto.AttendanceSummary memberSummary = attendanceService.getAttendanceSummary(member.getId(), testStudyGroup.getId());
+        assertThat(memberSummary.getTotalSessions()).isEqualTo(1);
+        assertThat(memberSummary.getLateCount()).isEqualTo(1);
+        assertThat(memberSummary.getExcusedCount()).isZero();
+        assertThat(attendanceService.getAttendanceSummary(leader.getId(), testStudyGroup.getId()).getAbsentCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리더가 아니면 일괄 출석 체크 불가")
+    void bulkCheckIn_RequiresLeader() {
+        AttendanceDto.BulkCheckInRequest request = AttendanceDto.BulkCheckInRequest.builder()
+                .items(List.of(item(member.getId(), Attendance.AttendanceStatus.PRESENT)))
+                .build();
+
+        assertThatThrownBy(() -> attendanceService.bulkCheckIn(testStudySession.getId(), member.getId(), request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("버퍼에 쌓인 출석 체크 저장 시 이미 출석 기록이 있는 사용자는 건너뜀")
+    void saveBufferedCheckIns_SkipsExistingAttendances() {
+        // given
+        User newcomer = user("신규");
+        attendanceService.createAttendance(AttendanceDto.CreateRequest.builder()
+                .userId(member.getId())
+                .studySessionId(testStudySession.getId())
+                .status(Attendance.AttendanceStatus.EXCUSED)
+                .build());
+        LocalDateTime arrivalTime = testStudySession.getStartTime().plusMinutes(4).plusSeconds(1);
+
+        // when
+        int savedCount = attendanceService.saveBufferedCheckIns(testStudySession.getId(), List.of(
+                new CheckInBuffer.PendingCheckIn(testStudySession.getId(), member.getId(), null, arrivalTime, 4),
+                new CheckInBuffer.PendingCheckIn(testStudySession.getId(), newcomer.getId(), "버퍼", arrivalTime, 4)));
+
+        // then
+        assertThat(savedCount).isEqualTo(1);
+        assertThat(attendanceRepository.findByUserIdAndStudySessionId(newcomer.getId(), testStudySession.getId()))
+                .hasValueSatisfying(attendance -> {
+                    assertThat(attendance.getStatus()).isEqualTo(Attendance.AttendanceStatus.PRESENT);
+                    assertThat(attendance.getLateMinutes()).isEqualTo(4);
+                });
+        assertThat(attendanceService.getAttendanceSummary(member.getId(), testStudyGroup.getId()).getExcusedCount())
+                .isEqualTo(1);
+        assertThat(attendanceService.getAttendanceSummary(newcomer.getId(), testStudyGroup.getId()).getPresentCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버퍼에 담긴 뒤 자동 결석 처리된 출석 체크는 저장 시 출석으로 교체하고 직접 입력한 결석은 유지")
+    void saveBufferedCheckIns_ReplacesAbsencePlaceholders() {
+        // given
+        attendanceService.bulkCheckIn(testStudySession.getId(), leader.getId(), AttendanceDto.BulkCheckInRequest.builder()
+                .items(List.of(item(leader.getId(), Attendance.AttendanceStatus.ABSENT)))
+                .build());
+        markAbsencesInTestGroup();
+        LocalDateTime arrivalTime = testStudySession.getStartTime().plusMinutes(2).plusSeconds(1);
+
+        // when
+        int savedCount = attendanceService.saveBufferedCheckIns(testStudySession.getId(), List.of(
+                new CheckInBuffer.PendingCheckIn(testStudySession.getId(), member.getId(), null, arrivalTime, 2),
+                new CheckInBuffer.PendingCheckIn(testStudySession.getId(), leader.getId(), null, arrivalTime, 2)));
+
+        // then
+        assertThat(savedCount).isEqualTo(1);
+        assertThat(attendanceRepository.findByUserIdAndStudySessionId(member.getId(), testStudySession.getId()))
+                .hasValueSatisfying(attendance -> {
+                    assertThat(attendance.getStatus()).isEqualTo(Attendance.AttendanceStatus.PRESENT);
+                    assertThat(attendance.getArrivalTime()).isNotNull();
+                    assertThat(attendance.getLateMinutes()).isEqualTo(2);
+                });
+        assertThat(attendanceRepository.findByUserIdAndStudySessionId(leader.getId(), testStudySession.getId()))
+                .get().extracting(Attendance::getStatus).isEqualTo(Attendance.AttendanceStatus.ABSENT);
+        AttendanceDto.AttendanceSummary memberSummary = attendanceService.getAttendanceSummary(member.getId(), testStudyGroup.getId());
+        assertThat(memberSummary.getPresentCount()).isEqualTo(1);
+        assertThat(memberSummary.getAbsentCount()).isZero();
+        assertThat(attendanceService.getAttendanceSummary(leader.getId(), testStudyGroup.getId()).getAbsentCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결석 처리 대상 세션을 스터디 그룹별로 분류")
+    void findSessionsToCheckAbsencesByGroup_GroupsByStudyGroup() {
+        // when
+        Map<Long, List<Long>> sessionsByGroup = attendanceService.findSessionsToCheckAbsencesByGroup();
+
+        // then
+        assertThat(sessionsByGroup.get(testStudyGroup.getId())).containsExactly(testStudySession.getId());
+        assertThat(attendanceRepository.findByStudySessionId(testStudySession.getId())).isEmpty();
+    }
+
+    private int markAbsencesInTestGroup() {
+        List<Long> sessionIds = attendanceService.findSessionsToCheckAbsencesByGroup()
+                .getOrDefault(testStudyGroup.getId(), List.of());
+        return sessionIds.isEmpty() ? 0 : attendanceService.markAbsences(sessionIds);
+    }
+
+    private static AttendanceDto.BulkCheckInItem item(Long userId, Attendance.AttendanceStatus status) {
+        return AttendanceDto.BulkCheckInItem.builder()
+                .userId(userId)
+                .status(status)
+                .build();
+    }
+
+    private User user(String nickname) {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .nickname(nickname)
+                .password("password")
+                .role(User.UserRole.USER)
+                .build());
+    }
+
+    private void join(User user, StudyGroupMember.MemberRole role) {
+        studyGroupMemberRepository.save(StudyGroupMember.builder()
+                .user(user)
+                .studyGroup(testStudyGroup)
+                .role(role)
+                .isActive(true)
+                .build());
+    }
+}
@@ -0,0 +1,147 @@
+package com.dmt.app.service;
+
+import com.dmt.app.dto.AttendanceDto;
+import com.dmt.app.entity.Attendance;
+import com.dmt.app.entity.AttendanceDailyStat;
+import com.dmt.app.entity.StudyGroup;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.entity.User;
+import com.dmt.app.repository.AttendanceDailyStatRepository;
+import com.dmt.app.repository.AttendanceRepository;
+import com.dmt.app.repository.StudyGroupRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import com.dmt.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일별 출석 통계 집계 검증 (배치마다 커밋하므로 테스트 트랜잭션 없이 실행)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AttendanceStatsServiceTest {
+
+    @Autowired
+    private AttendanceStatsService attendanceStatsService;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceDailyStatRepository attendanceDailyStatRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private StudySessionRepository studySessionRepository;
+
+    @Autowired
+    private StudyGroupRepository studyGroupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private StudyGroup testStudyGroup;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        member = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .nickname("멤버")
+                .password("password")
+                .role(User.UserRole.USER)
+                .build());
+        testStudyGroup = studyGroupRepository.save(StudyGroup.builder()
+                .name("통계 테스트 그룹")
+                .minMembers(2)
+                .status(StudyGroup.StudyGroupStatus.ACTIVE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("워터마크 이후 완료된 세션만 그룹/사용자별 일별 통계에 한 번씩 반영")
+    void rollupCompletedSessions_AccumulatesOnce() {
+        // given
+        StudySession session = completedSession();
+        attend(session, Attendance.AttendanceStatus.LATE, 7);
+
+        // when
+        attendanceStatsService.rollupCompletedSessions();
+        attendanceStatsService.rollupCompletedSessions();
+
+        // then
+        List<AttendanceDailyStat> stats = attendanceDailyStatRepository.findByStudyGroupIdInAndStatDateIn(
+                Set.of(testStudyGroup.getId()), Set.of(session.getStartTime().toLocalDate()));
+        assertThat(stats).hasSize(2);
+        assertThat(stats).extracting(AttendanceDailyStat::getUserId).containsExactlyInAnyOrder(member.getId(), null);
+        assertThat(stats).allSatisfy(stat -> {
+            assertThat(stat.getLateCount()).isEqualTo(1);
+            assertThat(stat.getLateMinutes()).isEqualTo(7);
+            assertThat(stat.getPresentCount()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("이미 집계된 세션의 출석 기록을 수정/삭제하면 다음 집계에서 그날 통계를 다시 계산")
+    void rollupCompletedSessions_RerollsChangedSessions() {
+        // given
+        StudySession session = completedSession();
+        attend(session, Attendance.AttendanceStatus.LATE, 7);
+        attendanceStatsService.rollupCompletedSessions();
+        Attendance attendance = attendanceRepository.findByStudySessionId(session.getId()).get(0);
+
+        // when
+        attendanceService.updateAttendance(attendance.getId(), member.getId(), AttendanceDto.UpdateRequest.builder()
+                .status(Attendance.AttendanceStatus.EXCUSED)
+                .build());
+        attendanceStatsService.rollupCompletedSessions();
+
+        // then
+        List<AttendanceDailyStat> stats = attendanceDailyStatRepository.findByStudyGroupIdInAndStatDateIn(
+                Set.of(testStudyGroup.getId()), Set.of(session.getStartTime().toLocalDate()));
+        assertThat(stats).hasSize(2);
+        assertThat(stats).allSatisfy(stat -> {
+            assertThat(stat.getLateCount()).isZero();
+            assertThat(stat.getExcusedCount()).isEqualTo(1);
+        });
+
+        attendanceService.deleteAttendance(attendance.getId(), member.getId());
+        attendanceStatsService.rollupCompletedSessions();
+        assertThat(attendanceDailyStatRepository.findByStudyGroupIdInAndStatDateIn(
+                Set.of(testStudyGroup.getId()), Set.of(session.getStartTime().toLocalDate()))).isEmpty();
+    }
+
+    private StudySession completedSession() {
+        LocalDateTime start = LocalDateTime.now().minusHours(2);
+        return studySessionRepository.save(StudySession.builder()
+                .studyGroup(testStudyGroup)
+                .sessionName("완료된 세션")
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .status(StudySession.SessionStatus.COMPLETED)
+                .completedAt(LocalDateTime.now().minusMinutes(10))
+                .build());
+    }
+
+    private void attend(StudySession session, Attendance.AttendanceStatus status, Integer lateMinutes) {
+        attendanceRepository.save(Attendance.builder()
+                .user(member)
+                .studySession(session)
+                .status(status)
+                .lateMinutes(lateMinutes)
+                .build());
+    }
+}
@@ -0,0 +1,160 @@
+package com.dmt.app.service;
+
+import com.dmt.app.dto.AttendanceDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInBufferTest {
+
+    private static final Long SESSION_ID = 10L;
+
+    @Mock
+    private RestrictionIndex restrictionIndex;
+
+    @Mock
+    private AttendanceService attendanceService;
+
+    private CheckInBuffer checkInBuffer;
+
+    @BeforeEach
+    void setUp() {
+        checkInBuffer = new CheckInBuffer(restrictionIndex, attendanceService);
+    }
+
+    @Test
+    @DisplayName("진행 중인 세션의 멤버는 버퍼에 담기고 저장 전에도 세션 출석 목록에 포함")
+    void checkIn_BuffersAndReadsYourWrites() {
+        // given
+        liveSessionStartedMinutesAgo(3);
+        when(attendanceService.getAttendancesByStudySessionId(SESSION_ID)).thenReturn(List.of());
+
+        // when
+        AttendanceDto.Response response = checkInBuffer.checkIn(SESSION_ID, 1L, null);
+
+        // then
+        assertThat(response.getId()).isNull();
+        assertThat(response.getLateMinutes()).isEqualTo(3);
+        assertThat(checkInBuffer.getAttendancesByStudySessionId(SESSION_ID))
+                .extracting(AttendanceDto.Response::getUserId)
+                .containsExactly(1L);
+        assertThatThrownBy(() -> checkInBuffer.checkIn(SESSION_ID, 1L, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(attendanceService, never()).selfCheckIn(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 출석 기록이 있으면 버퍼에 담지 않고 거부")
+    void checkIn_RejectsWhenAttendanceAlreadySaved() {
+        // given
+        liveSessionStartedMinutesAgo(3);
+        when(attendanceService.hasAttendance(SESSION_ID, 1L)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> checkInBuffer.checkIn(SESSION_ID, 1L, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 출석 기록이 존재합니다.");
+        assertThat(checkInBuffer.size()).isZero();
+        verify(attendanceService, never()).selfCheckIn(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("버퍼에 담는 사이 종료가 시작되면 마지막 저장에서 빠지지 않도록 바로 저장")
+    void checkIn_ClosedWhileBuffering_SavesDirectly() {
+        // given
+        liveSessionStartedMinutesAgo(0);
+        when(attendanceService.hasAttendance(SESSION_ID, 1L)).thenAnswer(invocation -> {
+            checkInBuffer.close();
+            return false;
+        });
+
+        // when
+        checkInBuffer.checkIn(SESSION_ID, 1L, "메모");
+
+        // then
+        verify(attendanceService).selfCheckIn(SESSION_ID, 1L, "메모");
+        verify(attendanceService, never()).saveBufferedCheckIns(any(), anyList());
+        assertThat(checkInBuffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("인덱스에 없는 세션은 바로 저장하는 경로로 처리")
+    void checkIn_FallsBackWhenSessionNotLive() {
+        when(restrictionIndex.liveStartTimeFor(eq(SESSION_ID), eq(1L), any())).thenReturn(Optional.empty());
+
+        checkInBuffer.checkIn(SESSION_ID, 1L, "메모");
+
+        verify(attendanceService).selfCheckIn(SESSION_ID, 1L, "메모");
+        assertThat(checkInBuffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("세션별로 모아 저장하고 일시적인 오류로 저장하지 못한 출석 체크는 버퍼에 남김")
+    void flush_SavesPerSessionAndKeepsFailedCheckIns() {
+        // given
+        liveSessionStartedMinutesAgo(0);
+        checkInBuffer.checkIn(SESSION_ID, 1L, null);
+        checkInBuffer.checkIn(SESSION_ID, 2L, null);
+        when(attendanceService.saveBufferedCheckIns(eq(SESSION_ID), anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        checkInBuffer.flush();
+
+        // then
+        assertThat(checkInBuffer.size()).isEqualTo(2);
+
+        // when
+        reset(attendanceService);
+        checkInBuffer.close();
+
+        // then
+        verify(attendanceService).saveBufferedCheckIns(eq(SESSION_ID), argThat(checkIns -> checkIns.size() == 2));
+        assertThat(checkInBuffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 시도해도 저장할 수 없는 출석 체크는 버리고 나머지는 저장")
+    void flush_DropsUnsavableCheckIns() {
+        // given
+        liveSessionStartedMinutesAgo(0);
+        checkInBuffer.checkIn(SESSION_ID, 1L, null);
+        checkInBuffer.checkIn(SESSION_ID, 2L, null);
+        when(attendanceService.saveBufferedCheckIns(eq(SESSION_ID), anyList())).thenAnswer(invocation -> {
+            List<CheckInBuffer.PendingCheckIn> checkIns = invocation.getArgument(1);
+            if (checkIns.stream().anyMatch(checkIn -> checkIn.userId().equals(2L))) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+            }
+            return checkIns.size();
+        });
+
+        // when
+        checkInBuffer.flush();
+
+        // then
+        assertThat(checkInBuffer.size()).isZero();
+        verify(attendanceService).saveBufferedCheckIns(eq(SESSION_ID), argThat(checkIns -> checkIns.size() == 1
+                && checkIns.get(0).userId().equals(1L)));
+    }
+
+    private void liveSessionStartedMinutesAgo(long minutes) {
+        when(restrictionIndex.liveStartTimeFor(eq(SESSION_ID), any(), any()))
+                .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(minutes).minusSeconds(1)));
+    }
+}
@@ -0,0 +1,106 @@
+package com.dmt.app.service;
+
+import com.dmt.app.entity.PhoneRestrictionException;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.entity.User;
+import com.dmt.app.repository.PhoneRestrictionExceptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class ExceptionWindowIndexTest {
+
+    @Mock
+    private PhoneRestrictionExceptionRepository phoneRestrictionExceptionRepository;
+
+    @InjectMocks
+    private ExceptionWindowIndex exceptionWindowIndex;
+
+    private LocalDateTime baseTime;
+    private StudySession testStudySession;
+
+    @BeforeEach
+    void setUp() {
+        baseTime = LocalDateTime.of(2025, 1, 1, 14, 0);
+        testStudySession = StudySession.builder()
+                .id(10L)
+                .sessionName("테스트 세션")
+                .startTime(baseTime)
+                .endTime(baseTime.plusHours(2))
+                .build();
+    }
+
+    private PhoneRestrictionException exception(Long id, Long userId, PhoneRestrictionException.ExceptionStatus status,
+                                                LocalDateTime start, LocalDateTime end) {
+        return PhoneRestrictionException.builder()
+                .id(id)
+                .user(User.builder().id(userId).build())
+                .studySession(testStudySession)
+                .status(status)
+                .exceptionStartTime(start)
+                .exceptionEndTime(end)
+                .build();
+    }
+
+    @Test
+    @DisplayName("승인된 예외의 시간대는 지정한 구간 안에서만 적용")
+    void windowsOf_HonorsWindow() {
+        // given
+        exceptionWindowIndex.put(exception(1L, 1L, PhoneRestrictionException.ExceptionStatus.APPROVED,
+                baseTime.plusMinutes(30), baseTime.plusMinutes(60)));
+
+        // when
+        List<ExceptionWindowIndex.ExceptionWindow> windows = exceptionWindowIndex.windowsOf(10L);
+
+        // then
+        assertThat(windows).singleElement().satisfies(window -> {
+            assertThat(window.userId()).isEqualTo(1L);
+            assertThat(window.covers(baseTime.plusMinutes(10))).isFalse();
+            assertThat(window.covers(baseTime.plusMinutes(45))).isTrue();
+            assertThat(window.covers(baseTime.plusMinutes(61))).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("시간대가 없는 승인 예외는 세션 전체에 적용, 승인되지 않은 예외는 제외")
+    void put_OnlyIndexesApprovedExceptions() {
+        // given
+        exceptionWindowIndex.put(exception(1L, 1L, PhoneRestrictionException.ExceptionStatus.APPROVED, null, null));
+        exceptionWindowIndex.put(exception(2L, 2L, PhoneRestrictionException.ExceptionStatus.PENDING, null, null));
+
+        // when & then
+        assertThat(exceptionWindowIndex.find(1L)).hasValueSatisfying(window ->
+                assertThat(window.covers(baseTime.plusMinutes(90))).isTrue());
+        assertThat(exceptionWindowIndex.find(2L)).isEmpty();
+
+        exceptionWindowIndex.put(exception(1L, 1L, PhoneRestrictionException.ExceptionStatus.REJECTED, null, null));
+        assertThat(exceptionWindowIndex.find(1L)).isEmpty();
+        assertThat(exceptionWindowIndex.windowsOf(10L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("세션 종료 시 시간대 유무와 관계없이 세션의 예외 시간대를 모두 정리")
+    void sessionEnded_RemovesAllWindows() {
+        // given
+        exceptionWindowIndex.put(exception(1L, 1L, PhoneRestrictionException.ExceptionStatus.APPROVED,
+                baseTime, baseTime.plusMinutes(20)));
+        exceptionWindowIndex.put(exception(2L, 2L, PhoneRestrictionException.ExceptionStatus.APPROVED, null, null));
+
+        // when
+        exceptionWindowIndex.sessionEnded(10L);
+
+        // then
+        assertThat(exceptionWindowIndex.windowsOf(10L)).isEmpty();
+        assertThat(exceptionWindowIndex.find(1L)).isEmpty();
+    }
+}
@@ -0,0 +1,164 @@
+package com.dmt.app.service;
+
+import com.dmt.app.dto.PhoneRestrictionExceptionDto;
+import com.dmt.app.repository.PhoneRestrictionExceptionRepository;
+import com.dmt.app.repository.StudyGroupMemberRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import com.dmt.app.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PhoneRestrictionExceptionServiceTest {
+
+    @Mock
+    private PhoneRestrictionExceptionRepository phoneRestrictionExceptionRepository;
+
+    @Mock
+    private StudySessionRepository studySessionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StudyGroupMemberRepository studyGroupMemberRepository;
+
+    @Mock
+    private RestrictionIndex restrictionIndex;
+
+    @Mock
+    private ExceptionWindowIndex exceptionWindowIndex;
+
+    @Mock
+    private RestrictionTimelineIndex restrictionTimelineIndex;
+
+    @Mock
+    private RestrictionStatusWatchers restrictionStatusWatchers;
+
+    @InjectMocks
+    private PhoneRestrictionExceptionService phoneRestrictionExceptionService;
+
+    @Test
+    @DisplayName("일괄 조회 사용자가 최대 인원을 넘으면 조회하지 않고 거부")
+    void getRestrictionStatuses_OverBatchLimit_Rejected() {
+        // given
+        List<Long> userIds = LongStream.rangeClosed(1, 1001).boxed().collect(Collectors.toList());
+        PhoneRestrictionExceptionDto.BatchRestrictionStatusRequest request =
+                PhoneRestrictionExceptionDto.BatchRestrictionStatusRequest.builder().userIds(userIds).build();
+
+        // when & then
+        assertThatThrownBy(() -> phoneRestrictionExceptionService.getRestrictionStatuses(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1000");
+        verify(studySessionRepository, never()).findCurrentParticipations(anyCollection(), any(LocalDateTime.class));
+        verify(restrictionIndex, never()).evaluate(any(), any());
+    }
+
+    @Test
+    @DisplayName("그룹 멤버를 합친 사용자가 최대 인원을 넘어도 거부")
+    void getRestrictionStatuses_GroupMembersOverBatchLimit_Rejected() {
+        // given
+        when(studyGroupMemberRepository.findActiveUserIdsByStudyGroupId(1L))
+                .thenReturn(LongStream.rangeClosed(2, 1001).boxed().collect(Collectors.toList()));
+        PhoneRestrictionExceptionDto.BatchRestrictionStatusRequest request =
+                PhoneRestrictionExceptionDto.BatchRestrictionStatusRequest.builder()
+                        .userIds(List.of(1L))
+                        .groupId(1L)
+                        .build();
+
+        // when & then
+        assertThatThrownBy(() -> phoneRestrictionExceptionService.getRestrictionStatuses(request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(studySessionRepository, never()).findCurrentParticipations(anyCollection(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("인덱스가 준비되면 DB 조회 없이 인덱스로 사용자별 상태 평가")
+    void getRestrictionStatuses_IndexReady_EvaluatesFromIndex() {
+        // given
+        when(restrictionIndex.isReady()).thenReturn(true);
+        when(restrictionIndex.evaluate(eq(1L), any(LocalDateTime.class))).thenReturn(status(
+                PhoneRestrictionExceptionDto.RestrictionState.RESTRICTED, 10L));
+        when(restrictionIndex.evaluate(eq(2L), any(LocalDateTime.class))).thenReturn(status(
+                PhoneRestrictionExceptionDto.RestrictionState.EXEMPT, 10L));
+        when(restrictionIndex.evaluate(eq(3L), any(LocalDateTime.class)))
+                .thenReturn(PhoneRestrictionExceptionDto.UserRestrictionStatus.free());
+
+        // when
+        Map<Long, PhoneRestrictionExceptionDto.UserRestrictionStatus> statuses = phoneRestrictionExceptionService
+                .getRestrictionStatuses(request(1L, 2L, 3L));
+
+        // then
+        assertThat(statuses).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(statuses.get(1L).getState()).isEqualTo(PhoneRestrictionExceptionDto.RestrictionState.RESTRICTED);
+        assertThat(statuses.get(2L).getState()).isEqualTo(PhoneRestrictionExceptionDto.RestrictionState.EXEMPT);
+        assertThat(statuses.get(3L).getState()).isEqualTo(PhoneRestrictionExceptionDto.RestrictionState.FREE);
+        verify(studySessionRepository, never()).findCurrentParticipations(anyCollection(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("인덱스 초기화 전에는 한 번의 참여 조회로 제한/예외/자유 사용자를 함께 평가")
+    void getRestrictionStatuses_IndexNotReady_EvaluatesFromParticipations() {
+        // given
+        when(restrictionIndex.isReady()).thenReturn(false);
+        // 사용자 1: 예외 세션과 제한 세션에 함께 참여 -> 제한 세션 기준으로 제한
+        // 사용자 2: 예외가 승인된 세션에만 참여 -> 예외
+        // 사용자 3: 참여 중인 세션 없음 -> 자유
+        List<StudySessionRepository.SessionParticipation> participations = List.of(
+                participation(1L, 10L, true),
+                participation(1L, 11L, false),
+                participation(2L, 10L, true));
+        when(studySessionRepository.findCurrentParticipations(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(participations);
+
+        // when
+        Map<Long, PhoneRestrictionExceptionDto.UserRestrictionStatus> statuses = phoneRestrictionExceptionService
+                .getRestrictionStatuses(request(1L, 2L, 3L));
+
+        // then
+        assertThat(statuses.get(1L)).isEqualTo(status(PhoneRestrictionExceptionDto.RestrictionState.RESTRICTED, 11L));
+        assertThat(statuses.get(2L)).isEqualTo(status(PhoneRestrictionExceptionDto.RestrictionState.EXEMPT, 10L));
+        assertThat(statuses.get(3L)).isEqualTo(PhoneRestrictionExceptionDto.UserRestrictionStatus.free());
+        verify(studySessionRepository, times(1)).findCurrentParticipations(anyCollection(), any(LocalDateTime.class));
+        verify(restrictionIndex, never()).evaluate(any(), any());
+    }
+
+    private PhoneRestrictionExceptionDto.BatchRestrictionStatusRequest request(Long... userIds) {
+        return PhoneRestrictionExceptionDto.BatchRestrictionStatusRequest.builder()
+                .userIds(List.of(userIds))
+                .build();
+    }
+
+    private PhoneRestrictionExceptionDto.UserRestrictionStatus status(
+            PhoneRestrictionExceptionDto.RestrictionState state, Long sessionId) {
+        return PhoneRestrictionExceptionDto.UserRestrictionStatus.builder()
+                .state(state)
+                .sessionId(sessionId)
+                .build();
+    }
+
+    private StudySessionRepository.SessionParticipation participation(Long userId, Long sessionId, boolean exempt) {
+        StudySessionRepository.SessionParticipation participation = mock(StudySessionRepository.SessionParticipation.class);
+        lenient().when(participation.getUserId()).thenReturn(userId);
+        lenient().when(participation.getSessionId()).thenReturn(sessionId);
+        lenient().when(participation.isExemptAt(any(LocalDateTime.class))).thenReturn(exempt);
+        return participation;
+    }
+}
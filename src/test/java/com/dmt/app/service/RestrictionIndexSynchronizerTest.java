@@ -0,0 +1,148 @@
+package com.dmt.app.service;
+
+import com.dmt.app.entity.PhoneRestrictionException;
+import com.dmt.app.entity.StudyGroup;
+import com.dmt.app.entity.StudyGroupMember;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.entity.User;
+import com.dmt.app.repository.PhoneRestrictionExceptionRepository;
+import com.dmt.app.repository.StudyGroupMemberRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RestrictionIndexSynchronizerTest {
+
+    @Mock
+    private StudySessionRepository studySessionRepository;
+
+    @Mock
+    private StudyGroupMemberRepository studyGroupMemberRepository;
+
+    @Mock
+    private PhoneRestrictionExceptionRepository phoneRestrictionExceptionRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private SessionTransitionTimer sessionTransitionTimer;
+
+    private RestrictionIndex restrictionIndex;
+    private RestrictionIndexSynchronizer synchronizer;
+
+    private User member;
+    private StudySession liveSession;
+
+    @BeforeEach
+    void setUp() {
+        ExceptionWindowIndex exceptionWindowIndex = new ExceptionWindowIndex(phoneRestrictionExceptionRepository);
+        RestrictionTimelineIndex restrictionTimelineIndex = new RestrictionTimelineIndex(studySessionRepository, exceptionWindowIndex);
+        restrictionIndex = new RestrictionIndex(studySessionRepository, studyGroupMemberRepository, exceptionWindowIndex,
+                restrictionTimelineIndex, notificationService, new RestrictionStatusWatchers(), taskScheduler);
+        synchronizer = new RestrictionIndexSynchronizer(studySessionRepository, studyGroupMemberRepository,
+                phoneRestrictionExceptionRepository, restrictionIndex, exceptionWindowIndex, restrictionTimelineIndex,
+                sessionTransitionTimer);
+
+        member = User.builder().id(1L).nickname("멤버").build();
+        StudyGroup testStudyGroup = StudyGroup.builder().id(1L).name("테스트 스터디 그룹").build();
+        liveSession = StudySession.builder()
+                .id(10L)
+                .studyGroup(testStudyGroup)
+                .sessionName("다른 노드에서 시작된 세션")
+                .startTime(LocalDateTime.now().minusMinutes(30))
+                .endTime(LocalDateTime.now().plusMinutes(30))
+                .status(StudySession.SessionStatus.IN_PROGRESS)
+                .build();
+
+        when(studySessionRepository.findCurrentSessions(any(LocalDateTime.class))).thenReturn(List.of());
+        restrictionIndex.initialize();
+        when(studyGroupMemberRepository.findByStudyGroupIdAndIsActiveTrue(1L)).thenReturn(List.of(StudyGroupMember.builder()
+                .user(member)
+                .studyGroup(testStudyGroup)
+                .role(StudyGroupMember.MemberRole.MEMBER)
+                .isActive(true)
+                .build()));
+        when(studySessionRepository.findSessionGroups(anyCollection())).thenReturn(List.of(sessionGroup(10L, 1L)));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 시작된 세션은 동기화 후 제한되고 다시 조회되어도 한 번만 적재")
+    void synchronize_StartsRemoteSessionOnce() {
+        // given
+        when(studySessionRepository.findUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(liveSession));
+        assertThat(restrictionIndex.isRestricted(1L)).isFalse();
+
+        // when
+        synchronizer.synchronize();
+        synchronizer.synchronize();
+
+        // then
+        assertThat(restrictionIndex.isRestricted(1L)).isTrue();
+        verify(studyGroupMemberRepository, times(1)).findByStudyGroupIdAndIsActiveTrue(1L);
+        verify(sessionTransitionTimer, times(2)).sessionScheduled(liveSession);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 승인된 예외와 완료된 세션이 동기화 후 반영")
+    void synchronize_AppliesRemoteExceptionAndCompletion() {
+        // given
+        when(studySessionRepository.findUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(liveSession));
+        synchronizer.synchronize();
+        PhoneRestrictionException approved = PhoneRestrictionException.builder()
+                .id(100L)
+                .user(member)
+                .studySession(liveSession)
+                .status(PhoneRestrictionException.ExceptionStatus.APPROVED)
+                .build();
+        when(phoneRestrictionExceptionRepository.findUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(approved));
+
+        // when & then
+        synchronizer.synchronize();
+        assertThat(restrictionIndex.isRestricted(1L)).isFalse();
+        assertThat(restrictionIndex.evaluate(1L, LocalDateTime.now()).getSessionId()).isEqualTo(10L);
+
+        StudySession completed = StudySession.builder()
+                .id(10L)
+                .studyGroup(liveSession.getStudyGroup())
+                .startTime(liveSession.getStartTime())
+                .endTime(liveSession.getEndTime())
+                .status(StudySession.SessionStatus.COMPLETED)
+                .build();
+        when(studySessionRepository.findUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(completed));
+        synchronizer.synchronize();
+        assertThat(restrictionIndex.isLive(10L)).isFalse();
+        verify(sessionTransitionTimer).sessionRemoved(10L);
+    }
+
+    private static StudySessionRepository.SessionGroup sessionGroup(Long sessionId, Long groupId) {
+        return new StudySessionRepository.SessionGroup() {
+            @Override
+            public Long getSessionId() {
+                return sessionId;
+            }
+
+            @Override
+            public Long getStudyGroupId() {
+                return groupId;
+            }
+        };
+    }
+}
@@ -0,0 +1,277 @@
+package com.dmt.app.service;
+
+import com.dmt.app.dto.NotificationDto;
+import com.dmt.app.entity.PhoneRestrictionException;
+import com.dmt.app.entity.StudyGroup;
+import com.dmt.app.entity.StudyGroupMember;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.entity.User;
+import com.dmt.app.repository.PhoneRestrictionExceptionRepository;
+import com.dmt.app.repository.StudyGroupMemberRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RestrictionIndexTest {
+
+    @Mock
+    private StudySessionRepository studySessionRepository;
+
+    @Mock
+    private StudyGroupMemberRepository studyGroupMemberRepository;
+
+    @Mock
+    private PhoneRestrictionExceptionRepository phoneRestrictionExceptionRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private ExceptionWindowIndex exceptionWindowIndex;
+    private RestrictionTimelineIndex restrictionTimelineIndex;
+    private RestrictionStatusWatchers restrictionStatusWatchers;
+    private RestrictionIndex restrictionIndex;
+
+    private User member;
+    private User otherMember;
+    private StudyGroup testStudyGroup;
+    private StudySession liveSession;
+
+    @BeforeEach
+    void setUp() {
+        exceptionWindowIndex = new ExceptionWindowIndex(phoneRestrictionExceptionRepository);
+        restrictionTimelineIndex = new RestrictionTimelineIndex(studySessionRepository, exceptionWindowIndex);
+        restrictionStatusWatchers = new RestrictionStatusWatchers();
+        restrictionIndex = new RestrictionIndex(studySessionRepository, studyGroupMemberRepository,
+                exceptionWindowIndex, restrictionTimelineIndex, notificationService, restrictionStatusWatchers, taskScheduler);
+
+        member = User.builder().id(1L).nickname("멤버").build();
+        otherMember = User.builder().id(2L).nickname("다른멤버").build();
+
+        testStudyGroup = StudyGroup.builder()
+                .id(1L)
+                .name("테스트 스터디 그룹")
+                .status(StudyGroup.StudyGroupStatus.ACTIVE)
+                .build();
+
+        liveSession = StudySession.builder()
+                .id(10L)
+                .studyGroup(testStudyGroup)
+                .sessionName("진행 중인 세션")
+                .startTime(LocalDateTime.now().minusMinutes(30))
+                .endTime(LocalDateTime.now().plusMinutes(30))
+                .status(StudySession.SessionStatus.IN_PROGRESS)
+                .build();
+    }
+
+    private StudyGroupMember membership(User user) {
+        return StudyGroupMember.builder()
+                .user(user)
+                .studyGroup(testStudyGroup)
+                .role(StudyGroupMember.MemberRole.MEMBER)
+                .isActive(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("초기화 후 진행 중인 세션의 멤버는 제한, 비멤버는 제한되지 않음")
+    void initialize_IndexesCurrentSessions() {
+        // given
+        when(studySessionRepository.findCurrentSessions(any(LocalDateTime.class))).thenReturn(List.of(liveSession));
+        when(studyGroupMemberRepository.findByStudyGroupIdAndIsActiveTrue(1L)).thenReturn(List.of(membership(member)));
+
+        // when
+        restrictionIndex.initialize();
+
+        // then
+        assertThat(restrictionIndex.isReady()).isTrue();
+        assertThat(restrictionIndex.isRestricted(1L)).isTrue();
+        assertThat(restrictionIndex.isRestricted(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("승인된 예외가 있는 멤버는 제한되지 않음")
+    void exceptionApproved_ExemptsMember() {
+        // given
+        PhoneRestrictionException approved = PhoneRestrictionException.builder()
+                .id(100L)
+                .user(otherMember)
+                .studySession(liveSession)
+                .status(PhoneRestrictionException.ExceptionStatus.APPROVED)
+                .build();
+        when(studyGroupMemberRepository.findByStudyGroupIdAndIsActiveTrue(1L))
+                .thenReturn(Arrays.asList(membership(member), membership(otherMember)));
+        exceptionWindowIndex.put(approved);
+
+        PhoneRestrictionException approvedLater = PhoneRestrictionException.builder()
+                .id(101L)
+                .user(member)
+                .studySession(liveSession)
+                .status(PhoneRestrictionException.ExceptionStatus.APPROVED)
+                .build();
+
+        // when
+        restrictionIndex.sessionStarted(liveSession);
+        exceptionWindowIndex.put(approvedLater);
+        restrictionTimelineIndex.exceptionChanged(approvedLater);
+        restrictionIndex.exceptionApproved(approvedLater);
+
+        // then
+        assertThat(restrictionIndex.isRestricted(1L)).isFalse();
+        assertThat(restrictionIndex.isRestricted(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("세션 종료, 그룹 참여/탈퇴가 제한 상태에 즉시 반영됨")
+    void transitions_UpdateIndexWithoutQueries() {
+        // given
+        when(studyGroupMemberRepository.findByStudyGroupIdAndIsActiveTrue(1L)).thenReturn(List.of(membership(member)));
+        restrictionIndex.sessionStarted(liveSession);
+
+        // when & then
+        restrictionIndex.memberJoined(1L, 2L);
+        assertThat(restrictionIndex.isRestricted(2L)).isTrue();
+
+        restrictionIndex.memberLeft(1L, 2L);
+        assertThat(restrictionIndex.isRestricted(2L)).isFalse();
+
+        restrictionIndex.sessionEnded(10L);
+        assertThat(restrictionIndex.isRestricted(1L)).isFalse();
+
+        verify(studyGroupMemberRepository, times(1)).findByStudyGroupIdAndIsActiveTrue(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 세션 시작은 커밋된 뒤에만 반영되고 롤백되면 반영되지 않음")
+    void sessionStarted_AppliesOnlyAfterCommit() {
+        // given
+        when(studyGroupMemberRepository.findByStudyGroupIdAndIsActiveTrue(1L)).thenReturn(List.of(membership(member)));
+
+        // when & then
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            restrictionIndex.sessionStarted(liveSession);
+            assertThat(restrictionIndex.isRestricted(1L)).isFalse();
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(restrictionIndex.isRestricted(1L)).isFalse();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            restrictionIndex.sessionStarted(liveSession);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(restrictionIndex.isRestricted(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료 시간이 지난 세션은 제한하지 않음")
+    void isRestricted_IgnoresSessionPastEndTime() {
+        // given
+        when(studyGroupMemberRepository.findByStudyGroupIdAndIsActiveTrue(1L)).thenReturn(List.of(membership(member)));
+        restrictionIndex.sessionStarted(liveSession);
+
+        // when & then
+        assertThat(restrictionIndex.isRestricted(1L, liveSession.getEndTime().plusSeconds(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("예외 시간대 밖에서는 승인된 예외가 있어도 제한됨")
+    void isRestricted_HonorsExceptionWindow() {
+        // given
+        PhoneRestrictionException windowed = PhoneRestrictionException.builder()
+                .id(100L)
+                .user(member)
+                .studySession(liveSession)
+                .status(PhoneRestrictionException.ExceptionStatus.APPROVED)
+                .exceptionStartTime(LocalDateTime.now().plusMinutes(10))
+                .exceptionEndTime(LocalDateTime.now().plusMinutes(20))
+                .build();
+        when(studyGroupMemberRepository.findByStudyGroupIdAndIsActiveTrue(1L)).thenReturn(List.of(membership(member)));
+        exceptionWindowIndex.put(windowed);
+
+        // when
+        restrictionIndex.sessionStarted(liveSession);
+
+        // then
+        assertThat(restrictionIndex.isRestricted(1L)).isTrue();
+        assertThat(restrictionIndex.isRestricted(1L, LocalDateTime.now().plusMinutes(15))).isFalse();
+        verify(taskScheduler, times(3)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("제한 상태가 바뀔 때만 버전이 증가한 상태 변경 알림 전송")
+    void refresh_PublishesVersionedChangeOnlyOnFlip() {
+        // given
+        when(studySessionRepository.findCurrentSessions(any(LocalDateTime.class))).thenReturn(Collections.emptyList());
+        restrictionIndex.initialize();
+        when(studyGroupMemberRepository.findByStudyGroupIdAndIsActiveTrue(1L)).thenReturn(List.of(membership(member)));
+
+        // when
+        restrictionIndex.sessionStarted(liveSession);
+        restrictionIndex.memberLeft(1L, 2L);
+        restrictionIndex.sessionEnded(10L);
+
+        // then
+        ArgumentCaptor<NotificationDto.PhoneRestrictionStatusChange> captor =
+                ArgumentCaptor.forClass(NotificationDto.PhoneRestrictionStatusChange.class);
+        verify(notificationService, times(2)).sendRestrictionStatusChange(captor.capture());
+
+        List<NotificationDto.PhoneRestrictionStatusChange> changes = captor.getAllValues();
+        assertThat(changes.get(0).getStatus()).isEqualTo("RESTRICTED");
+        assertThat(changes.get(0).getStudySessionId()).isEqualTo(10L);
+        assertThat(changes.get(1).getStatus()).isEqualTo("FREE");
+        assertThat(changes.get(1).getVersion()).isGreaterThan(changes.get(0).getVersion());
+        assertThat(restrictionIndex.getVersion(1L)).isEqualTo(changes.get(1).getVersion());
+        assertThat(changes).allSatisfy(change -> assertThat(change.getEpoch()).isEqualTo(restrictionIndex.getEpoch()));
+        assertThat(restrictionIndex.getVersionTag(1L))
+                .isEqualTo(restrictionIndex.getEpoch() + "-" + changes.get(1).getVersion());
+    }
+
+    @Test
+    @DisplayName("제한 상태가 바뀌면 대기 중인 요청을 한 번만 깨움")
+    void refresh_WakesWatchersOnFlip() {
+        // given
+        when(studyGroupMemberRepository.findByStudyGroupIdAndIsActiveTrue(1L)).thenReturn(List.of(membership(member)));
+        AtomicInteger wakeUps = new AtomicInteger();
+        restrictionStatusWatchers.watch(1L, wakeUps::incrementAndGet);
+        Runnable unwatch = restrictionStatusWatchers.watch(2L, wakeUps::incrementAndGet);
+        unwatch.run();
+
+        // when
+        restrictionIndex.sessionStarted(liveSession);
+        restrictionIndex.sessionEnded(10L);
+
+        // then
+        assertThat(wakeUps.get()).isEqualTo(1);
+        assertThat(restrictionIndex.getVersion(2L)).isZero();
+    }
+}
@@ -0,0 +1,219 @@
+package com.dmt.app.service;
+
+import com.dmt.app.config.RestrictionScheduleConfig;
+import com.dmt.app.dto.PhoneRestrictionExceptionDto;
+import com.dmt.app.entity.PhoneRestrictionException;
+import com.dmt.app.entity.StudyGroup;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.entity.User;
+import com.dmt.app.repository.PhoneRestrictionExceptionRepository;
+import com.dmt.app.repository.StudyGroupMemberRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RestrictionScheduleServiceTest {
+
+    @Mock
+    private StudySessionRepository studySessionRepository;
+
+    @Mock
+    private StudyGroupMemberRepository studyGroupMemberRepository;
+
+    @Mock
+    private PhoneRestrictionExceptionRepository phoneRestrictionExceptionRepository;
+
+    private ExceptionWindowIndex exceptionWindowIndex;
+    private RestrictionTimelineIndex restrictionTimelineIndex;
+    private RestrictionScheduleService restrictionScheduleService;
+
+    private StudySession firstSession;
+    private StudySession secondSession;
+
+    @BeforeEach
+    void setUp() {
+        exceptionWindowIndex = new ExceptionWindowIndex(phoneRestrictionExceptionRepository);
+        restrictionTimelineIndex = new RestrictionTimelineIndex(studySessionRepository, exceptionWindowIndex);
+        restrictionScheduleService = new RestrictionScheduleService(studySessionRepository, studyGroupMemberRepository,
+                restrictionTimelineIndex, new RestrictionScheduleConfig());
+
+        StudyGroup testStudyGroup = StudyGroup.builder().id(1L).name("테스트 스터디 그룹").build();
+        firstSession = StudySession.builder()
+                .id(10L)
+                .studyGroup(testStudyGroup)
+                .startTime(LocalDateTime.now().plusHours(1))
+                .endTime(LocalDateTime.now().plusHours(2))
+                .status(StudySession.SessionStatus.SCHEDULED)
+                .build();
+        secondSession = StudySession.builder()
+                .id(11L)
+                .studyGroup(testStudyGroup)
+                .startTime(LocalDateTime.now().plusHours(3))
+                .endTime(LocalDateTime.now().plusHours(4))
+                .status(StudySession.SessionStatus.SCHEDULED)
+                .build();
+        restrictionTimelineIndex.sessionScheduled(firstSession);
+        restrictionTimelineIndex.sessionScheduled(secondSession);
+    }
+
+    @Test
+    @DisplayName("전체 일정은 세션별 제한 구간에서 예외 시간대를 제외하고 서명됨")
+    void getSchedule_Full_SubtractsExceptionWindowAndSigns() {
+        // given
+        PhoneRestrictionException approved = PhoneRestrictionException.builder()
+                .id(100L)
+                .user(User.builder().id(1L).build())
+                .studySession(firstSession)
+                .status(PhoneRestrictionException.ExceptionStatus.APPROVED)
+                .exceptionStartTime(firstSession.getStartTime().plusMinutes(10))
+                .exceptionEndTime(firstSession.getStartTime().plusMinutes(20))
+                .build();
+        exceptionWindowIndex.put(approved);
+        restrictionTimelineIndex.exceptionChanged(approved);
+        when(studySessionRepository.findUserSessionsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(firstSession, secondSession));
+
+        // when
+        PhoneRestrictionExceptionDto.RestrictionSchedule schedule = restrictionScheduleService.getSchedule(1L, 24, null, null, null);
+
+        // then
+        assertThat(schedule.isFull()).isTrue();
+        assertThat(schedule.getEntries()).hasSize(2);
+        assertThat(schedule.getEntries().get(0).getIntervals()).hasSize(2);
+        assertThat(schedule.getEntries().get(1).getIntervals()).hasSize(1);
+        assertThat(schedule.getSignature()).isNotBlank();
+        assertThat(schedule.getVersion()).isEqualTo(restrictionTimelineIndex.currentVersion());
+    }
+
+    @Test
+    @DisplayName("since 이후에는 바뀐 세션과 제거된 세션만 반환")
+    void getSchedule_Delta_ReturnsChangesAndTombstones() {
+        // given
+        String epoch = restrictionTimelineIndex.getEpoch();
+        long since = restrictionTimelineIndex.currentVersion();
+        StudySession rescheduled = StudySession.builder()
+                .id(11L)
+                .studyGroup(secondSession.getStudyGroup())
+                .startTime(LocalDateTime.now().plusHours(5))
+                .endTime(LocalDateTime.now().plusHours(6))
+                .status(StudySession.SessionStatus.SCHEDULED)
+                .build();
+        restrictionTimelineIndex.sessionScheduled(rescheduled);
+        restrictionTimelineIndex.sessionRemoved(10L);
+        when(studySessionRepository.findUserSessionsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(rescheduled));
+        when(studyGroupMemberRepository.findActiveStudyGroupIdsByUserId(1L)).thenReturn(List.of(1L));
+
+        // when
+        PhoneRestrictionExceptionDto.RestrictionSchedule schedule = restrictionScheduleService.getSchedule(1L, 24, epoch, since, epochMilli(LocalDateTime.now().plusHours(24)));
+
+        // then
+        assertThat(schedule.isFull()).isFalse();
+        assertThat(schedule.getEntries()).extracting(PhoneRestrictionExceptionDto.ScheduleEntry::getSessionId)
+                .containsExactly(11L);
+        assertThat(schedule.getRemovedSessionIds()).containsExactly(10L);
+        assertThat(schedule.getVersion()).isGreaterThan(since);
+    }
+
+    @Test
+    @DisplayName("그룹 멤버십이 바뀐 사용자는 전체 일정을 받음")
+    void getSchedule_MembershipChanged_ReturnsFull() {
+        // given
+        String epoch = restrictionTimelineIndex.getEpoch();
+        long since = restrictionTimelineIndex.currentVersion();
+        restrictionTimelineIndex.membershipChanged(1L);
+        when(studySessionRepository.findUserSessionsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(firstSession, secondSession));
+
+        // when
+        PhoneRestrictionExceptionDto.RestrictionSchedule schedule = restrictionScheduleService.getSchedule(1L, null, epoch, since, epochMilli(LocalDateTime.now().plusHours(24)));
+
+        // then
+        assertThat(schedule.isFull()).isTrue();
+        assertThat(schedule.getEntries()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("바뀌지 않았어도 이전 일정의 유효 기간 이후로 이어지는 세션은 다시 반환")
+    void getSchedule_Delta_ReturnsSessionsBeyondPreviousWindow() {
+        // given
+        String epoch = restrictionTimelineIndex.getEpoch();
+        long since = restrictionTimelineIndex.currentVersion();
+        when(studySessionRepository.findUserSessionsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(firstSession, secondSession));
+        when(studyGroupMemberRepository.findActiveStudyGroupIdsByUserId(1L)).thenReturn(List.of(1L));
+
+        // when
+        PhoneRestrictionExceptionDto.RestrictionSchedule schedule = restrictionScheduleService.getSchedule(1L, 24, epoch, since,
+                epochMilli(LocalDateTime.now().plusHours(2).plusMinutes(30)));
+
+        // then
+        assertThat(schedule.isFull()).isFalse();
+        assertThat(schedule.getEntries()).extracting(PhoneRestrictionExceptionDto.ScheduleEntry::getSessionId)
+                .containsExactly(11L);
+        assertThat(schedule.getRemovedSessionIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이전 일정의 유효 기간 없이 since만 보내면 전체 일정을 받음")
+    void getSchedule_SinceWithoutValidUntil_ReturnsFull() {
+        // given
+        String epoch = restrictionTimelineIndex.getEpoch();
+        long since = restrictionTimelineIndex.currentVersion();
+        when(studySessionRepository.findUserSessionsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(firstSession, secondSession));
+
+        // when
+        PhoneRestrictionExceptionDto.RestrictionSchedule schedule = restrictionScheduleService.getSchedule(1L, 24, epoch, since, null);
+
+        // then
+        assertThat(schedule.isFull()).isTrue();
+        assertThat(schedule.getEntries()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드나 재시작 이전 기준의 since로는 변경분을 계산하지 않고 전체 일정을 반환")
+    void getSchedule_SinceFromOtherEpoch_ReturnsFull() {
+        // given
+        RestrictionTimelineIndex otherNodeIndex = new RestrictionTimelineIndex(studySessionRepository, exceptionWindowIndex);
+        // 이 노드에서도 유효한 버전 값이지만 다른 기준에서 받은 값
+        long since = restrictionTimelineIndex.currentVersion();
+        when(studySessionRepository.findUserSessionsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(firstSession, secondSession));
+
+        // when
+        PhoneRestrictionExceptionDto.RestrictionSchedule schedule = restrictionScheduleService.getSchedule(1L, 24,
+                otherNodeIndex.getEpoch(), since, epochMilli(LocalDateTime.now().plusHours(24)));
+
+        // then
+        assertThat(schedule.isFull()).isTrue();
+        assertThat(schedule.getEntries()).hasSize(2);
+        assertThat(schedule.getEpoch()).isEqualTo(restrictionTimelineIndex.getEpoch());
+    }
+
+    @Test
+    @DisplayName("최대 기간을 넘는 일정 요청은 거부")
+    void getSchedule_Fail_HoursOutOfRange() {
+        assertThatThrownBy(() -> restrictionScheduleService.getSchedule(1L, 1000, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long epochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,71 @@
+package com.dmt.app.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestrictionTimelineTest {
+
+    private LocalDateTime sessionStart;
+    private LocalDateTime sessionEnd;
+
+    @BeforeEach
+    void setUp() {
+        sessionStart = LocalDateTime.of(2025, 1, 1, 14, 0);
+        sessionEnd = sessionStart.plusHours(2);
+    }
+
+    private ExceptionWindowIndex.ExceptionWindow window(LocalDateTime start, LocalDateTime end) {
+        return new ExceptionWindowIndex.ExceptionWindow(1L, 1L, 10L, start, end);
+    }
+
+    @Test
+    @DisplayName("예외가 없으면 세션 시작부터 종료 시각까지 제한")
+    void of_WithoutExceptions_RestrictsWholeSession() {
+        // when
+        RestrictionTimeline timeline = RestrictionTimeline.of(sessionStart, sessionEnd, List.of());
+
+        // then
+        assertThat(timeline.isRestrictedAt(sessionStart.minusNanos(1))).isFalse();
+        assertThat(timeline.isRestrictedAt(sessionStart)).isTrue();
+        assertThat(timeline.isRestrictedAt(sessionEnd)).isTrue();
+        assertThat(timeline.isRestrictedAt(sessionEnd.plusNanos(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("예외 시간대는 제한 구간에서 제외되고 다음 변경 시각을 계산")
+    void of_SubtractsExceptionWindow() {
+        // given
+        LocalDateTime exceptionStart = sessionStart.plusMinutes(30);
+        LocalDateTime exceptionEnd = sessionStart.plusMinutes(60);
+
+        // when
+        RestrictionTimeline timeline = RestrictionTimeline.of(sessionStart, sessionEnd,
+                List.of(window(exceptionStart, exceptionEnd)));
+
+        // then
+        assertThat(timeline.isRestrictedAt(sessionStart.plusMinutes(10))).isTrue();
+        assertThat(timeline.isRestrictedAt(exceptionStart)).isFalse();
+        assertThat(timeline.isRestrictedAt(exceptionEnd)).isFalse();
+        assertThat(timeline.isRestrictedAt(exceptionEnd.plusNanos(1))).isTrue();
+        assertThat(timeline.nextChangeAfter(sessionStart.plusMinutes(10))).isEqualTo(exceptionStart);
+        assertThat(timeline.nextChangeAfter(exceptionStart)).isEqualTo(exceptionEnd.plusNanos(1));
+        assertThat(timeline.nextChangeAfter(sessionEnd.plusMinutes(1))).isNull();
+    }
+
+    @Test
+    @DisplayName("시간대가 없는 예외는 세션 전체를 제외")
+    void of_OpenWindowExemptsWholeSession() {
+        // when
+        RestrictionTimeline timeline = RestrictionTimeline.of(sessionStart, sessionEnd, List.of(window(null, null)));
+
+        // then
+        assertThat(timeline.isEmpty()).isTrue();
+        assertThat(timeline.isRestrictedAt(sessionStart.plusMinutes(30))).isFalse();
+    }
+}
@@ -0,0 +1,184 @@
+package com.dmt.app.service;
+
+import com.dmt.app.entity.Attendance;
+import com.dmt.app.entity.StudyGroup;
+import com.dmt.app.entity.StudyGroupMember;
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.entity.User;
+import com.dmt.app.repository.AttendanceRepository;
+import com.dmt.app.repository.StudyGroupMemberRepository;
+import com.dmt.app.repository.StudyGroupRepository;
+import com.dmt.app.repository.StudySessionRepository;
+import com.dmt.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 중단 동안 놓친 세션 복구 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SessionRecoveryServiceTest {
+
+    @Autowired
+    private SessionRecoveryService sessionRecoveryService;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @SpyBean
+    private StudySessionRepository studySessionRepository;
+
+    @Autowired
+    private StudyGroupRepository studyGroupRepository;
+
+    @Autowired
+    private StudyGroupMemberRepository studyGroupMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    private StudyGroup testStudyGroup;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        member = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .nickname("멤버")
+                .password("password")
+                .role(User.UserRole.USER)
+                .build());
+        testStudyGroup = studyGroupRepository.save(StudyGroup.builder()
+                .name("복구 테스트 그룹")
+                .minMembers(2)
+                .status(StudyGroup.StudyGroupStatus.ACTIVE)
+                .build());
+        studyGroupMemberRepository.save(StudyGroupMember.builder()
+                .user(member)
+                .studyGroup(testStudyGroup)
+                .role(StudyGroupMember.MemberRole.MEMBER)
+                .isActive(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("중단 동안 시작과 종료가 모두 지난 세션은 알림 없이 완료하고 결석 처리")
+    void recoverSessions_CompletesMissedSessionWithoutNotifications() {
+        // given
+        StudySession missed = session(StudySession.SessionStatus.SCHEDULED, LocalDateTime.now().minusHours(3));
+
+        // when
+        int recoveredCount = sessionRecoveryService.recoverSessions(missedInTestGroup());
+
+        // then
+        assertThat(recoveredCount).isEqualTo(1);
+        assertThat(studySessionRepository.findById(missed.getId())).get()
+                .satisfies(session -> {
+                    assertThat(session.getStatus()).isEqualTo(StudySession.SessionStatus.COMPLETED);
+                    assertThat(session.getCompletedAt()).isNotNull();
+                });
+        assertThat(attendanceRepository.findByUserIdAndStudySessionId(member.getId(), missed.getId()))
+                .get().extracting(Attendance::getStatus).isEqualTo(Attendance.AttendanceStatus.ABSENT);
+        triggerAfterCommit();
+        verify(notificationService, never()).notifySessionStart(any());
+        verify(notificationService, never()).notifySessionEnd(any());
+    }
+
+    @Test
+    @DisplayName("방금 끝난 진행 세션만 종료 알림 전송")
+    void recoverSessions_NotifiesOnlyRecentlyEndedSessions() {
+        // given
+        StudySession stale = session(StudySession.SessionStatus.IN_PROGRESS, LocalDateTime.now().minusHours(3));
+        StudySession recent = session(StudySession.SessionStatus.IN_PROGRESS, LocalDateTime.now().minusMinutes(61));
+
+        // when
+        int recoveredCount = sessionRecoveryService.recoverSessions(missedInTestGroup());
+
+        // then
+        assertThat(recoveredCount).isEqualTo(2);
+        verify(notificationService, never()).notifySessionEnd(any());
+        triggerAfterCommit();
+        verify(notificationService).notifySessionEnd(argThat(session -> session.getId().equals(recent.getId())));
+        verify(notificationService, never()).notifySessionEnd(argThat(session -> session.getId().equals(stale.getId())));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 완료한 세션은 복구 수와 종료 알림에서 제외")
+    void recoverSessions_NotifiesOnlySessionsThisCallCompleted() {
+        // given
+        StudySession completedHere = session(StudySession.SessionStatus.IN_PROGRESS, LocalDateTime.now().minusMinutes(61));
+        StudySession completedElsewhere = session(StudySession.SessionStatus.IN_PROGRESS, LocalDateTime.now().minusMinutes(62));
+        doReturn(0).when(studySessionRepository)
+                .completeMissedSessions(eq(List.of(completedElsewhere.getId())), any(LocalDateTime.class));
+
+        // when
+        int recoveredCount = sessionRecoveryService.recoverSessions(missedInTestGroup());
+
+        // then
+        assertThat(recoveredCount).isEqualTo(1);
+        triggerAfterCommit();
+        verify(notificationService).notifySessionEnd(argThat(session -> session.getId().equals(completedHere.getId())));
+        verify(notificationService, never())
+                .notifySessionEnd(argThat(session -> session.getId().equals(completedElsewhere.getId())));
+    }
+
+    @Test
+    @DisplayName("한 번에 찾는 놓친 세션 수를 제한하고 아직 끝나지 않은 세션은 제외")
+    void findMissedSessionsByGroup_IsBounded() {
+        // given
+        session(StudySession.SessionStatus.SCHEDULED, LocalDateTime.now().minusHours(5));
+        session(StudySession.SessionStatus.SCHEDULED, LocalDateTime.now().minusHours(4));
+        session(StudySession.SessionStatus.IN_PROGRESS, LocalDateTime.now().minusMinutes(10));
+
+        // when
+        Map<Long, List<Long>> missed = sessionRecoveryService.findMissedSessionsByGroup(1);
+
+        // then
+        assertThat(missed.values().stream().mapToInt(List::size).sum()).isEqualTo(1);
+    }
+
+    // 테스트 트랜잭션은 롤백되므로 커밋 후 콜백을 직접 실행
+    private static void triggerAfterCommit() {
+        TransactionSynchronizationUtils.triggerAfterCommit();
+    }
+
+    private List<Long> missedInTestGroup() {
+        return sessionRecoveryService.findMissedSessionsByGroup(100).getOrDefault(testStudyGroup.getId(), List.of());
+    }
+
+    private StudySession session(StudySession.SessionStatus status, LocalDateTime startTime) {
+        return studySessionRepository.save(StudySession.builder()
+                .studyGroup(testStudyGroup)
+                .sessionName("세션")
+                .startTime(startTime)
+                .endTime(startTime.plusHours(1))
+                .status(status)
+                .build());
+    }
+}
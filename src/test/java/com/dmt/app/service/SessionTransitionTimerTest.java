@@ -0,0 +1,121 @@
+package com.dmt.app.service;
+
+import com.dmt.app.entity.StudySession;
+import com.dmt.app.repository.StudySessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SessionTransitionTimerTest {
+
+    @Mock
+    private StudySessionRepository studySessionRepository;
+
+    @InjectMocks
+    private SessionTransitionTimer sessionTransitionTimer;
+
+    private BlockingQueue<SessionTransitionTimer.Transition> fired;
+
+    @BeforeEach
+    void setUp() {
+        fired = new LinkedBlockingQueue<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionTransitionTimer.stop();
+    }
+
+    private StudySession session(Long id, StudySession.SessionStatus status, LocalDateTime start, LocalDateTime end) {
+        return StudySession.builder()
+                .id(id)
+                .sessionName("테스트 세션")
+                .startTime(start)
+                .endTime(end)
+                .status(status)
+                .build();
+    }
+
+    @Test
+    @DisplayName("시작 시 기존 세션을 적재하고 시각이 되면 시작/종료 전환을 순서대로 실행")
+    void start_SeedsAndFiresTransitionsOnTime() throws InterruptedException {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        when(studySessionRepository.findByStatus(StudySession.SessionStatus.SCHEDULED))
+                .thenReturn(List.of(session(1L, StudySession.SessionStatus.SCHEDULED,
+                        now.plusNanos(100_000_000), now.plusNanos(300_000_000))));
+        when(studySessionRepository.findByStatus(StudySession.SessionStatus.IN_PROGRESS))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        sessionTransitionTimer.start(fired::addAll);
+
+        // then
+        SessionTransitionTimer.Transition first = fired.poll(2, TimeUnit.SECONDS);
+        SessionTransitionTimer.Transition second = fired.poll(2, TimeUnit.SECONDS);
+        assertThat(first).isNotNull();
+        assertThat(first.type()).isEqualTo(SessionTransitionTimer.TransitionType.START);
+        assertThat(second).isNotNull();
+        assertThat(second.type()).isEqualTo(SessionTransitionTimer.TransitionType.END);
+        assertThat(sessionTransitionTimer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("세션 수정/삭제 시 기존 전환을 교체하거나 제거")
+    void sessionScheduled_ReplacesAndRemovesTransitions() {
+        // given
+        LocalDateTime start = LocalDateTime.now().plusHours(1);
+        StudySession scheduled = session(1L, StudySession.SessionStatus.SCHEDULED, start, start.plusHours(1));
+        StudySession inProgress = session(1L, StudySession.SessionStatus.IN_PROGRESS, start, start.plusHours(2));
+
+        // when & then
+        sessionTransitionTimer.sessionScheduled(scheduled);
+        assertThat(sessionTransitionTimer.pendingCount()).isEqualTo(3);
+
+        sessionTransitionTimer.sessionScheduled(inProgress);
+        assertThat(sessionTransitionTimer.pendingCount()).isEqualTo(1);
+
+        sessionTransitionTimer.sessionRemoved(1L);
+        assertThat(sessionTransitionTimer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 초에 시작 5분 전이 되는 세션의 출석 알림을 한 묶음으로 전달")
+    void start_BatchesRemindersDueInSameSecond() throws InterruptedException {
+        // given
+        LocalDateTime start = LocalDateTime.now().plusMinutes(5).plusNanos(1_500_000_000L);
+        when(studySessionRepository.findByStatus(StudySession.SessionStatus.SCHEDULED))
+                .thenReturn(List.of(session(1L, StudySession.SessionStatus.SCHEDULED, start, start.plusHours(1)),
+                        session(2L, StudySession.SessionStatus.SCHEDULED, start, start.plusHours(1))));
+        when(studySessionRepository.findByStatus(StudySession.SessionStatus.IN_PROGRESS))
+                .thenReturn(Collections.emptyList());
+        BlockingQueue<List<SessionTransitionTimer.Transition>> batches = new LinkedBlockingQueue<>();
+
+        // when
+        sessionTransitionTimer.start(batches::add);
+
+        // then
+        List<SessionTransitionTimer.Transition> batch = batches.poll(3, TimeUnit.SECONDS);
+        assertThat(batch).isNotNull();
+        assertThat(batch).extracting(SessionTransitionTimer.Transition::type)
+                .containsOnly(SessionTransitionTimer.TransitionType.REMIND);
+        assertThat(batch).extracting(SessionTransitionTimer.Transition::sessionId)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+}
@@ -8,7 +8,6 @@ import com.dmt.app.entity.User;
 import com.dmt.app.repository.StudyGroupRepository;
 import com.dmt.app.repository.StudyGroupMemberRepository;
 import com.dmt.app.repository.StudySessionRepository;
-import com.dmt.app.repository.PhoneRestrictionExceptionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +15,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -25,6 +26,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,7 +43,13 @@ class StudySessionServiceTest {
     private StudyGroupMemberRepository studyGroupMemberRepository;
 
     @Mock
-    private PhoneRestrictionExceptionRepository phoneRestrictionExceptionRepository;
+    private RestrictionIndex restrictionIndex;
+
+    @Mock
+    private RestrictionTimelineIndex restrictionTimelineIndex;
+
+    @Mock
+    private SessionTransitionTimer sessionTransitionTimer;
 
     @Mock
     private NotificationService notificationService;
@@ -300,4 +309,197 @@ class StudySessionServiceTest {
 
         verify(studySessionRepository).findCurrentSessions(LocalDateTime.now());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("인덱스 초기화 전에는 참여 중인 세션만 조회하여 폰 사용 제한 확인")
+    void isPhoneRestricted_BeforeIndexReady_UsesParticipations() {
+        // given
+        StudySessionRepository.SessionParticipation exempt = mock(StudySessionRepository.SessionParticipation.class);
+        StudySessionRepository.SessionParticipation restricted = mock(StudySessionRepository.SessionParticipation.class);
+        when(exempt.isExemptAt(any(LocalDateTime.class))).thenReturn(true);
+        when(restricted.isExemptAt(any(LocalDateTime.class))).thenReturn(false);
+        when(restrictionIndex.isReady()).thenReturn(false);
+        when(studySessionRepository.findCurrentParticipations(eq(List.of(1L)), any(LocalDateTime.class)))
+                .thenReturn(List.of(exempt, restricted));
+        when(studySessionRepository.findCurrentParticipations(eq(List.of(2L)), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        // when & then
+        assertThat(studySessionService.isPhoneRestricted(1L)).isTrue();
+        assertThat(studySessionService.isPhoneRestricted(2L)).isFalse();
+        verify(studySessionRepository, never()).findCurrentSessions(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("인덱스 초기화 전에는 폰 사용 제한 상태 버전이 없음")
+    void getPhoneRestrictionVersion_BeforeIndexReady_Empty() {
+        // given
+        when(restrictionIndex.isReady()).thenReturn(false);
+
+        // when & then
+        assertThat(studySessionService.getPhoneRestrictionVersion(1L)).isEmpty();
+        verify(restrictionIndex, never()).getVersionTag(any());
+    }
+
+    @Test
+    @DisplayName("인덱스가 준비되면 기준을 포함한 폰 사용 제한 상태 버전 반환")
+    void getPhoneRestrictionVersion_IndexReady_ReturnsVersionTag() {
+        // given
+        when(restrictionIndex.isReady()).thenReturn(true);
+        when(restrictionIndex.getVersionTag(1L)).thenReturn("a-3");
+
+        // when & then
+        assertThat(studySessionService.getPhoneRestrictionVersion(1L)).contains("a-3");
+    }
+
+    @Test
+    @DisplayName("종료 시간이 지난 세션을 완료 처리하고 종료 알림 전송")
+    void completeEndedSessions_CompletesAndNotifies() {
+        // given
+        testStudySession.setStatus(StudySession.SessionStatus.IN_PROGRESS);
+        testStudySession.setEndTime(LocalDateTime.now().minusMinutes(1));
+        when(studySessionRepository.findAllById(List.of(testStudySession.getId()))).thenReturn(List.of(testStudySession));
+        when(studySessionRepository.completeSessions(eq(List.of(testStudySession.getId())), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        // when
+        int completedCount = studySessionService.completeEndedSessions(List.of(testStudySession.getId()));
+
+        // then
+        assertThat(completedCount).isEqualTo(1);
+        assertThat(testStudySession.getStatus()).isEqualTo(StudySession.SessionStatus.COMPLETED);
+        verify(restrictionIndex).sessionEnded(testStudySession.getId());
+        verify(notificationService).notifySessionEnd(testStudySession);
+        verify(studySessionRepository, never()).save(any(StudySession.class));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 완료한 세션은 종료 알림 없이 인덱스만 반영")
+    void completeEndedSessions_CompletedElsewhere_NotifiesOnlyOwnCompletions() {
+        // given
+        StudySession completedElsewhere = StudySession.builder()
+                .id(2L)
+                .studyGroup(testStudyGroup)
+                .sessionName("다른 인스턴스가 완료한 세션")
+                .startTime(LocalDateTime.now().minusHours(1))
+                .endTime(LocalDateTime.now().minusMinutes(1))
+                .status(StudySession.SessionStatus.IN_PROGRESS)
+                .build();
+        testStudySession.setStatus(StudySession.SessionStatus.IN_PROGRESS);
+        testStudySession.setEndTime(LocalDateTime.now().minusMinutes(1));
+        List<Long> sessionIds = List.of(testStudySession.getId(), completedElsewhere.getId());
+        when(studySessionRepository.findAllById(sessionIds)).thenReturn(List.of(testStudySession, completedElsewhere));
+        when(studySessionRepository.completeSessions(eq(List.of(testStudySession.getId())), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(studySessionRepository.completeSessions(eq(List.of(completedElsewhere.getId())), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        // when
+        int completedCount = studySessionService.completeEndedSessions(sessionIds);
+
+        // then
+        assertThat(completedCount).isEqualTo(1);
+        verify(restrictionIndex).sessionEnded(testStudySession.getId());
+        verify(restrictionIndex).sessionEnded(completedElsewhere.getId());
+        verify(notificationService).notifySessionEnd(testStudySession);
+        verify(notificationService, never()).notifySessionEnd(completedElsewhere);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 시작한 세션은 알림 없이 인덱스만 반영")
+    void startSession_TransitionLost_UpdatesIndexWithoutNotification() {
+        // given
+        StudySession startedElsewhere = StudySession.builder()
+                .id(testStudySession.getId())
+                .studyGroup(testStudyGroup)
+                .sessionName(testStudySession.getSessionName())
+                .startTime(LocalDateTime.now().minusMinutes(1))
+                .endTime(LocalDateTime.now().plusHours(1))
+                .status(StudySession.SessionStatus.IN_PROGRESS)
+                .build();
+        testStudySession.setStartTime(startedElsewhere.getStartTime());
+        testStudySession.setEndTime(startedElsewhere.getEndTime());
+        testStudySession.setStatus(StudySession.SessionStatus.SCHEDULED);
+        when(studySessionRepository.findById(testStudySession.getId()))
+                .thenReturn(Optional.of(testStudySession), Optional.of(startedElsewhere));
+        when(studySessionRepository.transitionStatus(eq(testStudySession.getId()), eq(StudySession.SessionStatus.SCHEDULED),
+                eq(StudySession.SessionStatus.IN_PROGRESS), any(LocalDateTime.class))).thenReturn(0);
+
+        // when
+        studySessionService.startSession(testStudySession.getId());
+
+        // then
+        verify(restrictionIndex).sessionStarted(testStudySession);
+        verify(sessionTransitionTimer).sessionScheduled(testStudySession);
+        verify(notificationService, never()).notifySessionStart(any(StudySession.class));
+        verify(studySessionRepository, never()).save(any(StudySession.class));
+    }
+
+    @Test
+    @DisplayName("세션 시작 알림은 트랜잭션이 커밋된 뒤에만 전송")
+    void startSessions_NotifiesAfterCommit() {
+        // given
+        testStudySession.setStartTime(LocalDateTime.now().minusMinutes(1));
+        testStudySession.setEndTime(LocalDateTime.now().plusHours(1));
+        testStudySession.setStatus(StudySession.SessionStatus.SCHEDULED);
+        when(studySessionRepository.findAllById(List.of(testStudySession.getId()))).thenReturn(List.of(testStudySession));
+        when(studySessionRepository.transitionStatus(eq(testStudySession.getId()), eq(StudySession.SessionStatus.SCHEDULED),
+                eq(StudySession.SessionStatus.IN_PROGRESS), any(LocalDateTime.class))).thenReturn(1);
+
+        // when & then
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(studySessionService.startSessions(List.of(testStudySession.getId()))).isEqualTo(1);
+            verify(notificationService, never()).notifySessionStart(any(StudySession.class));
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(notificationService).notifySessionStart(testStudySession);
+    }
+
+    @Test
+    @DisplayName("같은 초에 알림 시각이 된 세션들의 멤버를 한 번에 조회하여 출석 알림 전송")
+    void sendAttendanceReminders_LoadsMembersOnce() {
+        // given
+        StudyGroup otherGroup = StudyGroup.builder()
+                .id(2L)
+                .name("다른 스터디 그룹")
+                .status(StudyGroup.StudyGroupStatus.ACTIVE)
+                .build();
+        StudySession otherSession = StudySession.builder()
+                .id(2L)
+                .studyGroup(otherGroup)
+                .sessionName("다른 세션")
+                .status(StudySession.SessionStatus.SCHEDULED)
+                .build();
+        testStudySession.setStatus(StudySession.SessionStatus.SCHEDULED);
+        when(studySessionRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(testStudySession, otherSession));
+        when(studySessionRepository.claimReminder(anyLong(), any(LocalDateTime.class))).thenReturn(1);
+        when(studyGroupMemberRepository.findActiveMembersByStudyGroupIds(any())).thenReturn(List.of(testMember));
+
+        // when
+        studySessionService.sendAttendanceReminders(List.of(1L, 2L));
+
+        // then
+        verify(studyGroupMemberRepository, times(1)).findActiveMembersByStudyGroupIds(any());
+        verify(notificationService).notifyAttendanceReminder(testStudySession, List.of(testMember));
+        verify(notificationService).notifyAttendanceReminder(otherSession, List.of());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 알림 시각을 기록한 세션은 알림을 보내지 않음")
+    void sendAttendanceReminders_SkipsSessionsClaimedElsewhere() {
+        // given
+        testStudySession.setStatus(StudySession.SessionStatus.SCHEDULED);
+        when(studySessionRepository.findAllById(List.of(1L))).thenReturn(List.of(testStudySession));
+        when(studySessionRepository.claimReminder(eq(1L), any(LocalDateTime.class))).thenReturn(0);
+
+        // when
+        studySessionService.sendAttendanceReminders(List.of(1L));
+
+        // then
+        verify(studyGroupMemberRepository, never()).findActiveMembersByStudyGroupIds(any());
+        verify(notificationService, never()).notifyAttendanceReminder(any(), any());
+    }
+}